@@ -0,0 +1,49 @@
+package org.folio.search.benchmark;
+
+import static org.folio.search.sample.SampleInstances.getSemanticWebAsMap;
+import static org.folio.search.utils.TestUtils.readJsonFromFile;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.folio.search.model.metadata.ResourceDescription;
+import org.folio.search.sample.SampleInstances;
+
+/**
+ * Benchmark fixtures built from the {@link SampleInstances} test data.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class BenchmarkSamples {
+
+  static ResourceDescription instanceResourceDescription() {
+    return readJsonFromFile("/model/instance.json", ResourceDescription.class);
+  }
+
+  /**
+   * Returns a copy of the sample instance with the given number of holdings and items, copied from the sample ones
+   * with new ids.
+   */
+  static Map<String, Object> sampleInstance(int holdings, int items) {
+    var sample = getSemanticWebAsMap();
+    var instance = new LinkedHashMap<>(sample);
+    instance.put("holdings", copies(sample.get("holdings"), holdings));
+    instance.put("items", copies(sample.get("items"), items));
+    return instance;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static List<Map<String, Object>> copies(Object samples, int count) {
+    var sampleList = (List<Map<String, Object>>) samples;
+    var result = new ArrayList<Map<String, Object>>(count);
+    for (int i = 0; i < count; i++) {
+      var copy = new LinkedHashMap<>(sampleList.get(i % sampleList.size()));
+      copy.put("id", UUID.randomUUID().toString());
+      result.add(copy);
+    }
+    return result;
+  }
+}
@@ -0,0 +1,184 @@
+package org.folio.search.benchmark;
+
+import static java.util.Locale.ROOT;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.apache.commons.lang3.RegExUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.folio.search.cql.SuDocCallNumber;
+import org.folio.search.utils.CallNumberUtils;
+import org.marc4j.callnum.DeweyCallNumber;
+import org.marc4j.callnum.LCCallNumber;
+import org.marc4j.callnum.NlmCallNumber;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares {@link CallNumberUtils} normalization and long encoding with the previous string-based implementation,
+ * on LC, Dewey, NLM and SuDoc call numbers and their shelving orders. Allocation rate is visible with
+ * {@code -prof gc}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CallNumberUtilsBenchmark {
+
+  private static final Pattern NORMALIZE_REGEX = Pattern.compile("[^a-z0-9]");
+
+  private static final List<String> LC_CALL_NUMBERS = List.of(
+    "HD1691 .I5 1967", "QA76.73.J38 B58 2018", "PS3545.I345 Z46 1986", "KF4550 .A2 1987", "E184.A1 T35 1993",
+    "PR6068.O93 Z46 2000", "BF575.H27 W55 2012", "DA880.O6 J18", "TK5105.875.I57 C67 2009", "ML410.B4 T5 1967");
+  private static final List<String> DEWEY_CALL_NUMBERS = List.of(
+    "302.55", "813.54 H281t", "004.6 T255c 2011", "971.004 97 B887", "641.5945 B39", "530.12 F421L v.3",
+    "153.4 K15t", "909.07 W927 1992", "616.8553 M385", "780.92 B415ko");
+  private static final List<String> NLM_CALL_NUMBERS = List.of(
+    "QS 11 .GA1 E53 2005", "QS 124 B811m 1875", "QT 104 B736 2003", "WA 102.5 B62 2018", "WB 102.5 B62 2018",
+    "WC 250 M56 2011", "W1 JO69 v.12", "QV 55 G291 2006", "WG 120 H436 2014", "QZ 200 C2165 2010");
+  private static final List<String> SUDOC_CALL_NUMBERS = List.of(
+    "T22.19:M54/990", "I 19.3:1234-A", "Y 4.F 76/1:T 27/2", "HE 20.3152:C 76/2011", "A 13.2:T 73/4",
+    "C 3.134:2010", "D 101.22:25-3", "EP 1.23:600/R-93/047", "GA 1.13:RCED-98-175", "PREX 2.8:2004");
+
+  private List<String> callNumbers;
+  private List<String> shelvingOrders;
+  private List<String[]> callNumberComponents;
+
+  @Setup
+  public void setUp() {
+    callNumbers = Stream.of(LC_CALL_NUMBERS, DEWEY_CALL_NUMBERS, NLM_CALL_NUMBERS, SUDOC_CALL_NUMBERS)
+      .flatMap(List::stream)
+      .toList();
+
+    shelvingOrders = new ArrayList<>();
+    LC_CALL_NUMBERS.forEach(cn -> shelvingOrders.add(new LCCallNumber(cn).getShelfKey()));
+    DEWEY_CALL_NUMBERS.forEach(cn -> shelvingOrders.add(new DeweyCallNumber(cn).getShelfKey()));
+    NLM_CALL_NUMBERS.forEach(cn -> shelvingOrders.add(new NlmCallNumber(cn).getShelfKey()));
+    SUDOC_CALL_NUMBERS.forEach(cn -> shelvingOrders.add(new SuDocCallNumber(cn).getShelfKey()));
+
+    callNumberComponents = new ArrayList<>();
+    for (int i = 0; i < callNumbers.size(); i++) {
+      var prefix = i % 3 == 0 ? "Oversize" : null;
+      var suffix = i % 4 == 0 ? "c.2" : null;
+      callNumberComponents.add(new String[] {prefix, callNumbers.get(i), suffix});
+    }
+
+    verifyEquivalence();
+  }
+
+  @Benchmark
+  public void normalizeEffectiveShelvingOrder(Blackhole blackhole) {
+    for (var shelvingOrder : shelvingOrders) {
+      blackhole.consume(CallNumberUtils.normalizeEffectiveShelvingOrder(shelvingOrder));
+    }
+  }
+
+  @Benchmark
+  public void normalizeEffectiveShelvingOrder_legacy(Blackhole blackhole) {
+    for (var shelvingOrder : shelvingOrders) {
+      blackhole.consume(legacyNormalizeEffectiveShelvingOrder(shelvingOrder));
+    }
+  }
+
+  @Benchmark
+  public void normalizeRawCallNumber(Blackhole blackhole) {
+    for (var callNumber : callNumbers) {
+      blackhole.consume(CallNumberUtils.normalizeEffectiveShelvingOrder(callNumber));
+    }
+  }
+
+  @Benchmark
+  public void normalizeRawCallNumber_legacy(Blackhole blackhole) {
+    for (var callNumber : callNumbers) {
+      blackhole.consume(legacyNormalizeEffectiveShelvingOrder(callNumber));
+    }
+  }
+
+  @Benchmark
+  public void normalizeCallNumberComponents(Blackhole blackhole) {
+    for (var components : callNumberComponents) {
+      blackhole.consume(CallNumberUtils.normalizeCallNumberComponents(components));
+    }
+  }
+
+  @Benchmark
+  public void normalizeCallNumberComponents_legacy(Blackhole blackhole) {
+    for (var components : callNumberComponents) {
+      blackhole.consume(legacyNormalizeCallNumberComponents(components));
+    }
+  }
+
+  @Benchmark
+  public void getCallNumberAsLong(Blackhole blackhole) {
+    for (var shelvingOrder : shelvingOrders) {
+      blackhole.consume(CallNumberUtils.getCallNumberAsLong(shelvingOrder));
+    }
+  }
+
+  @Benchmark
+  public void getCallNumberAsLong_legacy(Blackhole blackhole) {
+    for (var shelvingOrder : shelvingOrders) {
+      blackhole.consume(legacyCallNumberToLong(shelvingOrder));
+    }
+  }
+
+  private void verifyEquivalence() {
+    for (var value : Stream.concat(callNumbers.stream(), shelvingOrders.stream()).toList()) {
+      if (!CallNumberUtils.normalizeEffectiveShelvingOrder(value).equals(legacyNormalizeEffectiveShelvingOrder(value))
+        || CallNumberUtils.getCallNumberAsLong(value) != legacyCallNumberToLong(value)) {
+        throw new IllegalStateException("CallNumberUtils result differs from the legacy one: " + value);
+      }
+    }
+    for (var components : callNumberComponents) {
+      if (!CallNumberUtils.normalizeCallNumberComponents(components)
+        .equals(legacyNormalizeCallNumberComponents(components))) {
+        throw new IllegalStateException("CallNumberUtils result differs from the legacy one: " + components[1]);
+      }
+    }
+  }
+
+  private static String legacyNormalizeEffectiveShelvingOrder(String effectiveShelvingOrder) {
+    if (effectiveShelvingOrder == null) {
+      return "";
+    }
+
+    var string = effectiveShelvingOrder.toUpperCase(ROOT);
+    var stringBuilder = new StringBuilder();
+    for (int i = 0; i < string.length(); i++) {
+      var character = string.charAt(i);
+      stringBuilder.append(CallNumberUtils.isSupportedCharacter(character) ? character : ' ');
+    }
+
+    return stringBuilder.toString().trim();
+  }
+
+  private static String legacyNormalizeCallNumberComponents(String... callNumberValues) {
+    return Stream.of(callNumberValues)
+      .map(s -> RegExUtils.removeAll(StringUtils.lowerCase(s), NORMALIZE_REGEX))
+      .filter(StringUtils::isNotBlank)
+      .collect(Collectors.joining(""));
+  }
+
+  private static long legacyCallNumberToLong(String callNumber) {
+    var normalizedCallNumber = legacyNormalizeEffectiveShelvingOrder(callNumber);
+    var cleanCallNumber = normalizedCallNumber.substring(0, Math.min(10, normalizedCallNumber.length()));
+    if (StringUtils.isBlank(cleanCallNumber)) {
+      return 0L;
+    }
+    long result = 0L;
+    for (int i = 0; i < cleanCallNumber.length(); i++) {
+      var characterValue = CallNumberUtils.getIntValue(cleanCallNumber.charAt(i), 0);
+      result += characterValue * (long) Math.pow(52, 10d - i);
+    }
+    return result;
+  }
+}
@@ -0,0 +1,212 @@
+package org.folio.search.benchmark;
+
+import static org.folio.search.utils.TestUtils.OBJECT_MAPPER;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.folio.search.configuration.properties.SearchCacheConfigurationProperties;
+import org.folio.search.cql.CqlQueryParser;
+import org.folio.search.cql.CqlSearchQueryConverter;
+import org.folio.search.cql.CqlTermQueryConverter;
+import org.folio.search.cql.FacetQueryBuilder;
+import org.folio.search.cql.SearchQueryCache;
+import org.folio.search.integration.ReferenceDataService;
+import org.folio.search.model.service.CqlFacetRequest;
+import org.folio.search.service.consortium.ConsortiumSearchHelper;
+import org.folio.search.service.consortium.ConsortiumTenantService;
+import org.folio.search.service.lccn.LccnNormalizer;
+import org.folio.search.service.metadata.LocalFileProvider;
+import org.folio.search.service.metadata.LocalResourceProvider;
+import org.folio.search.service.metadata.LocalSearchFieldProvider;
+import org.folio.search.service.setter.FieldProcessor;
+import org.folio.search.service.setter.authority.AuthoritySearchResponsePostProcessor;
+import org.folio.search.utils.JsonConverter;
+import org.folio.spring.FolioExecutionContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.opensearch.index.query.QueryBuilder;
+import org.opensearch.search.aggregations.AggregationBuilder;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.ComponentScan.Filter;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.z3950.zing.cql.CQLBooleanNode;
+import org.z3950.zing.cql.CQLNode;
+import org.z3950.zing.cql.CQLSortNode;
+import org.z3950.zing.cql.CQLTermNode;
+
+/**
+ * Measures the translation of the instance CQL queries to the OpenSearch search source: full conversion, conversion
+ * with the consortium active affiliation filter, single term query conversion and facet aggregations.
+ *
+ * <p>Throughput is reported per query type, with and without the translated query cache, allocation rate is visible
+ * with {@code -prof gc}. Query converters are the production beans, while the consortium tenant service and execution
+ * context are stub-only mocks, so the consortium benchmark is executed for a member tenant.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class CqlQueryTranslationBenchmark {
+
+  private static final String RESOURCE_NAME = "instance";
+  private static final String MEMBER_TENANT_ID = "member";
+  private static final String CENTRAL_TENANT_ID = "central";
+  private static final List<String> FACETS = List.of(
+    "source", "languages", "instanceTypeId", "items.effectiveLocationId:10", "holdings.permanentLocationId");
+  private static final Map<String, String> QUERIES = Map.of(
+    "keyword", "keyword all \"semantic web primer\"",
+    "wildcard", "title = \"semantic web prim*\"",
+    "isbn", "isbn = \"978-0-262-01242-3\"",
+    "lccn", "lccn = \"n 2003075402\"",
+    "oclc", "oclc = \"(OCoLC)ocm00012345\"",
+    "callNumber", "callNumber == \"QA76.76.H94 A58 2012\"",
+    "sort", "(title all \"semantic web\" and languages = (\"eng\" or \"ger\")) sortby title",
+    "facet", "keyword all \"semantic web\" and source == \"MARC\" and languages = (\"eng\" or \"ger\")");
+
+  @Param({"keyword", "wildcard", "isbn", "lccn", "oclc", "callNumber", "sort", "facet"})
+  private String queryType;
+
+  @Param({"true", "false"})
+  private boolean queryCacheEnabled;
+
+  private AnnotationConfigApplicationContext applicationContext;
+  private CqlSearchQueryConverter cqlSearchQueryConverter;
+  private CqlTermQueryConverter cqlTermQueryConverter;
+  private FacetQueryBuilder facetQueryBuilder;
+  private ConsortiumSearchHelper consortiumSearchHelper;
+  private String query;
+  private CQLTermNode termNode;
+  private QueryBuilder convertedQuery;
+  private CqlFacetRequest facetRequest;
+
+  @Setup
+  public void setUp() {
+    applicationContext = new AnnotationConfigApplicationContext();
+    applicationContext.register(BenchmarkContextConfiguration.class);
+    applicationContext.registerBean(SearchQueryCache.class, () -> searchQueryCache(queryCacheEnabled));
+    applicationContext.refresh();
+    cqlSearchQueryConverter = applicationContext.getBean(CqlSearchQueryConverter.class);
+    cqlTermQueryConverter = applicationContext.getBean(CqlTermQueryConverter.class);
+    facetQueryBuilder = applicationContext.getBean(FacetQueryBuilder.class);
+    consortiumSearchHelper = applicationContext.getBean(ConsortiumSearchHelper.class);
+
+    query = QUERIES.get(queryType);
+    termNode = getFirstTermNode(applicationContext.getBean(CqlQueryParser.class).parseCqlQuery(query, RESOURCE_NAME));
+    convertedQuery = convert().query();
+    facetRequest = CqlFacetRequest.of(RESOURCE_NAME, MEMBER_TENANT_ID, query, FACETS);
+    if (convertedQuery == null || getFacetAggregations().isEmpty()) {
+      throw new IllegalStateException("Failed to translate query: " + query);
+    }
+  }
+
+  @TearDown
+  public void tearDown() {
+    applicationContext.close();
+  }
+
+  @Benchmark
+  public SearchSourceBuilder convert() {
+    return cqlSearchQueryConverter.convert(query, RESOURCE_NAME);
+  }
+
+  @Benchmark
+  public SearchSourceBuilder convertForConsortia() {
+    return cqlSearchQueryConverter.convertForConsortia(query, RESOURCE_NAME, false);
+  }
+
+  @Benchmark
+  public QueryBuilder getTermQuery() {
+    return cqlTermQueryConverter.getQuery(termNode, RESOURCE_NAME);
+  }
+
+  @Benchmark
+  public QueryBuilder filterQueryForActiveAffiliation() {
+    return consortiumSearchHelper.filterQueryForActiveAffiliation(convertedQuery, MEMBER_TENANT_ID,
+      CENTRAL_TENANT_ID, RESOURCE_NAME);
+  }
+
+  @Benchmark
+  public List<AggregationBuilder> getFacetAggregations() {
+    return facetQueryBuilder.getFacetAggregations(facetRequest, convertedQuery);
+  }
+
+  private static SearchQueryCache searchQueryCache(boolean enabled) {
+    if (enabled) {
+      return new SearchQueryCache(new SearchCacheConfigurationProperties());
+    }
+
+    var searchQueryCache = mock(SearchQueryCache.class, withSettings().stubOnly());
+    when(searchQueryCache.get(any(), any(), any(), anyBoolean(), any()))
+      .thenAnswer(invocation -> invocation.<Supplier<SearchSourceBuilder>>getArgument(4).get());
+    return searchQueryCache;
+  }
+
+  private static CQLTermNode getFirstTermNode(CQLNode node) {
+    if (node instanceof CQLSortNode sortNode) {
+      return getFirstTermNode(sortNode.getSubtree());
+    }
+    if (node instanceof CQLBooleanNode booleanNode) {
+      return getFirstTermNode(booleanNode.getLeftOperand());
+    }
+    return (CQLTermNode) node;
+  }
+
+  @Configuration
+  @Import({JsonConverter.class, LocalFileProvider.class, LocalSearchFieldProvider.class, ConsortiumSearchHelper.class})
+  @ComponentScan(basePackageClasses = {CqlQueryParser.class, FieldProcessor.class, LccnNormalizer.class},
+                 excludeFilters = @Filter(type = FilterType.ASSIGNABLE_TYPE,
+                                          classes = {AuthoritySearchResponsePostProcessor.class,
+                                                     SearchQueryCache.class}))
+  static class BenchmarkContextConfiguration {
+
+    @Bean
+    ObjectMapper objectMapper() {
+      return OBJECT_MAPPER;
+    }
+
+    @Bean
+    LocalResourceProvider localResourceProvider(JsonConverter jsonConverter, LocalFileProvider localFileProvider) {
+      return new LocalResourceProvider(jsonConverter, localFileProvider, new PathMatchingResourcePatternResolver());
+    }
+
+    @Bean
+    ReferenceDataService referenceDataService() {
+      return mock(ReferenceDataService.class, withSettings().stubOnly());
+    }
+
+    @Bean
+    FolioExecutionContext folioExecutionContext() {
+      var folioExecutionContext = mock(FolioExecutionContext.class, withSettings().stubOnly());
+      when(folioExecutionContext.getTenantId()).thenReturn(MEMBER_TENANT_ID);
+      return folioExecutionContext;
+    }
+
+    @Bean
+    ConsortiumTenantService consortiumTenantService() {
+      var consortiumTenantService = mock(ConsortiumTenantService.class, withSettings().stubOnly());
+      when(consortiumTenantService.getCentralTenant(any())).thenReturn(Optional.of(CENTRAL_TENANT_ID));
+      return consortiumTenantService;
+    }
+  }
+}
@@ -0,0 +1,134 @@
+package org.folio.search.benchmark;
+
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.singletonMap;
+import static org.folio.search.benchmark.BenchmarkSamples.instanceResourceDescription;
+import static org.folio.search.benchmark.BenchmarkSamples.sampleInstance;
+import static org.folio.search.utils.CollectionUtils.nullIfEmpty;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.collections4.MapUtils;
+import org.folio.search.domain.dto.ResourceEvent;
+import org.folio.search.model.converter.ConversionContext;
+import org.folio.search.model.metadata.FieldDescription;
+import org.folio.search.model.metadata.ObjectFieldDescription;
+import org.folio.search.model.metadata.PlainFieldDescription;
+import org.folio.search.model.metadata.ResourceDescription;
+import org.folio.search.service.converter.ResourceConversionPlan;
+import org.folio.search.utils.SearchUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compares the precompiled {@link ResourceConversionPlan} with the field description walker, that was used by
+ * {@link org.folio.search.service.converter.SearchDocumentConverter} before, on the sample instance with the given
+ * number of holdings and items.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DocumentConversionPlanBenchmark {
+
+  @Param({"10", "50"})
+  private int holdings;
+
+  @Param({"100", "500"})
+  private int items;
+
+  private Map<String, Object> instance;
+  private ResourceDescription resourceDescription;
+  private ResourceConversionPlan conversionPlan;
+  private ConversionContext context;
+
+  @Setup
+  public void setUp() {
+    resourceDescription = instanceResourceDescription();
+    conversionPlan = ResourceConversionPlan.compile(resourceDescription.getFields());
+    instance = sampleInstance(holdings, items);
+
+    var event = new ResourceEvent().resourceName("instance").tenant("benchmark")._new(instance);
+    context = ConversionContext.of(event, resourceDescription, List.of("eng"), "benchmark");
+    if (!convert_walker().equals(convert_conversionPlan())) {
+      throw new IllegalStateException("Conversion plan result differs from the walker result");
+    }
+  }
+
+  @Benchmark
+  public Map<String, Object> convert_walker() {
+    return convertMapUsingResourceFields(instance, resourceDescription.getFields(), context);
+  }
+
+  @Benchmark
+  public Map<String, Object> convert_conversionPlan() {
+    return conversionPlan.convert(instance, context);
+  }
+
+  private static Map<String, Object> convertMapUsingResourceFields(
+    Map<String, Object> data, Map<String, FieldDescription> fields, ConversionContext ctx) {
+    var resultMap = new LinkedHashMap<String, Object>();
+    fields.entrySet().forEach(entry -> resultMap.putAll(getFieldValue(data, entry, ctx)));
+    return nullIfEmpty(resultMap);
+  }
+
+  private static Map<String, Object> getFieldValue(
+    Map<String, Object> data, Entry<String, FieldDescription> descEntry, ConversionContext ctx) {
+    var fieldDescription = descEntry.getValue();
+    if (fieldDescription instanceof PlainFieldDescription) {
+      return getPlainFieldValue(data, descEntry, ctx);
+    }
+
+    var objectFieldDescription = (ObjectFieldDescription) fieldDescription;
+    var fieldName = descEntry.getKey();
+    var value = getObjectFieldValue(data.get(fieldName), objectFieldDescription.getProperties(), ctx);
+    return value != null ? Map.of(fieldName, value) : emptyMap();
+  }
+
+  private static Map<String, Object> getPlainFieldValue(Map<String, Object> fieldData,
+                                                        Entry<String, FieldDescription> fieldEntry,
+                                                        ConversionContext ctx) {
+    var fieldName = fieldEntry.getKey();
+    var desc = (PlainFieldDescription) fieldEntry.getValue();
+    if (desc.isNotIndexed()) {
+      return emptyMap();
+    }
+
+    if (desc.isTenantField()) {
+      return singletonMap(fieldName, ctx.getTenantId());
+    }
+
+    var plainFieldValue = MapUtils.getObject(fieldData, fieldName, desc.getDefaultValue());
+    if (plainFieldValue == null) {
+      return emptyMap();
+    }
+
+    return SearchUtils.getPlainFieldValue(desc, fieldName, plainFieldValue, ctx.getLanguages());
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Object getObjectFieldValue(
+    Object value, Map<String, FieldDescription> subfields, ConversionContext ctx) {
+    if (value instanceof Map) {
+      return convertMapUsingResourceFields((Map<String, Object>) value, subfields, ctx);
+    }
+
+    if (value instanceof List) {
+      return ((List<Object>) value).stream()
+        .map(listValue -> getObjectFieldValue(listValue, subfields, ctx))
+        .filter(Objects::nonNull)
+        .toList();
+    }
+
+    return null;
+  }
+}
@@ -0,0 +1,313 @@
+package org.folio.search.benchmark;
+
+import static org.folio.search.benchmark.BenchmarkSamples.sampleInstance;
+import static org.folio.search.utils.CollectionUtils.mergeSafely;
+import static org.folio.search.utils.TestUtils.OBJECT_MAPPER;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import org.folio.search.configuration.properties.SearchConfigurationProperties;
+import org.folio.search.configuration.properties.SearchConfigurationProperties.IndexingSettings;
+import org.folio.search.cql.ItemSearchFieldModifier;
+import org.folio.search.domain.dto.ResourceEvent;
+import org.folio.search.domain.dto.ResourceEventType;
+import org.folio.search.integration.ReferenceDataService;
+import org.folio.search.model.converter.ConversionContext;
+import org.folio.search.model.converter.FieldProcessorContext;
+import org.folio.search.model.index.SearchDocumentBody;
+import org.folio.search.model.types.IndexingDataFormat;
+import org.folio.search.repository.classification.InstanceClassificationRepository;
+import org.folio.search.service.FeatureConfigService;
+import org.folio.search.service.consortium.ConsortiumTenantService;
+import org.folio.search.service.consortium.FeatureConfigServiceDecorator;
+import org.folio.search.service.consortium.LanguageConfigServiceDecorator;
+import org.folio.search.service.converter.ResourceConversionPlan;
+import org.folio.search.service.converter.SearchDocumentConverter;
+import org.folio.search.service.converter.SearchFieldsProcessor;
+import org.folio.search.service.converter.preprocessor.InstanceEventPreProcessor;
+import org.folio.search.service.lccn.LccnNormalizer;
+import org.folio.search.service.metadata.LocalFileProvider;
+import org.folio.search.service.metadata.LocalResourceProvider;
+import org.folio.search.service.metadata.LocalSearchFieldProvider;
+import org.folio.search.service.metadata.ResourceDescriptionService;
+import org.folio.search.service.setter.FieldProcessor;
+import org.folio.search.service.setter.authority.AuthoritySearchResponsePostProcessor;
+import org.folio.search.utils.JsonConverter;
+import org.folio.search.utils.SearchDocumentBodyWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.ComponentScan.Filter;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+
+/**
+ * Measures the stages of the instance indexing pipeline on the sample instance with the given number of holdings and
+ * items: event pre-processing, document conversion, search fields and the single field processors, and JSON/SMILE
+ * document body writing.
+ *
+ * <p>Resource descriptions and field processors are the production beans, while the reference data, feature and
+ * consortium services and the classification repository are stub-only mocks, so neither OpenSearch, Kafka nor the
+ * database are involved.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class IndexingPipelineBenchmark {
+
+  private static final String TENANT_ID = "benchmark";
+  private static final String RESOURCE_NAME = "instance";
+  private static final Set<String> REFERENCE_DATA_FIELDS = Set.of(
+    "identifierTypeId", "alternativeTitleTypeId", "callNumberTypeId", "itemLevelCallNumberTypeId", "typeId");
+
+  @Param({"10"})
+  private int holdings;
+
+  @Param({"100"})
+  private int items;
+
+  @Param({"true", "false"})
+  private boolean streamingDocumentWriting;
+
+  private AnnotationConfigApplicationContext applicationContext;
+  private ResourceEvent event;
+  private ConversionContext conversionContext;
+  private Map<String, Object> documentFields;
+  private SearchFieldsProcessor searchFieldsProcessor;
+  private InstanceEventPreProcessor instanceEventPreProcessor;
+  private SearchDocumentConverter jsonDocumentConverter;
+  private SearchDocumentConverter smileDocumentConverter;
+  private SearchDocumentBodyWriter jsonBodyWriter;
+  private SearchDocumentBodyWriter smileBodyWriter;
+
+  @Setup
+  public void setUp() throws IOException {
+    applicationContext = new AnnotationConfigApplicationContext(BenchmarkContextConfiguration.class);
+    searchFieldsProcessor = applicationContext.getBean(SearchFieldsProcessor.class);
+    instanceEventPreProcessor = applicationContext.getBean(InstanceEventPreProcessor.class);
+
+    var objectMapper = applicationContext.getBean(ObjectMapper.class);
+    jsonBodyWriter = new SearchDocumentBodyWriter(objectMapper);
+    smileBodyWriter = new SearchDocumentBodyWriter(new SmileMapper());
+    jsonDocumentConverter = documentConverter(IndexingDataFormat.JSON, jsonBodyWriter::write);
+    smileDocumentConverter = documentConverter(IndexingDataFormat.SMILE, smileBodyWriter::write);
+
+    event = instanceEvent(holdings, items);
+    var resourceDescription = applicationContext.getBean(ResourceDescriptionService.class).get(RESOURCE_NAME);
+    conversionContext = ConversionContext.of(event, resourceDescription, List.of("eng"), TENANT_ID);
+    documentFields = mergeSafely(
+      ResourceConversionPlan.compile(resourceDescription.getFields()).convert(instanceData(event), conversionContext),
+      searchFieldsProcessor.getSearchFields(conversionContext));
+
+    verifyDocumentBodies(objectMapper);
+  }
+
+  @TearDown
+  public void tearDown() {
+    applicationContext.close();
+  }
+
+  @Benchmark
+  public List<ResourceEvent> preProcess() {
+    return instanceEventPreProcessor.preProcess(event);
+  }
+
+  @Benchmark
+  public Map<String, Object> getSearchFields() {
+    return searchFieldsProcessor.getSearchFields(conversionContext);
+  }
+
+  @Benchmark
+  public SearchDocumentBody convert_json() {
+    return jsonDocumentConverter.convert(event).orElseThrow();
+  }
+
+  @Benchmark
+  public SearchDocumentBody convert_smile() {
+    return smileDocumentConverter.convert(event).orElseThrow();
+  }
+
+  @Benchmark
+  public BytesReference writeBody_json() {
+    return jsonBodyWriter.write(documentFields);
+  }
+
+  @Benchmark
+  public BytesReference writeBody_smile() {
+    return smileBodyWriter.write(documentFields);
+  }
+
+  @Benchmark
+  public Object fieldProcessor(FieldProcessorState state) {
+    return state.getFieldValue();
+  }
+
+  private SearchDocumentConverter documentConverter(IndexingDataFormat dataFormat,
+                                                    Function<Map<String, Object>, BytesReference> bodyConverter) {
+    var indexingSettings = new IndexingSettings();
+    indexingSettings.setDataFormat(dataFormat);
+    indexingSettings.setStreamingDocumentWriting(streamingDocumentWriting);
+    var searchConfigurationProperties = new SearchConfigurationProperties();
+    searchConfigurationProperties.setIndexing(indexingSettings);
+
+    var languageConfigService = mock(LanguageConfigServiceDecorator.class, withSettings().stubOnly());
+    when(languageConfigService.getAllLanguageCodes()).thenReturn(Set.of("eng"));
+
+    var converter = new SearchDocumentConverter(searchFieldsProcessor, languageConfigService,
+      applicationContext.getBean(ResourceDescriptionService.class), searchConfigurationProperties, bodyConverter);
+    converter.init();
+    return converter;
+  }
+
+  private void verifyDocumentBodies(ObjectMapper objectMapper) throws IOException {
+    var jsonBody = convert_json().getDocumentBody();
+    var smileBody = convert_smile().getDocumentBody();
+    var expected = objectMapper.valueToTree(documentFields);
+    if (!expected.equals(objectMapper.readTree(BytesReference.toBytes(jsonBody)))
+      || !expected.equals(new SmileMapper().readTree(BytesReference.toBytes(smileBody)))) {
+      throw new IllegalStateException("JSON and SMILE document bodies differ from the converted document");
+    }
+  }
+
+  private static ResourceEvent instanceEvent(int holdings, int items) {
+    var instance = sampleInstance(holdings, items);
+    return new ResourceEvent().id(String.valueOf(instance.get("id"))).type(ResourceEventType.CREATE)
+      .resourceName(RESOURCE_NAME).tenant(TENANT_ID)._new(instance);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Map<String, Object> instanceData(ResourceEvent event) {
+    return (Map<String, Object>) event.getNew();
+  }
+
+  private static void collectReferenceDataIds(Object value, Set<String> result) {
+    if (value instanceof Map<?, ?> map) {
+      map.forEach((key, fieldValue) -> {
+        if (REFERENCE_DATA_FIELDS.contains(key) && fieldValue instanceof String id) {
+          result.add(id);
+        } else {
+          collectReferenceDataIds(fieldValue, result);
+        }
+      });
+    } else if (value instanceof Collection<?> collection) {
+      collection.forEach(collectionValue -> collectReferenceDataIds(collectionValue, result));
+    }
+  }
+
+  /**
+   * Calls a single field processor the same way as {@link SearchFieldsProcessor} does: with the typed resource
+   * object or raw resource data, depending on the processor generic type, and a new processor context per resource.
+   */
+  @State(Scope.Benchmark)
+  public static class FieldProcessorState {
+
+    @Param({"instanceAllFieldValuesProcessor", "isbnProcessor", "sortContributorsProcessor",
+            "itemEffectiveShelvingOrderProcessor", "holdingsNormalizedCallNumbersProcessor"})
+    private String processorName;
+
+    private FieldProcessor<Object, ?> fieldProcessor;
+    private Map<String, Object> data;
+    private Object resource;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setUp(IndexingPipelineBenchmark benchmark) {
+      var applicationContext = benchmark.applicationContext;
+      fieldProcessor = applicationContext.getBean(processorName, FieldProcessor.class);
+      data = instanceData(benchmark.event);
+
+      var resourceClass = ResolvableType.forClass(FieldProcessor.class, fieldProcessor.getClass()).resolveGeneric(0);
+      resource = resourceClass == null || Map.class.isAssignableFrom(resourceClass)
+        ? data
+        : applicationContext.getBean(JsonConverter.class).convert(data, resourceClass);
+    }
+
+    Object getFieldValue() {
+      return fieldProcessor.getFieldValue(resource, FieldProcessorContext.of(data, resource));
+    }
+  }
+
+  @Configuration
+  @Import({JsonConverter.class, LocalFileProvider.class, LocalSearchFieldProvider.class, ItemSearchFieldModifier.class,
+           ResourceDescriptionService.class, SearchFieldsProcessor.class, InstanceEventPreProcessor.class})
+  @ComponentScan(basePackageClasses = {FieldProcessor.class, LccnNormalizer.class},
+                 excludeFilters = @Filter(type = FilterType.ASSIGNABLE_TYPE,
+                                          classes = AuthoritySearchResponsePostProcessor.class))
+  static class BenchmarkContextConfiguration {
+
+    @Bean
+    ObjectMapper objectMapper() {
+      return OBJECT_MAPPER;
+    }
+
+    @Bean
+    MeterRegistry meterRegistry() {
+      return new SimpleMeterRegistry();
+    }
+
+    @Bean
+    LocalResourceProvider localResourceProvider(JsonConverter jsonConverter, LocalFileProvider localFileProvider) {
+      return new LocalResourceProvider(jsonConverter, localFileProvider, new PathMatchingResourcePatternResolver());
+    }
+
+    @Bean
+    ReferenceDataService referenceDataService() {
+      var referenceDataIds = new HashSet<String>();
+      collectReferenceDataIds(instanceData(instanceEvent(1, 1)), referenceDataIds);
+      var referenceDataService = mock(ReferenceDataService.class, withSettings().stubOnly());
+      when(referenceDataService.fetchReferenceData(any(), any(), any())).thenReturn(referenceDataIds);
+      return referenceDataService;
+    }
+
+    @Bean
+    FeatureConfigServiceDecorator featureConfigServiceDecorator() {
+      var featureConfigService = mock(FeatureConfigServiceDecorator.class, withSettings().stubOnly());
+      when(featureConfigService.isEnabled(any())).thenReturn(true);
+      return featureConfigService;
+    }
+
+    @Bean
+    FeatureConfigService featureConfigService() {
+      var featureConfigService = mock(FeatureConfigService.class, withSettings().stubOnly());
+      when(featureConfigService.isEnabled(any())).thenReturn(true);
+      return featureConfigService;
+    }
+
+    @Bean
+    ConsortiumTenantService consortiumTenantService() {
+      return mock(ConsortiumTenantService.class, withSettings().stubOnly());
+    }
+
+    @Bean
+    InstanceClassificationRepository instanceClassificationRepository() {
+      return mock(InstanceClassificationRepository.class, withSettings().stubOnly());
+    }
+  }
+}
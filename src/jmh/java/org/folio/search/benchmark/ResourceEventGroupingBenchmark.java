@@ -0,0 +1,107 @@
+package org.folio.search.benchmark;
+
+import static java.util.stream.Collectors.flatMapping;
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toSet;
+import static org.folio.search.utils.CollectionUtils.filterByKey;
+import static org.folio.search.utils.CollectionUtils.mergeByMappedKey;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.folio.search.domain.dto.ResourceEvent;
+import org.folio.search.domain.dto.ResourceEventType;
+import org.folio.search.utils.SearchUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compares stream-based grouping of resource events with the {@link org.folio.search.utils.CollectionUtils} helpers
+ * used by {@link org.folio.search.service.ResourceService}, allocation rate is visible with {@code -prof gc}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ResourceEventGroupingBenchmark {
+
+  private static final List<String> RESOURCES = List.of("instance", "holdings", "item", "authority");
+
+  @Param({"200"})
+  private int batchSize;
+
+  @Param({"3"})
+  private int tenants;
+
+  private List<ResourceEvent> events;
+  private Set<String> existingIndices;
+  private Map<String, List<ResourceEvent>> indexEvents;
+  private Map<String, List<ResourceEvent>> deleteEvents;
+
+  @Setup
+  public void setUp() {
+    events = new ArrayList<>(batchSize);
+    for (int i = 0; i < batchSize; i++) {
+      events.add(new ResourceEvent()
+        .id(UUID.randomUUID().toString())
+        .resourceName(RESOURCES.get(i % RESOURCES.size()))
+        .tenant("tenant" + i % tenants)
+        .type(i % 10 == 0 ? ResourceEventType.DELETE : ResourceEventType.UPDATE));
+    }
+
+    existingIndices = events.stream().map(SearchUtils::getIndexName).filter(name -> !name.contains("authority"))
+      .collect(toSet());
+    var eventsByType = events.stream().collect(groupingBy(ResourceEvent::getType));
+    indexEvents = eventsByType.get(ResourceEventType.UPDATE).stream()
+      .collect(groupingBy(ResourceEvent::getResourceName));
+    deleteEvents = eventsByType.get(ResourceEventType.DELETE).stream()
+      .collect(groupingBy(ResourceEvent::getResourceName));
+  }
+
+  @Benchmark
+  public List<ResourceEvent> filterExisting_streams() {
+    var esIndices = events.stream().map(SearchUtils::getIndexName).collect(toSet());
+    var existing = esIndices.stream().filter(existingIndices::contains).collect(toSet());
+    var result = new ArrayList<ResourceEvent>();
+    for (var event : events) {
+      if (existing.contains(SearchUtils.getIndexName(event))) {
+        result.add(event);
+      }
+    }
+    return result;
+  }
+
+  @Benchmark
+  public List<ResourceEvent> filterExisting_byResourceTenant() {
+    return filterByKey(events, event -> List.of(event.getResourceName(), event.getTenant()),
+      event -> existingIndices.contains(SearchUtils.getIndexName(event)), event -> { });
+  }
+
+  @Benchmark
+  public Map<String, List<ResourceEvent>> mergeByRepository_streams() {
+    var merged = new HashMap<String, List<ResourceEvent>>();
+    indexEvents.forEach((key, value) -> merged.computeIfAbsent(key, v -> new ArrayList<>()).addAll(value));
+    deleteEvents.forEach((key, value) -> merged.computeIfAbsent(key, v -> new ArrayList<>()).addAll(value));
+    return merged.entrySet().stream().collect(groupingBy(
+      entry -> getRepositoryName(entry.getKey()), flatMapping(entry -> entry.getValue().stream(), toList())));
+  }
+
+  @Benchmark
+  public Map<String, List<ResourceEvent>> mergeByRepository_mergeByMappedKey() {
+    return mergeByMappedKey(ResourceEventGroupingBenchmark::getRepositoryName, indexEvents, deleteEvents);
+  }
+
+  private static String getRepositoryName(String resource) {
+    return "instance".equals(resource) ? "primary" : resource;
+  }
+}
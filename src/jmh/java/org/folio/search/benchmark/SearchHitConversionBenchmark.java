@@ -0,0 +1,112 @@
+package org.folio.search.benchmark;
+
+import static java.util.Collections.emptyMap;
+import static org.folio.search.benchmark.BenchmarkSamples.instanceResourceDescription;
+import static org.folio.search.benchmark.BenchmarkSamples.sampleInstance;
+import static org.folio.search.utils.TestUtils.OBJECT_MAPPER;
+import static org.folio.search.utils.TestUtils.SMILE_MAPPER;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.apache.lucene.search.TotalHits;
+import org.apache.lucene.search.TotalHits.Relation;
+import org.folio.search.domain.dto.Instance;
+import org.folio.search.domain.dto.ResourceEvent;
+import org.folio.search.model.SearchResult;
+import org.folio.search.model.converter.ConversionContext;
+import org.folio.search.service.converter.ElasticsearchDocumentConverter;
+import org.folio.search.service.converter.ResourceConversionPlan;
+import org.folio.search.service.converter.SearchHitSourceReader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.search.SearchHit;
+import org.opensearch.search.SearchHits;
+
+/**
+ * Compares the conversion of instance search hits by {@link ElasticsearchDocumentConverter} with the source bound
+ * directly from the search hit bytes by {@link SearchHitSourceReader} and with the previous source map path, on the
+ * page of sample instance documents with holdings and items, as returned for {@code expandAll=true} requests.
+ *
+ * <p>New search hits are created on each invocation, because {@link SearchHit#getSourceAsMap()} caches the parsed
+ * source.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SearchHitConversionBenchmark {
+
+  @Param({"100"})
+  private int hits;
+
+  @Param({"json", "smile"})
+  private String sourceFormat;
+
+  private List<BytesReference> sources;
+  private SearchResponse searchResponse;
+  private ElasticsearchDocumentConverter documentConverter;
+  private ElasticsearchDocumentConverter sourceMapDocumentConverter;
+
+  @Setup
+  public void setUp() throws IOException {
+    documentConverter = new ElasticsearchDocumentConverter(OBJECT_MAPPER, new SearchHitSourceReader(OBJECT_MAPPER));
+    sourceMapDocumentConverter = new ElasticsearchDocumentConverter(OBJECT_MAPPER,
+      mock(SearchHitSourceReader.class, withSettings().stubOnly()));
+
+    var resourceDescription = instanceResourceDescription();
+    var conversionPlan = ResourceConversionPlan.compile(resourceDescription.getFields());
+    var mapper = "smile".equals(sourceFormat) ? SMILE_MAPPER : OBJECT_MAPPER;
+
+    sources = new ArrayList<>(hits);
+    for (int i = 0; i < hits; i++) {
+      var instance = sampleInstance(3, 10);
+      instance.put("id", UUID.randomUUID().toString());
+      var event = new ResourceEvent().resourceName("instance").tenant("benchmark")._new(instance);
+      var context = ConversionContext.of(event, resourceDescription, List.of("eng"), "benchmark");
+      var document = conversionPlan.convert(instance, context);
+      sources.add(new BytesArray(mapper.writeValueAsBytes(document)));
+    }
+
+    searchResponse = mock(SearchResponse.class, withSettings().stubOnly());
+    when(searchResponse.getHits()).thenAnswer(invocation -> searchHits());
+
+    var expected = convert_sourceMap().getRecords();
+    var actual = convert_sourceRef().getRecords();
+    if (expected.size() != hits || expected.get(0).getTitle() == null || !expected.equals(actual)) {
+      throw new IllegalStateException("Search hit source conversion differs from the source map conversion");
+    }
+  }
+
+  @Benchmark
+  public SearchResult<Instance> convert_sourceRef() {
+    return documentConverter.convertToSearchResult(searchResponse, Instance.class);
+  }
+
+  @Benchmark
+  public SearchResult<Instance> convert_sourceMap() {
+    return sourceMapDocumentConverter.convertToSearchResult(searchResponse, Instance.class);
+  }
+
+  private SearchHits searchHits() {
+    var searchHits = new SearchHit[sources.size()];
+    for (int i = 0; i < searchHits.length; i++) {
+      searchHits[i] = new SearchHit(i, String.valueOf(i), emptyMap(), emptyMap()).sourceRef(sources.get(i));
+    }
+    return new SearchHits(searchHits, new TotalHits(searchHits.length, Relation.EQUAL_TO), 1.0f);
+  }
+
+}
@@ -7,6 +7,7 @@ import static org.folio.search.utils.SearchUtils.IS_BOUND_WITH_FIELD_NAME;
 import static org.springframework.http.MediaType.APPLICATION_OCTET_STREAM_VALUE;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import feign.Request;
 import java.util.List;
 import java.util.Map;
 import lombok.AllArgsConstructor;
@@ -35,6 +36,18 @@ public interface InventoryViewClient {
   @GetMapping(path = "/instances", consumes = APPLICATION_OCTET_STREAM_VALUE)
   ResultList<InstanceView> getInstances(@RequestParam("query") CqlQuery cql, @RequestParam("limit") int limit);
 
+  /**
+   * Retrieves resources by ids from inventory service using the given request options.
+   *
+   * @param cql     - CQL query
+   * @param limit   - limit of resources to fetch
+   * @param options - request options, overriding connect and read timeouts of the client for this call
+   * @return {@link ResultList} with Instance objects inside.
+   */
+  @GetMapping(path = "/instances", consumes = APPLICATION_OCTET_STREAM_VALUE)
+  ResultList<InstanceView> getInstances(@RequestParam("query") CqlQuery cql, @RequestParam("limit") int limit,
+                                        Request.Options options);
+
   @Data
   @AllArgsConstructor
   @NoArgsConstructor
@@ -1,13 +1,18 @@
 package org.folio.search.configuration;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
 import lombok.RequiredArgsConstructor;
+import org.folio.search.configuration.properties.DocumentConversionProperties;
+import org.folio.search.configuration.properties.EventProcessingProperties;
+import org.folio.search.configuration.properties.ResourceFetchProperties;
 import org.folio.search.configuration.properties.StreamIdsProperties;
 import org.folio.spring.scope.FolioExecutionScopeExecutionContextManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 
 @EnableAsync
 @Configuration
@@ -15,6 +20,9 @@ import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 public class AsyncConfig {
 
   private final StreamIdsProperties streamIdsProperties;
+  private final EventProcessingProperties eventProcessingProperties;
+  private final ResourceFetchProperties resourceFetchProperties;
+  private final DocumentConversionProperties documentConversionProperties;
 
   @Bean("streamIdsExecutor")
   public Executor streamIdsExecutor() {
@@ -27,5 +35,52 @@ public class AsyncConfig {
     executor.initialize();
     return executor;
   }
-}
 
+  @Bean("tenantBatchExecutor")
+  public Executor tenantBatchExecutor() {
+    var tenantParallelism = eventProcessingProperties.getTenantParallelism();
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(tenantParallelism.getPoolSize());
+    executor.setMaxPoolSize(tenantParallelism.getPoolSize());
+    executor.setQueueCapacity(tenantParallelism.getQueueCapacity());
+    executor.setThreadNamePrefix("TenantBatch-");
+    executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+    executor.initialize();
+    return executor;
+  }
+
+  @Bean("resourceFetchExecutor")
+  public Executor resourceFetchExecutor() {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(resourceFetchProperties.getPoolSize());
+    executor.setMaxPoolSize(resourceFetchProperties.getPoolSize());
+    executor.setQueueCapacity(resourceFetchProperties.getQueueCapacity());
+    executor.setThreadNamePrefix("ResourceFetch-");
+    executor.setTaskDecorator(FolioExecutionScopeExecutionContextManager::getRunnableWithCurrentFolioContext);
+    executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+    executor.initialize();
+    return executor;
+  }
+
+  @Bean("documentConversionExecutor")
+  public Executor documentConversionExecutor() {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(documentConversionProperties.getPoolSize());
+    executor.setMaxPoolSize(documentConversionProperties.getPoolSize());
+    executor.setQueueCapacity(documentConversionProperties.getQueueCapacity());
+    executor.setThreadNamePrefix("DocumentConversion-");
+    executor.setTaskDecorator(FolioExecutionScopeExecutionContextManager::getRunnableWithCurrentFolioContext);
+    executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+    executor.initialize();
+    return executor;
+  }
+
+  @Bean("instanceEventCoalescingScheduler")
+  public ThreadPoolTaskScheduler instanceEventCoalescingScheduler() {
+    ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+    scheduler.setPoolSize(eventProcessingProperties.getCoalescing().getPoolSize());
+    scheduler.setThreadNamePrefix("InstanceEventCoalescing-");
+    scheduler.initialize();
+    return scheduler;
+  }
+}
@@ -1,10 +1,17 @@
 package org.folio.search.configuration;
 
+import static org.folio.search.cql.SearchQueryCache.SEARCH_QUERY_CACHE_NAME;
+import static org.folio.search.utils.ShelfKeyCache.SHELF_KEY_CACHE_NAME;
+
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import java.util.List;
 import org.folio.search.configuration.properties.SearchCacheConfigurationProperties;
+import org.folio.search.cql.SearchQueryCache;
 import org.folio.search.model.service.CallNumberBrowseRangeValue;
+import org.folio.search.utils.ShelfKeyCache;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -21,4 +28,26 @@ public class CacheConfiguration {
     SearchCacheConfigurationProperties configuration) {
     return Caffeine.from(configuration.getCallNumberBrowseRangesCacheSpec()).build();
   }
+
+  /**
+   * Binds hit/miss and eviction metrics of the call-number shelf keys cache.
+   *
+   * @param shelfKeyCache - {@link ShelfKeyCache} bean
+   * @return created {@link MeterBinder} bean
+   */
+  @Bean
+  public MeterBinder shelfKeyCacheMetrics(ShelfKeyCache shelfKeyCache) {
+    return registry -> CaffeineCacheMetrics.monitor(registry, shelfKeyCache.getCache(), SHELF_KEY_CACHE_NAME);
+  }
+
+  /**
+   * Binds hit/miss and eviction metrics of the translated search queries cache.
+   *
+   * @param searchQueryCache - {@link SearchQueryCache} bean
+   * @return created {@link MeterBinder} bean
+   */
+  @Bean
+  public MeterBinder searchQueryCacheMetrics(SearchQueryCache searchQueryCache) {
+    return registry -> CaffeineCacheMetrics.monitor(registry, searchQueryCache.getCache(), SEARCH_QUERY_CACHE_NAME);
+  }
 }
@@ -2,7 +2,9 @@ package org.folio.search.configuration;
 
 import static org.apache.kafka.clients.consumer.ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG;
 import static org.apache.kafka.clients.consumer.ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG;
+import static org.apache.kafka.clients.producer.ProducerConfig.BATCH_SIZE_CONFIG;
 import static org.apache.kafka.clients.producer.ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG;
+import static org.apache.kafka.clients.producer.ProducerConfig.LINGER_MS_CONFIG;
 import static org.apache.kafka.clients.producer.ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG;
 import static org.folio.search.configuration.KafkaConfiguration.SearchTopic.CONSORTIUM_INSTANCE;
 
@@ -12,7 +14,10 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.apache.kafka.common.serialization.StringDeserializer;
 import org.apache.kafka.common.serialization.StringSerializer;
+import org.folio.search.configuration.properties.EventProcessingProperties;
+import org.folio.search.configuration.properties.EventProducerProperties;
 import org.folio.search.domain.dto.ResourceEvent;
+import org.folio.search.integration.InstanceResourceEventDeserializer;
 import org.folio.search.integration.interceptor.CompositeRecordFilterStrategy;
 import org.folio.search.model.event.ConsortiumInstanceEvent;
 import org.folio.spring.config.properties.FolioEnvironment;
@@ -54,12 +59,28 @@ public class KafkaConfiguration {
   public ConcurrentKafkaListenerContainerFactory<String, ResourceEvent> standardListenerContainerFactory(
     RecordFilterStrategy<String, ResourceEvent>[] recordFilterStrategies,
     BatchInterceptor<String, ResourceEvent>[] batchInterceptors) {
-    var factory = new ConcurrentKafkaListenerContainerFactory<String, ResourceEvent>();
-    factory.setBatchListener(true);
-    factory.setConsumerFactory(resourceEventConsumerFactory());
-    factory.setRecordFilterStrategy(new CompositeRecordFilterStrategy<>(recordFilterStrategies));
-    factory.setBatchInterceptor(new CompositeBatchInterceptor<>(batchInterceptors));
-    return factory;
+    return getResourceEventContainerFactory(resourceEventConsumerFactory(),
+      recordFilterStrategies, batchInterceptors);
+  }
+
+  /**
+   * Creates and configures {@link ConcurrentKafkaListenerContainerFactory} as Spring bean for consuming instance,
+   * holding and item events, that are indexed by instance id.
+   *
+   * <p>If lightweight deserialization is enabled, event payloads are not deserialized except the id fields, see
+   * {@link InstanceResourceEventDeserializer}.</p>
+   *
+   * @return {@link ConcurrentKafkaListenerContainerFactory} object as Spring bean.
+   */
+  @Bean
+  public ConcurrentKafkaListenerContainerFactory<String, ResourceEvent> instanceEventListenerContainerFactory(
+    RecordFilterStrategy<String, ResourceEvent>[] recordFilterStrategies,
+    BatchInterceptor<String, ResourceEvent>[] batchInterceptors,
+    EventProcessingProperties eventProcessingProperties) {
+    var consumerFactory = eventProcessingProperties.isLightweightDeserialization()
+                          ? instanceEventConsumerFactory()
+                          : resourceEventConsumerFactory();
+    return getResourceEventContainerFactory(consumerFactory, recordFilterStrategies, batchInterceptors);
   }
 
   @Bean
@@ -86,6 +107,22 @@ public class KafkaConfiguration {
     return new DefaultKafkaConsumerFactory<>(config, new StringDeserializer(), deserializer);
   }
 
+  /**
+   * Creates and configures {@link ConsumerFactory} with {@link InstanceResourceEventDeserializer} as Spring bean.
+   *
+   * <p>Key type - {@link String}, value - {@link ResourceEvent}.</p>
+   *
+   * @return typed {@link ConsumerFactory} object as Spring bean.
+   */
+  @Bean
+  public ConsumerFactory<String, ResourceEvent> instanceEventConsumerFactory() {
+    var deserializer = new InstanceResourceEventDeserializer();
+    Map<String, Object> config = new HashMap<>(kafkaProperties.buildConsumerProperties(null));
+    config.put(KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+    config.put(VALUE_DESERIALIZER_CLASS_CONFIG, deserializer);
+    return new DefaultKafkaConsumerFactory<>(config, new StringDeserializer(), deserializer);
+  }
+
   @Bean
   public ConsumerFactory<String, ConsortiumInstanceEvent> consortiumEventConsumerFactory() {
     var deserializer = new JsonDeserializer<>(ConsortiumInstanceEvent.class);
@@ -100,11 +137,16 @@ public class KafkaConfiguration {
    *
    * <p>Key type - {@link String}, value - {@link ResourceEvent}.</p>
    *
+   * <p>Linger and batch size are tuned for contributor and subject events, which are sent in bursts for each
+   * batch of instances.</p>
+   *
    * @return typed {@link ProducerFactory} object as Spring bean.
    */
   @Bean
-  public ProducerFactory<String, ResourceEvent> producerFactory() {
-    return getProducerFactory();
+  public ProducerFactory<String, ResourceEvent> producerFactory(EventProducerProperties eventProducerProperties) {
+    return getProducerFactory(Map.of(
+      LINGER_MS_CONFIG, eventProducerProperties.getLingerMs(),
+      BATCH_SIZE_CONFIG, eventProducerProperties.getBatchSize()));
   }
 
   /**
@@ -121,7 +163,7 @@ public class KafkaConfiguration {
 
   @Bean
   public ProducerFactory<String, ConsortiumInstanceEvent> consortiumProducerFactory() {
-    return getProducerFactory();
+    return getProducerFactory(Map.of());
   }
 
   @Bean
@@ -138,8 +180,21 @@ public class KafkaConfiguration {
     return producer;
   }
 
-  private <T> ProducerFactory<String, T> getProducerFactory() {
+  private static ConcurrentKafkaListenerContainerFactory<String, ResourceEvent> getResourceEventContainerFactory(
+    ConsumerFactory<String, ResourceEvent> consumerFactory,
+    RecordFilterStrategy<String, ResourceEvent>[] recordFilterStrategies,
+    BatchInterceptor<String, ResourceEvent>[] batchInterceptors) {
+    var factory = new ConcurrentKafkaListenerContainerFactory<String, ResourceEvent>();
+    factory.setBatchListener(true);
+    factory.setConsumerFactory(consumerFactory);
+    factory.setRecordFilterStrategy(new CompositeRecordFilterStrategy<>(recordFilterStrategies));
+    factory.setBatchInterceptor(new CompositeBatchInterceptor<>(batchInterceptors));
+    return factory;
+  }
+
+  private <T> ProducerFactory<String, T> getProducerFactory(Map<String, Object> additionalProps) {
     Map<String, Object> configProps = new HashMap<>(kafkaProperties.buildProducerProperties(null));
+    configProps.putAll(additionalProps);
     configProps.put(KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
     configProps.put(VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
     return new DefaultKafkaProducerFactory<>(configProps);
@@ -1,8 +1,12 @@
 package org.folio.search.configuration.opensearch;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
 import java.util.Map;
 import java.util.function.Function;
+import org.folio.search.configuration.properties.SearchConfigurationProperties;
 import org.folio.search.utils.JsonConverter;
+import org.folio.search.utils.SearchDocumentBodyWriter;
 import org.folio.search.utils.SmileConverter;
 import org.opensearch.core.common.bytes.BytesReference;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -14,13 +18,21 @@ public class SearchDocumentBodyConverterConfig {
 
   @Bean
   @ConditionalOnProperty(prefix = "folio.search-config.indexing", name = "data-format", havingValue = "json")
-  public Function<Map<String, Object>, BytesReference> jsonSearchDocumentBodyConverter(JsonConverter jsonConverter) {
+  public Function<Map<String, Object>, BytesReference> jsonSearchDocumentBodyConverter(
+    JsonConverter jsonConverter, ObjectMapper objectMapper, SearchConfigurationProperties searchConfigProperties) {
+    if (searchConfigProperties.getIndexing().isStreamingDocumentWriting()) {
+      return new SearchDocumentBodyWriter(objectMapper)::write;
+    }
     return jsonConverter::toJsonBytes;
   }
 
   @Bean
   @ConditionalOnProperty(prefix = "folio.search-config.indexing", name = "data-format", havingValue = "smile")
-  public Function<Map<String, Object>, BytesReference> smileSearchDocumentBodyConverter(SmileConverter smileConverter) {
+  public Function<Map<String, Object>, BytesReference> smileSearchDocumentBodyConverter(
+    SmileConverter smileConverter, SearchConfigurationProperties searchConfigProperties) {
+    if (searchConfigProperties.getIndexing().isStreamingDocumentWriting()) {
+      return new SearchDocumentBodyWriter(new SmileMapper())::write;
+    }
     return smileConverter::toSmile;
   }
 }
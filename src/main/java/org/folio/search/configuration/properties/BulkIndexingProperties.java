@@ -0,0 +1,76 @@
+package org.folio.search.configuration.properties;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Min;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+@Data
+@Validated
+@Configuration
+@ConfigurationProperties("folio.bulk-indexing")
+public class BulkIndexingProperties {
+
+  /**
+   * Defines if bulk requests for different indexing repositories of a single batch must be sent concurrently
+   * without blocking on each response.
+   */
+  private boolean asyncEnabled = false;
+
+  /**
+   * The maximum number of actions in a single bulk request, larger requests are split into several bulks.
+   */
+  @Min(1)
+  private int maxActions = 1_000;
+
+  /**
+   * The maximum size of document bodies in a single bulk request in bytes, larger requests are split into several
+   * bulks.
+   */
+  @Min(1)
+  private long maxBytes = 10_485_760L;
+
+  /**
+   * The maximum number of split bulk requests sent to elasticsearch at the same time.
+   */
+  @Min(1)
+  private int concurrency = 2;
+
+  /**
+   * Settings for re-submitting bulk items rejected by elasticsearch with retryable failure.
+   */
+  @Valid
+  private Retry retry = new Retry();
+
+  @Data
+  @Validated
+  public static class Retry {
+
+    /**
+     * How many times retryable failed bulk items are re-submitted, 0 disables re-submitting.
+     */
+    @Min(0)
+    private int attempts = 3;
+
+    /**
+     * Specifies time to wait before the first re-submitting of failed bulk items.
+     */
+    @Min(0)
+    private long initialBackoffMs = 200;
+
+    /**
+     * The maximum time to wait before re-submitting of failed bulk items.
+     */
+    @Min(0)
+    private long maxBackoffMs = 5_000;
+
+    /**
+     * Multiplier of the wait time for each next attempt.
+     */
+    @DecimalMin("1.0")
+    private double multiplier = 2.0;
+  }
+}
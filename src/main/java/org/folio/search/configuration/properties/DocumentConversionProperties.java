@@ -0,0 +1,37 @@
+package org.folio.search.configuration.properties;
+
+import jakarta.validation.constraints.Min;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+@Data
+@Validated
+@Configuration
+@ConfigurationProperties("folio.document-conversion")
+public class DocumentConversionProperties {
+
+  /**
+   * Defines if resource events of a single batch must be converted to search documents concurrently.
+   */
+  private boolean parallelEnabled = false;
+
+  /**
+   * ThreadPoolExecutor's core and max pool size, limits the number of event chunks converted at the same time.
+   */
+  @Min(1)
+  private int poolSize = 4;
+
+  /**
+   * LinkedBlockingQueue capacity for the ThreadPoolExecutor, tasks are executed by the caller when it is full.
+   */
+  @Min(0)
+  private int queueCapacity = 100;
+
+  /**
+   * The number of resource events converted by a single task, smaller batches are converted by the calling thread.
+   */
+  @Min(1)
+  private int chunkSize = 25;
+}
@@ -0,0 +1,135 @@
+package org.folio.search.configuration.properties;
+
+import static java.util.Collections.emptyMap;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import java.util.Map;
+import lombok.Data;
+import org.folio.search.model.types.BatchFallbackStrategy;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+@Data
+@Validated
+@Configuration
+@ConfigurationProperties("folio.event-processing")
+public class EventProcessingProperties {
+
+  /**
+   * Settings for processing tenant slices of a single Kafka poll in parallel.
+   */
+  @Valid
+  private TenantParallelism tenantParallelism = new TenantParallelism();
+
+  /**
+   * Settings for coalescing instance events of several Kafka polls before indexing.
+   */
+  @Valid
+  private Coalescing coalescing = new Coalescing();
+
+  /**
+   * Settings for consuming REINDEX instance events separately from the user changes.
+   */
+  @Valid
+  private PriorityLanes priorityLanes = new PriorityLanes();
+
+  /**
+   * Defines if instance events must be deserialized keeping only type, tenant and ids instead of full payloads.
+   */
+  private boolean lightweightDeserialization = false;
+
+  /**
+   * Strategy to process a failed batch per Kafka listener name (events, authorities, etc.).
+   */
+  private Map<String, BatchFallbackStrategy> fallbackStrategies = emptyMap();
+
+  /**
+   * Provides fallback strategy for the given Kafka listener name.
+   *
+   * @param listenerName - Kafka listener name, as it's defined in {@code folio.kafka.listener} properties
+   * @return configured {@link BatchFallbackStrategy}, {@link BatchFallbackStrategy#ONE_BY_ONE} if not specified
+   */
+  public BatchFallbackStrategy getFallbackStrategy(String listenerName) {
+    return fallbackStrategies.getOrDefault(listenerName, BatchFallbackStrategy.ONE_BY_ONE);
+  }
+
+  @Data
+  @Validated
+  public static class TenantParallelism {
+
+    /**
+     * Defines if tenant slices of the instance events batch must be processed concurrently.
+     */
+    private boolean enabled = false;
+
+    /**
+     * ThreadPoolExecutor's core and max pool size.
+     */
+    @Min(1)
+    private int poolSize = 4;
+
+    /**
+     * LinkedBlockingQueue capacity for the ThreadPoolExecutor, tasks are executed by the caller when it is full.
+     */
+    @Min(0)
+    private int queueCapacity = 100;
+
+    /**
+     * Maximum number of tenant slices of the same tenant that can be processed at the same time.
+     */
+    @Min(1)
+    private int maxTenantConcurrency = 1;
+  }
+
+  @Data
+  @Validated
+  public static class Coalescing {
+
+    /**
+     * Defines if instance events must be held for a short window and indexed as a single batch per tenant.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Specifies time to hold instance events of a tenant before indexing them.
+     */
+    @Min(1)
+    private long windowMs = 1000;
+
+    /**
+     * The maximum number of instance ids held per tenant, reaching it indexes the tenant events immediately.
+     */
+    @Min(1)
+    private int maxIdsPerTenant = 1000;
+
+    /**
+     * Scheduler pool size, limits the number of tenant windows indexed at the same time.
+     */
+    @Min(1)
+    private int poolSize = 2;
+  }
+
+  @Data
+  @Validated
+  public static class PriorityLanes {
+
+    /**
+     * Defines if REINDEX instance events must be consumed by a separate listener with its own consumer group.
+     */
+    private boolean enabled = false;
+
+    /**
+     * The maximum number of records returned in a single poll for the instance events listener.
+     */
+    @Min(1)
+    private int eventsMaxPollRecords = 200;
+
+    /**
+     * The maximum number of records returned in a single poll for the reindex events listener.
+     */
+    @Min(1)
+    private int reindexMaxPollRecords = 500;
+  }
+}
@@ -0,0 +1,32 @@
+package org.folio.search.configuration.properties;
+
+import jakarta.validation.constraints.Min;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+@Data
+@Validated
+@Configuration
+@ConfigurationProperties("folio.event-producer")
+public class EventProducerProperties {
+
+  /**
+   * Specifies time the producer waits for more contributor and subject events before sending a batch to Kafka.
+   */
+  @Min(0)
+  private int lingerMs = 20;
+
+  /**
+   * The maximum size of a batch of events sent to a single partition, in bytes.
+   */
+  @Min(0)
+  private int batchSize = 65_536;
+
+  /**
+   * Specifies time to wait for acknowledgements of all contributor and subject events of an instance batch.
+   */
+  @Min(1)
+  private long sendTimeoutMs = 30_000;
+}
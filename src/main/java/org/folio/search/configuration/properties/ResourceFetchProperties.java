@@ -0,0 +1,39 @@
+package org.folio.search.configuration.properties;
+
+import jakarta.validation.constraints.Min;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+@Data
+@Validated
+@Configuration
+@ConfigurationProperties("folio.resource-fetch")
+public class ResourceFetchProperties {
+
+  /**
+   * The number of instance ids requested from inventory view by a single call.
+   */
+  @Min(1)
+  private int batchSize = 50;
+
+  /**
+   * ThreadPoolExecutor's core and max pool size, limits the number of inventory view calls at the same time.
+   */
+  @Min(1)
+  private int poolSize = 4;
+
+  /**
+   * LinkedBlockingQueue capacity for the ThreadPoolExecutor, tasks are executed by the caller when it is full.
+   */
+  @Min(0)
+  private int queueCapacity = 100;
+
+  /**
+   * Specifies connect and read timeout of a single inventory view call, the call is cancelled when it is exceeded.
+   * Failed calls are not retried here, the whole batch of events is retried by the Kafka listener retry policy.
+   */
+  @Min(1)
+  private long timeoutMs = 60_000;
+}
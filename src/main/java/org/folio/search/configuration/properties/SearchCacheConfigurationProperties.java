@@ -13,4 +13,14 @@ public class SearchCacheConfigurationProperties {
    * Caffeine cache configuration as {@link String} for call-number browsing.
    */
   private String callNumberBrowseRangesCacheSpec;
+
+  /**
+   * Caffeine cache configuration as {@link String} for translated search queries, statistics are always recorded.
+   */
+  private String searchQueryCacheSpec = "maximumSize=1000,expireAfterWrite=300s";
+
+  /**
+   * Caffeine cache configuration as {@link String} for call-number shelf keys, statistics are always recorded.
+   */
+  private String shelfKeyCacheSpec = "maximumSize=10000";
 }
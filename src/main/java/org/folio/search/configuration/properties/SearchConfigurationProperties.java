@@ -79,6 +79,12 @@ public class SearchConfigurationProperties {
      * Data format to use for passing data to elasticsearch.
      */
     private IndexingDataFormat dataFormat;
+
+    /**
+     * Specifies if merged document fields are written straight into the pooled generator, without building the
+     * resulting document map and intermediate serialized values.
+     */
+    private boolean streamingDocumentWriting;
   }
 
   @Data
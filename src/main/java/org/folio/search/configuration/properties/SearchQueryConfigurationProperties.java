@@ -28,4 +28,9 @@ public class SearchQueryConfigurationProperties {
    * Defines if call-number browse optimization is enabled or not.
    */
   private boolean callNumberBrowseOptimizationEnabled = true;
+
+  /**
+   * Defines if instance search results with expandAll are streamed into the response record by record.
+   */
+  private boolean streamingResponseEnabled = false;
 }
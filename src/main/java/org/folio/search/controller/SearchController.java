@@ -1,6 +1,9 @@
 package org.folio.search.controller;
 
+import static org.apache.commons.lang3.BooleanUtils.isTrue;
+
 import lombok.RequiredArgsConstructor;
+import org.folio.search.configuration.properties.SearchQueryConfigurationProperties;
 import org.folio.search.domain.dto.Authority;
 import org.folio.search.domain.dto.AuthoritySearchResult;
 import org.folio.search.domain.dto.Instance;
@@ -11,6 +14,7 @@ import org.folio.search.domain.dto.LinkedDataWork;
 import org.folio.search.domain.dto.LinkedDataWorkSearchResult;
 import org.folio.search.model.service.CqlSearchRequest;
 import org.folio.search.rest.resource.SearchApi;
+import org.folio.search.service.SearchResultStreamHelper;
 import org.folio.search.service.SearchService;
 import org.folio.search.service.consortium.TenantProvider;
 import org.springframework.http.ResponseEntity;
@@ -26,15 +30,20 @@ public class SearchController implements SearchApi {
 
   private final SearchService searchService;
   private final TenantProvider tenantProvider;
+  private final SearchResultStreamHelper searchResultStreamHelper;
+  private final SearchQueryConfigurationProperties searchQueryConfiguration;
 
   @Override
   public ResponseEntity<AuthoritySearchResult> searchAuthorities(String tenant, String query, Integer limit,
                                                                  Integer offset, Boolean expandAll,
-                                                                 Boolean includeNumberOfTitles) {
+                                                                 Boolean includeNumberOfTitles, Boolean rawSource) {
 
     tenant = tenantProvider.getTenant(tenant);
     var searchRequest = CqlSearchRequest.of(
       Authority.class, tenant, query, limit, offset, expandAll, includeNumberOfTitles);
+    if (isTrue(rawSource) && !isTrue(includeNumberOfTitles)) {
+      return searchResultStreamHelper.streamRawSearchResult(searchRequest, "authorities");
+    }
     var result = searchService.search(searchRequest);
     return ResponseEntity.ok(new AuthoritySearchResult()
       .authorities(result.getRecords())
@@ -43,9 +52,15 @@ public class SearchController implements SearchApi {
 
   @Override
   public ResponseEntity<InstanceSearchResult> searchInstances(String tenantId, String query, Integer limit,
-                                                              Integer offset, Boolean expandAll) {
+                                                              Integer offset, Boolean expandAll, Boolean rawSource) {
     tenantId = tenantProvider.getTenant(tenantId);
     var searchRequest = CqlSearchRequest.of(Instance.class, tenantId, query, limit, offset, expandAll);
+    if (isTrue(rawSource)) {
+      return searchResultStreamHelper.streamRawSearchResult(searchRequest, "instances");
+    }
+    if (isTrue(expandAll) && searchQueryConfiguration.isStreamingResponseEnabled()) {
+      return searchResultStreamHelper.streamSearchResult(searchRequest, "instances");
+    }
     var result = searchService.search(searchRequest);
     return ResponseEntity.ok(new InstanceSearchResult()
       .instances(result.getRecords())
@@ -13,6 +13,7 @@ import lombok.RequiredArgsConstructor;
 import org.folio.search.model.types.SearchType;
 import org.folio.search.service.consortium.ConsortiumSearchHelper;
 import org.folio.search.service.metadata.SearchFieldProvider;
+import org.folio.spring.FolioExecutionContext;
 import org.opensearch.index.query.BoolQueryBuilder;
 import org.opensearch.index.query.QueryBuilder;
 import org.opensearch.search.builder.SearchSourceBuilder;
@@ -38,6 +39,8 @@ public class CqlSearchQueryConverter {
   private final SearchFieldProvider searchFieldProvider;
   private final CqlTermQueryConverter cqlTermQueryConverter;
   private final ConsortiumSearchHelper consortiumSearchHelper;
+  private final FolioExecutionContext folioExecutionContext;
+  private final SearchQueryCache searchQueryCache;
 
   /**
    * Converts given CQL search query value to the elasticsearch {@link SearchSourceBuilder} object.
@@ -47,16 +50,8 @@ public class CqlSearchQueryConverter {
    * @return search source as {@link SearchSourceBuilder} object with query and sorting conditions
    */
   public SearchSourceBuilder convert(String query, String resource) {
-    var cqlNode = cqlQueryParser.parseCqlQuery(query, resource);
-    var queryBuilder = new SearchSourceBuilder();
-
-    if (cqlNode instanceof CQLSortNode cqlSortNode) {
-      cqlSortProvider.getSort(cqlSortNode, resource).forEach(queryBuilder::sort);
-    }
-
-    var boolQuery = convertToQuery(cqlNode, resource);
-    var enhancedQuery = enhanceQuery(boolQuery, resource);
-    return queryBuilder.query(enhancedQuery);
+    return searchQueryCache.get(folioExecutionContext.getTenantId(), resource, query, false,
+      () -> convertQuery(query, resource));
   }
 
   /**
@@ -81,20 +76,24 @@ public class CqlSearchQueryConverter {
    * @return search source as {@link SearchSourceBuilder} object with query and sorting conditions
    */
   public SearchSourceBuilder convertForConsortia(String query, String resource, String tenantId) {
-    var sourceBuilder = convert(query, resource);
-    var queryBuilder = consortiumSearchHelper
-      .filterQueryForActiveAffiliation(sourceBuilder.query(), resource, tenantId);
-    return sourceBuilder.query(queryBuilder);
+    return searchQueryCache.get(tenantId, resource, query, true, () -> {
+      var sourceBuilder = convertQuery(query, resource);
+      var queryBuilder = consortiumSearchHelper
+        .filterQueryForActiveAffiliation(sourceBuilder.query(), resource, tenantId);
+      return sourceBuilder.query(queryBuilder);
+    });
   }
 
   public SearchSourceBuilder convertForConsortia(String query, String resource, boolean consortiumConsolidated) {
-    var sourceBuilder = convert(query, resource);
     if (consortiumConsolidated) {
-      return sourceBuilder;
+      return convert(query, resource);
     }
 
-    var queryBuilder = consortiumSearchHelper.filterQueryForActiveAffiliation(sourceBuilder.query(), resource);
-    return sourceBuilder.query(queryBuilder);
+    return searchQueryCache.get(folioExecutionContext.getTenantId(), resource, query, true, () -> {
+      var sourceBuilder = convertQuery(query, resource);
+      var queryBuilder = consortiumSearchHelper.filterQueryForActiveAffiliation(sourceBuilder.query(), resource);
+      return sourceBuilder.query(queryBuilder);
+    });
   }
 
   /**
@@ -110,6 +109,19 @@ public class CqlSearchQueryConverter {
     return convertToTermNode(cqlNode);
   }
 
+  private SearchSourceBuilder convertQuery(String query, String resource) {
+    var cqlNode = cqlQueryParser.parseCqlQuery(query, resource);
+    var queryBuilder = new SearchSourceBuilder();
+
+    if (cqlNode instanceof CQLSortNode cqlSortNode) {
+      cqlSortProvider.getSort(cqlSortNode, resource).forEach(queryBuilder::sort);
+    }
+
+    var boolQuery = convertToQuery(cqlNode, resource);
+    var enhancedQuery = enhanceQuery(boolQuery, resource);
+    return queryBuilder.query(enhancedQuery);
+  }
+
   private CQLTermNode convertToTermNode(CQLNode cqlNode) {
     if (cqlNode instanceof CQLBooleanNode cqlBooleanNode) {
       var leftNode = cqlBooleanNode.getLeftOperand();
@@ -8,6 +8,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.function.Function;
 import org.folio.search.domain.dto.CallNumberType;
+import org.folio.search.utils.ShelfKeyCache;
 import org.marc4j.callnum.CallNumber;
 import org.marc4j.callnum.DeweyCallNumber;
 import org.marc4j.callnum.LCCallNumber;
@@ -17,12 +18,18 @@ import org.springframework.stereotype.Component;
 @Component
 public class EffectiveShelvingOrderTermProcessor implements SearchTermProcessor {
 
-  private static final Map<String, Function<String, String>> CN_TYPE_TO_SHELF_KEY_GENERATOR = Map.of(
-    CallNumberType.NLM.getValue(), cn -> getShelfKey(new NlmCallNumber(cn)),
-    CallNumberType.LC.getValue(), cn -> getShelfKey(new LCCallNumber(cn)),
-    CallNumberType.DEWEY.getValue(), cn -> getShelfKey(new DeweyCallNumber(cn)),
-    CallNumberType.SUDOC.getValue(), cn -> getShelfKey(new SuDocCallNumber(cn))
-  );
+  private final ShelfKeyCache shelfKeyCache;
+  private final Map<String, Function<String, String>> cnTypeToShelfKeyGenerator;
+
+  public EffectiveShelvingOrderTermProcessor(ShelfKeyCache shelfKeyCache) {
+    this.shelfKeyCache = shelfKeyCache;
+    this.cnTypeToShelfKeyGenerator = Map.of(
+      CallNumberType.NLM.getValue(), this::getNlmShelfKey,
+      CallNumberType.LC.getValue(), this::getLcShelfKey,
+      CallNumberType.DEWEY.getValue(), this::getDeweyShelfKey,
+      CallNumberType.SUDOC.getValue(), this::getSuDocShelfKey
+    );
+  }
 
   @Override
   public String getSearchTerm(String inputTerm) {
@@ -34,7 +41,7 @@ public class EffectiveShelvingOrderTermProcessor implements SearchTermProcessor
       return normalizeEffectiveShelvingOrder(inputTerm);
     }
 
-    return Optional.ofNullable(CN_TYPE_TO_SHELF_KEY_GENERATOR.get(callNumberTypeName))
+    return Optional.ofNullable(cnTypeToShelfKeyGenerator.get(callNumberTypeName))
       .map(function -> function.apply(inputTerm))
       .orElse(normalizeEffectiveShelvingOrder(inputTerm));
   }
@@ -42,16 +49,36 @@ public class EffectiveShelvingOrderTermProcessor implements SearchTermProcessor
   public List<String> getSearchTerms(String inputTerm) {
     var searchTerms = new ArrayList<String>();
 
-    searchTerms.add(getShelfKey(new NlmCallNumber(inputTerm)));
-    searchTerms.add(getShelfKey(new LCCallNumber(inputTerm)));
-    searchTerms.add(getShelfKey(new DeweyCallNumber(inputTerm)));
-    searchTerms.add(getShelfKey(new SuDocCallNumber(inputTerm)));
+    searchTerms.add(getNlmShelfKey(inputTerm));
+    searchTerms.add(getLcShelfKey(inputTerm));
+    searchTerms.add(getDeweyShelfKey(inputTerm));
+    searchTerms.add(getSuDocShelfKey(inputTerm));
 
     searchTerms.add(normalizeEffectiveShelvingOrder(inputTerm));
 
     return searchTerms;
   }
 
+  private String getNlmShelfKey(String callNumber) {
+    return shelfKeyCache.getShelfKey(CallNumberType.NLM.getValue(), callNumber,
+      cn -> getShelfKey(new NlmCallNumber(cn)));
+  }
+
+  private String getLcShelfKey(String callNumber) {
+    return shelfKeyCache.getShelfKey(CallNumberType.LC.getValue(), callNumber,
+      cn -> getShelfKey(new LCCallNumber(cn)));
+  }
+
+  private String getDeweyShelfKey(String callNumber) {
+    return shelfKeyCache.getShelfKey(CallNumberType.DEWEY.getValue(), callNumber,
+      cn -> getShelfKey(new DeweyCallNumber(cn)));
+  }
+
+  private String getSuDocShelfKey(String callNumber) {
+    return shelfKeyCache.getShelfKey(CallNumberType.SUDOC.getValue(), callNumber,
+      cn -> getShelfKey(new SuDocCallNumber(cn)));
+  }
+
   private static String getShelfKey(CallNumber value) {
     return value.getShelfKey().trim();
   }
@@ -0,0 +1,90 @@
+package org.folio.search.cql;
+
+import static java.util.Collections.emptyList;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.io.IOException;
+import java.util.function.Supplier;
+import lombok.extern.log4j.Log4j2;
+import org.folio.search.configuration.properties.SearchCacheConfigurationProperties;
+import org.folio.search.exception.SearchServiceException;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.core.common.io.stream.NamedWriteableAwareStreamInput;
+import org.opensearch.core.common.io.stream.NamedWriteableRegistry;
+import org.opensearch.search.SearchModule;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bounded cache of the CQL queries translated to the {@link SearchSourceBuilder} objects.
+ *
+ * <p>Search, facet and paging requests of the UI repeat the same CQL query, so the translated query is reused.
+ * Cached search sources are never returned to the callers, they receive a deep copy, that is safe to mutate.</p>
+ */
+@Log4j2
+@Component
+public class SearchQueryCache {
+
+  /**
+   * Name of the cache for the cache metrics.
+   */
+  public static final String SEARCH_QUERY_CACHE_NAME = "search-queries";
+
+  private final Cache<SearchQueryCacheKey, SearchSourceBuilder> searchSources;
+  private final NamedWriteableRegistry namedWriteableRegistry;
+
+  public SearchQueryCache(SearchCacheConfigurationProperties cacheConfiguration) {
+    this.searchSources = Caffeine.from(cacheConfiguration.getSearchQueryCacheSpec()).recordStats().build();
+    this.namedWriteableRegistry = new NamedWriteableRegistry(
+      new SearchModule(Settings.EMPTY, emptyList()).getNamedWriteables());
+  }
+
+  /**
+   * Provides a copy of the translated search source, translating the CQL query only on the cache miss.
+   *
+   * @param tenantId             - tenant id as {@link String} object
+   * @param resource             - resource name as {@link String} object
+   * @param query                - CQL query as {@link String} object
+   * @param activeAffiliation    - defines if the search source is filtered by the active consortium affiliation
+   * @param searchSourceSupplier - supplier translating the CQL query to the {@link SearchSourceBuilder} object
+   * @return copy of the translated {@link SearchSourceBuilder} object
+   */
+  public SearchSourceBuilder get(String tenantId, String resource, String query, boolean activeAffiliation,
+                                 Supplier<SearchSourceBuilder> searchSourceSupplier) {
+    var key = new SearchQueryCacheKey(tenantId, resource, query, activeAffiliation);
+    return copy(searchSources.get(key, cacheKey -> searchSourceSupplier.get()));
+  }
+
+  /**
+   * Removes all translated queries, the query translation might depend on the tenant language and feature
+   * configuration, so it is called on any change of them.
+   */
+  public void invalidateAll() {
+    log.debug("invalidateAll:: invalidating translated search queries");
+    searchSources.invalidateAll();
+  }
+
+  /**
+   * Provides the underlying cache to bind its metrics.
+   *
+   * @return translated queries {@link Cache} object
+   */
+  public Cache<?, ?> getCache() {
+    return searchSources;
+  }
+
+  private SearchSourceBuilder copy(SearchSourceBuilder searchSource) {
+    try (var output = new BytesStreamOutput()) {
+      searchSource.writeTo(output);
+      try (var input = new NamedWriteableAwareStreamInput(output.bytes().streamInput(), namedWriteableRegistry)) {
+        return new SearchSourceBuilder(input);
+      }
+    } catch (IOException e) {
+      throw new SearchServiceException("Failed to copy translated search query", e);
+    }
+  }
+
+  private record SearchQueryCacheKey(String tenantId, String resource, String query, boolean activeAffiliation) { }
+}
@@ -3,25 +3,47 @@ package org.folio.search.integration;
 import static java.util.Collections.singletonList;
 import static org.folio.search.configuration.RetryTemplateConfiguration.KAFKA_RETRY_TEMPLATE_NAME;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.util.List;
 import java.util.Map;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.apache.commons.collections4.CollectionUtils;
+import org.folio.search.model.types.BatchFallbackStrategy;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.retry.support.RetryTemplate;
 import org.springframework.stereotype.Component;
 
 @Log4j2
 @Component
-@RequiredArgsConstructor
 public class FolioMessageBatchProcessor {
 
+  private static final String SPLIT_DEPTH_METRIC = "search.batch.fallback.split.depth";
+  private static final String ISOLATED_VALUES_METRIC = "search.batch.fallback.isolated.values";
+  private static final String STRATEGY_TAG = "strategy";
+
   private final Map<String, RetryTemplate> retryTemplateBeans;
-  @Qualifier(value = KAFKA_RETRY_TEMPLATE_NAME)
   private final RetryTemplate defaultRetryTemplate;
+  private final DistributionSummary splitDepthSummary;
+  private final Counter isolatedValuesCounter;
+
+  public FolioMessageBatchProcessor(Map<String, RetryTemplate> retryTemplateBeans,
+                                    @Qualifier(value = KAFKA_RETRY_TEMPLATE_NAME) RetryTemplate defaultRetryTemplate,
+                                    MeterRegistry meterRegistry) {
+    this.retryTemplateBeans = retryTemplateBeans;
+    this.defaultRetryTemplate = defaultRetryTemplate;
+    this.splitDepthSummary = DistributionSummary.builder(SPLIT_DEPTH_METRIC)
+      .description("Depth of batch splitting at which a failed value was isolated")
+      .tag(STRATEGY_TAG, BatchFallbackStrategy.BISECT.name())
+      .register(meterRegistry);
+    this.isolatedValuesCounter = Counter.builder(ISOLATED_VALUES_METRIC)
+      .description("Number of failed values isolated from failed batches")
+      .tag(STRATEGY_TAG, BatchFallbackStrategy.BISECT.name())
+      .register(meterRegistry);
+  }
 
   /**
    * Consumes batch of values as list and tries to process them using the strategy with retry.
@@ -39,6 +61,31 @@ public class FolioMessageBatchProcessor {
   public <T> void consumeBatchWithFallback(List<T> batch, String retryBeanName,
                                            Consumer<List<T>> batchConsumer,
                                            BiConsumer<T, Exception> failedValueConsumer) {
+    consumeBatchWithFallback(batch, retryBeanName, BatchFallbackStrategy.ONE_BY_ONE,
+      batchConsumer, failedValueConsumer);
+  }
+
+  /**
+   * Consumes batch of values as list and tries to process them using the strategy with retry.
+   *
+   * <p> At first, a batch will be retried by the specified retry policy, then, if it's failing, it would be processed
+   * using the given fallback strategy, if the value would be failed to process - failedValueConsumer will be
+   * executed.</p>
+   *
+   * <p> {@link BatchFallbackStrategy#BISECT} splits the failed batch in halves recursively, each sub-batch is
+   * processed once, and only isolated single values are processed with the retry policy.</p>
+   *
+   * @param batch               list of values as {@link List} object
+   * @param retryBeanName       retry bean name, if it's not specified - default retry policy will be used.
+   * @param fallbackStrategy    strategy to process the batch if it failed with retry policy
+   * @param batchConsumer       batch consumer as {@link Consumer} lambda function
+   * @param failedValueConsumer bi value consumer, where first - is the failed value, second is the related error
+   * @param <T>                 generic type for batch value
+   */
+  public <T> void consumeBatchWithFallback(List<T> batch, String retryBeanName,
+                                           BatchFallbackStrategy fallbackStrategy,
+                                           Consumer<List<T>> batchConsumer,
+                                           BiConsumer<T, Exception> failedValueConsumer) {
     var retryTemplate = retryTemplateBeans.getOrDefault(retryBeanName, defaultRetryTemplate);
     if (CollectionUtils.isEmpty(batch)) {
       log.info("Resources batch is empty, skipping it.");
@@ -50,6 +97,9 @@ public class FolioMessageBatchProcessor {
     } catch (Exception e) {
       if (batch.size() == 1) {
         failedValueConsumer.accept(batch.iterator().next(), e);
+      } else if (fallbackStrategy == BatchFallbackStrategy.BISECT) {
+        log.warn("Failed to process batch, attempting to process resources by splitting batch in halves", e);
+        processMessagesBySplitting(batch, 1, retryTemplate, batchConsumer, failedValueConsumer);
       } else {
         log.warn("Failed to process batch, attempting to process resources one by one", e);
         processMessagesOneByOne(batch, retryTemplate, batchConsumer, failedValueConsumer);
@@ -69,6 +119,37 @@ public class FolioMessageBatchProcessor {
     }
   }
 
+  private <T> void processMessagesBySplitting(List<T> batch, int depth, RetryTemplate retryTemplate,
+                                              Consumer<List<T>> batchConsumer,
+                                              BiConsumer<T, Exception> failedValueConsumer) {
+    var middle = batch.size() / 2;
+    for (var subBatch : List.of(batch.subList(0, middle), batch.subList(middle, batch.size()))) {
+      if (subBatch.size() == 1) {
+        processIsolatedValue(subBatch.get(0), depth, retryTemplate, batchConsumer, failedValueConsumer);
+        continue;
+      }
+
+      try {
+        batchConsumer.accept(subBatch);
+      } catch (Exception e) {
+        log.debug("Failed to process sub-batch [size: {}, depth: {}]", subBatch.size(), depth);
+        processMessagesBySplitting(subBatch, depth + 1, retryTemplate, batchConsumer, failedValueConsumer);
+      }
+    }
+  }
+
+  private <T> void processIsolatedValue(T value, int depth, RetryTemplate retryTemplate,
+                                        Consumer<List<T>> batchConsumer,
+                                        BiConsumer<T, Exception> failedValueConsumer) {
+    try {
+      executeWithRetryTemplate(retryTemplate, singletonList(value), batchConsumer);
+    } catch (Exception e) {
+      splitDepthSummary.record(depth);
+      isolatedValuesCounter.increment();
+      failedValueConsumer.accept(value, e);
+    }
+  }
+
   private <T> void executeWithRetryTemplate(RetryTemplate retryTemplate, List<T> batch, Consumer<List<T>> consumer) {
     retryTemplate.execute(ctx -> {
       consumer.accept(batch);
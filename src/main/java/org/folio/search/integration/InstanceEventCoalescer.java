@@ -0,0 +1,197 @@
+package org.folio.search.integration;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import lombok.extern.log4j.Log4j2;
+import org.folio.search.configuration.properties.EventProcessingProperties;
+import org.folio.search.domain.dto.ResourceEvent;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+
+/**
+ * Holds instance events of several Kafka polls for a short window and passes them for indexing as a single batch per
+ * tenant, only the last event is kept for each instance id.
+ *
+ * <p>The calling listener thread waits until its events are indexed, so Kafka offsets are committed only for the
+ * indexed events, and indexing failures are rethrown to the caller to be handled by the listener retry policy.
+ * Events of the concurrent listener threads received within the window are indexed together.</p>
+ */
+@Log4j2
+@Component
+public class InstanceEventCoalescer {
+
+  private static final String RECEIVED_METRIC = "search.events.coalescing.received";
+  private static final String FLUSHED_METRIC = "search.events.coalescing.flushed";
+  private static final String BUFFERED_METRIC = "search.events.coalescing.buffered";
+  private static final String TRIGGER_TAG = "trigger";
+  private static final String WINDOW_TRIGGER = "window";
+  private static final String LIMIT_TRIGGER = "limit";
+  private static final String SHUTDOWN_TRIGGER = "shutdown";
+
+  private final TaskScheduler scheduler;
+  private final TenantBatchExecutor tenantBatchExecutor;
+  private final EventProcessingProperties eventProcessingProperties;
+  private final Map<String, TenantBuffer> tenantBuffers = new HashMap<>();
+  private final Map<String, Object> tenantFlushLocks = new ConcurrentHashMap<>();
+  private final AtomicInteger bufferedIds = new AtomicInteger();
+  private final Counter receivedCounter;
+  private final Map<String, Counter> flushedCounters;
+
+  public InstanceEventCoalescer(@Qualifier("instanceEventCoalescingScheduler") TaskScheduler scheduler,
+                                TenantBatchExecutor tenantBatchExecutor,
+                                EventProcessingProperties eventProcessingProperties, MeterRegistry meterRegistry) {
+    this.scheduler = scheduler;
+    this.tenantBatchExecutor = tenantBatchExecutor;
+    this.eventProcessingProperties = eventProcessingProperties;
+    Gauge.builder(BUFFERED_METRIC, bufferedIds, AtomicInteger::get)
+      .description("Number of instance ids held by the coalescing window")
+      .register(meterRegistry);
+    this.receivedCounter = Counter.builder(RECEIVED_METRIC)
+      .description("Number of instance events added to the coalescing window")
+      .register(meterRegistry);
+    this.flushedCounters = Map.of(
+      WINDOW_TRIGGER, flushedCounter(WINDOW_TRIGGER, meterRegistry),
+      LIMIT_TRIGGER, flushedCounter(LIMIT_TRIGGER, meterRegistry),
+      SHUTDOWN_TRIGGER, flushedCounter(SHUTDOWN_TRIGGER, meterRegistry));
+  }
+
+  public boolean isEnabled() {
+    return eventProcessingProperties.getCoalescing().isEnabled();
+  }
+
+  /**
+   * Adds tenant slices of the batch to the coalescing window and returns when they are indexed.
+   *
+   * <p>Tenant events are passed to the flushConsumer when the window is elapsed, or immediately when the number of
+   * held instance ids for a tenant reaches the configured limit. Flushes of a single tenant are executed one at a time
+   * using {@link TenantBatchExecutor}.</p>
+   *
+   * @param batchByTenant instance events grouped by tenant id
+   * @param flushConsumer consumer of coalesced tenant events, where first - is the tenant id, second - tenant events
+   * @throws RuntimeException if coalesced events of any tenant of the batch failed to be indexed
+   */
+  public void add(Map<String, List<ResourceEvent>> batchByTenant,
+                  BiConsumer<String, List<ResourceEvent>> flushConsumer) {
+    var futures = batchByTenant.entrySet().stream()
+      .map(entry -> addTenantEvents(entry.getKey(), entry.getValue(), flushConsumer))
+      .toArray(CompletableFuture[]::new);
+
+    try {
+      CompletableFuture.allOf(futures).join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      throw e;
+    }
+  }
+
+  /**
+   * Passes all held events for indexing before the application context is closed.
+   */
+  @PreDestroy
+  public void flushAll() {
+    List<String> tenants;
+    synchronized (this) {
+      tenants = List.copyOf(tenantBuffers.keySet());
+    }
+    tenants.forEach(tenant -> flush(tenant, SHUTDOWN_TRIGGER));
+  }
+
+  private CompletableFuture<Void> addTenantEvents(String tenant, List<ResourceEvent> events,
+                                                  BiConsumer<String, List<ResourceEvent>> flushConsumer) {
+    receivedCounter.increment(events.size());
+    var coalescing = eventProcessingProperties.getCoalescing();
+    TenantBuffer buffer;
+    boolean limitReached;
+    synchronized (this) {
+      buffer = tenantBuffers.computeIfAbsent(tenant, key -> new TenantBuffer(flushConsumer));
+      for (var event : events) {
+        if (buffer.events.remove(event.getId()) == null) {
+          bufferedIds.incrementAndGet();
+        }
+        buffer.events.put(event.getId(), event);
+      }
+
+      limitReached = buffer.events.size() >= coalescing.getMaxIdsPerTenant();
+      if (!limitReached && buffer.flushTask == null) {
+        buffer.flushTask = scheduler.schedule(() -> flush(tenant, WINDOW_TRIGGER),
+          Instant.now().plusMillis(coalescing.getWindowMs()));
+      }
+    }
+
+    if (limitReached) {
+      log.debug("addTenantEvents:: coalescing limit is reached [tenant: {}]", tenant);
+      flush(tenant, LIMIT_TRIGGER);
+    }
+    return buffer.flushed;
+  }
+
+  /**
+   * Indexes the events held for the tenant, the buffer is taken under the tenant lock, so tenant events are indexed
+   * in the order they were received.
+   */
+  private void flush(String tenant, String trigger) {
+    synchronized (tenantFlushLocks.computeIfAbsent(tenant, key -> new Object())) {
+      var buffer = drain(tenant);
+      if (buffer == null) {
+        return;
+      }
+
+      var events = List.copyOf(buffer.events.values());
+      try {
+        flushedCounters.get(trigger).increment(events.size());
+        tenantBatchExecutor.execute(Map.of(tenant, events), buffer.flushConsumer);
+        buffer.flushed.complete(null);
+      } catch (Exception e) {
+        log.warn("Failed to index coalesced instance events [tenant: {}, events: {}, trigger: {}]",
+          tenant, events.size(), trigger, e);
+        buffer.flushed.completeExceptionally(e);
+      }
+    }
+  }
+
+  private synchronized TenantBuffer drain(String tenant) {
+    var buffer = tenantBuffers.remove(tenant);
+    if (buffer != null) {
+      if (buffer.flushTask != null) {
+        buffer.flushTask.cancel(false);
+      }
+      bufferedIds.addAndGet(-buffer.events.size());
+    }
+    return buffer;
+  }
+
+  private static Counter flushedCounter(String trigger, MeterRegistry meterRegistry) {
+    return Counter.builder(FLUSHED_METRIC)
+      .description("Number of coalesced instance events passed for indexing")
+      .tag(TRIGGER_TAG, trigger)
+      .register(meterRegistry);
+  }
+
+  private static final class TenantBuffer {
+
+    private final Map<String, ResourceEvent> events = new LinkedHashMap<>();
+    private final CompletableFuture<Void> flushed = new CompletableFuture<>();
+    private final BiConsumer<String, List<ResourceEvent>> flushConsumer;
+    private ScheduledFuture<?> flushTask;
+
+    private TenantBuffer(BiConsumer<String, List<ResourceEvent>> flushConsumer) {
+      this.flushConsumer = flushConsumer;
+    }
+  }
+}
@@ -0,0 +1,110 @@
+package org.folio.search.integration;
+
+import static org.folio.search.utils.SearchUtils.ID_FIELD;
+import static org.folio.search.utils.SearchUtils.INSTANCE_ID_FIELD;
+import static org.folio.search.utils.SearchUtils.INSTANCE_RESOURCE;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.folio.search.domain.dto.ResourceDeleteEventSubType;
+import org.folio.search.domain.dto.ResourceEvent;
+import org.folio.search.domain.dto.ResourceEventType;
+import org.springframework.kafka.support.JacksonUtils;
+
+/**
+ * Streaming {@link ResourceEvent} deserializer for the instance events listener.
+ *
+ * <p>Instances are fetched from inventory before indexing, so only the event type, tenant and the {@code id} and
+ * {@code instanceId} payload fields are read, other payload values are skipped without building the map trees. The
+ * full {@code old} payload is kept for instance topics, because it is required to process deleted and updated
+ * contributors, subjects and classifications.</p>
+ */
+public class InstanceResourceEventDeserializer implements Deserializer<ResourceEvent> {
+
+  private static final String INSTANCE_TOPIC_SUFFIX = "inventory." + INSTANCE_RESOURCE;
+
+  private final ObjectMapper objectMapper;
+
+  public InstanceResourceEventDeserializer() {
+    this(JacksonUtils.enhancedObjectMapper());
+  }
+
+  public InstanceResourceEventDeserializer(ObjectMapper objectMapper) {
+    this.objectMapper = objectMapper;
+  }
+
+  @Override
+  public ResourceEvent deserialize(String topic, byte[] data) {
+    if (data == null) {
+      return null;
+    }
+
+    try (var parser = objectMapper.createParser(data)) {
+      return readResourceEvent(parser, topic != null && topic.endsWith(INSTANCE_TOPIC_SUFFIX));
+    } catch (IOException | IllegalArgumentException e) {
+      throw new SerializationException("Failed to deserialize resource event [topic: " + topic + "]", e);
+    }
+  }
+
+  private static ResourceEvent readResourceEvent(JsonParser parser, boolean keepOldPayload) throws IOException {
+    var token = parser.nextToken();
+    if (token == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    if (token != JsonToken.START_OBJECT) {
+      throw new SerializationException("Resource event must be a JSON object, but was: " + token);
+    }
+
+    var event = new ResourceEvent();
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      var fieldName = parser.currentName();
+      parser.nextToken();
+      switch (fieldName) {
+        case "id" -> event.id(readText(parser));
+        case "type" -> event.type(readEnum(parser, ResourceEventType::fromValue));
+        case "deleteEventSubType" -> event.deleteEventSubType(readEnum(parser, ResourceDeleteEventSubType::fromValue));
+        case "tenant" -> event.tenant(readText(parser));
+        case "resourceName" -> event.resourceName(readText(parser));
+        case "new" -> event._new(readIdFields(parser));
+        case "old" -> event.old(keepOldPayload ? parser.readValueAs(Map.class) : readIdFields(parser));
+        default -> parser.skipChildren();
+      }
+    }
+    return event;
+  }
+
+  private static Map<String, Object> readIdFields(JsonParser parser) throws IOException {
+    if (parser.currentToken() != JsonToken.START_OBJECT) {
+      parser.skipChildren();
+      return null;
+    }
+
+    var idFields = new LinkedHashMap<String, Object>(4);
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      var fieldName = parser.currentName();
+      var valueToken = parser.nextToken();
+      if (valueToken.isScalarValue() && (ID_FIELD.equals(fieldName) || INSTANCE_ID_FIELD.equals(fieldName))) {
+        idFields.put(fieldName, readText(parser));
+      } else {
+        parser.skipChildren();
+      }
+    }
+    return idFields;
+  }
+
+  private static <E> E readEnum(JsonParser parser, Function<String, E> valueMapper) throws IOException {
+    var value = readText(parser);
+    return value != null ? valueMapper.apply(value) : null;
+  }
+
+  private static String readText(JsonParser parser) throws IOException {
+    return parser.currentToken() == JsonToken.VALUE_NULL ? null : parser.getValueAsString();
+  }
+}
@@ -7,6 +7,15 @@ import static org.folio.search.configuration.SearchCacheNames.REFERENCE_DATA_CAC
 import static org.folio.search.domain.dto.ResourceEventType.CREATE;
 import static org.folio.search.domain.dto.ResourceEventType.DELETE;
 import static org.folio.search.domain.dto.ResourceEventType.REINDEX;
+import static org.folio.search.utils.KafkaConstants.AUTHORITY_LISTENER_NAME;
+import static org.folio.search.utils.KafkaConstants.CLASSIFICATION_TYPE_LISTENER_NAME;
+import static org.folio.search.utils.KafkaConstants.CONSORTIUM_INSTANCE_LISTENER_NAME;
+import static org.folio.search.utils.KafkaConstants.CONTRIBUTOR_LISTENER_NAME;
+import static org.folio.search.utils.KafkaConstants.EVENT_LISTENER_NAME;
+import static org.folio.search.utils.KafkaConstants.LINKED_DATA_LISTENER_NAME;
+import static org.folio.search.utils.KafkaConstants.LOCATION_LISTENER_NAME;
+import static org.folio.search.utils.KafkaConstants.REINDEX_EVENT_LISTENER_NAME;
+import static org.folio.search.utils.KafkaConstants.SUBJECT_LISTENER_NAME;
 import static org.folio.search.utils.SearchConverterUtils.getEventPayload;
 import static org.folio.search.utils.SearchConverterUtils.getResourceEventId;
 import static org.folio.search.utils.SearchConverterUtils.getResourceSource;
@@ -15,17 +24,25 @@ import static org.folio.search.utils.SearchUtils.INSTANCE_ID_FIELD;
 import static org.folio.search.utils.SearchUtils.INSTANCE_RESOURCE;
 import static org.folio.search.utils.SearchUtils.SOURCE_CONSORTIUM_PREFIX;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
-import java.util.function.Consumer;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 import java.util.stream.Collectors;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.logging.log4j.message.FormattedMessage;
+import org.folio.search.configuration.properties.EventProcessingProperties;
+import org.folio.search.domain.dto.FailedIndexItem;
+import org.folio.search.domain.dto.FolioIndexOperationResponse;
 import org.folio.search.domain.dto.ResourceEvent;
+import org.folio.search.exception.SearchOperationException;
 import org.folio.search.model.event.ConsortiumInstanceEvent;
+import org.folio.search.model.types.BatchFallbackStrategy;
 import org.folio.search.model.types.ResourceType;
 import org.folio.search.service.ResourceService;
 import org.folio.search.service.config.ConfigSynchronizationService;
@@ -40,13 +57,37 @@ import org.springframework.stereotype.Component;
  */
 @Log4j2
 @Component
-@RequiredArgsConstructor
 public class KafkaMessageListener {
 
+  private static final String LANE_LAG_METRIC = "search.events.lane.lag";
+  private static final String LANE_TAG = "lane";
+
   private final ResourceService resourceService;
   private final FolioMessageBatchProcessor folioMessageBatchProcessor;
   private final SystemUserScopedExecutionService executionService;
   private final ConfigSynchronizationService configSynchronizationService;
+  private final TenantBatchExecutor tenantBatchExecutor;
+  private final EventProcessingProperties eventProcessingProperties;
+  private final InstanceEventCoalescer instanceEventCoalescer;
+  private final Map<String, Timer> laneLagTimers;
+
+  public KafkaMessageListener(ResourceService resourceService, FolioMessageBatchProcessor folioMessageBatchProcessor,
+                              SystemUserScopedExecutionService executionService,
+                              ConfigSynchronizationService configSynchronizationService,
+                              TenantBatchExecutor tenantBatchExecutor,
+                              EventProcessingProperties eventProcessingProperties,
+                              InstanceEventCoalescer instanceEventCoalescer, MeterRegistry meterRegistry) {
+    this.resourceService = resourceService;
+    this.folioMessageBatchProcessor = folioMessageBatchProcessor;
+    this.executionService = executionService;
+    this.configSynchronizationService = configSynchronizationService;
+    this.tenantBatchExecutor = tenantBatchExecutor;
+    this.eventProcessingProperties = eventProcessingProperties;
+    this.instanceEventCoalescer = instanceEventCoalescer;
+    this.laneLagTimers = Map.of(
+      EVENT_LISTENER_NAME, laneLagTimer(EVENT_LISTENER_NAME, meterRegistry),
+      REINDEX_EVENT_LISTENER_NAME, laneLagTimer(REINDEX_EVENT_LISTENER_NAME, meterRegistry));
+  }
 
   /**
    * Handles instance events and indexes them by id.
@@ -55,20 +96,35 @@ public class KafkaMessageListener {
    */
   @KafkaListener(
     id = KafkaConstants.EVENT_LISTENER_ID,
-    containerFactory = "standardListenerContainerFactory",
+    containerFactory = "instanceEventListenerContainerFactory",
     topicPattern = "#{folioKafkaProperties.listener['events'].topicPattern}",
     groupId = "#{folioKafkaProperties.listener['events'].groupId}",
-    concurrency = "#{folioKafkaProperties.listener['events'].concurrency}")
+    concurrency = "#{folioKafkaProperties.listener['events'].concurrency}",
+    properties = "max.poll.records=#{eventProcessingProperties.priorityLanes.eventsMaxPollRecords}")
   public void handleInstanceEvents(List<ConsumerRecord<String, ResourceEvent>> consumerRecords) {
     log.info("Processing instance ids from kafka events [number of events: {}]", consumerRecords.size());
+    var records = eventProcessingProperties.getPriorityLanes().isEnabled()
+                  ? consumerRecords.stream().filter(consumerRecord -> !isReindexEvent(consumerRecord)).toList()
+                  : consumerRecords;
+    handleInstanceEvents(records, EVENT_LISTENER_NAME);
+  }
+
+  /**
+   * Indexes instance, holding and item events of the given consumption lane by instance id.
+   *
+   * @param consumerRecords - list of consumer records from Apache Kafka to process.
+   * @param lane            - consumption lane (listener) name, used to tag the lag metric.
+   */
+  void handleInstanceEvents(List<ConsumerRecord<String, ResourceEvent>> consumerRecords, String lane) {
+    recordLaneLag(consumerRecords, lane);
     var batch = getInstanceResourceEvents(consumerRecords);
     var batchByTenant = batch.stream().collect(Collectors.groupingBy(ResourceEvent::getTenant));
-    batchByTenant.forEach((tenant, resourceEvents) -> executionService.executeSystemUserScoped(tenant, () -> {
-      folioMessageBatchProcessor.consumeBatchWithFallback(resourceEvents, KAFKA_RETRY_TEMPLATE_NAME,
-        resourceService::indexInstancesById, KafkaMessageListener::logFailedEvent);
-      return null;
-    }));
+    if (instanceEventCoalescer.isEnabled()) {
+      instanceEventCoalescer.add(batchByTenant, this::indexInstanceEvents);
+      return;
+    }
 
+    tenantBatchExecutor.execute(batchByTenant, this::indexInstanceEvents);
   }
 
   /**
@@ -90,7 +146,7 @@ public class KafkaMessageListener {
       .map(authority -> authority.id(getResourceEventId(authority)))
       .toList();
 
-    indexResources(batch, resourceService::indexResources);
+    indexResources(batch, AUTHORITY_LISTENER_NAME, resourceService::indexResources);
   }
 
   /**
@@ -111,7 +167,7 @@ public class KafkaMessageListener {
       .map(contributor -> contributor.id(getResourceEventId(contributor)))
       .toList();
 
-    indexResources(batch, resourceService::indexResources);
+    indexResources(batch, CONTRIBUTOR_LISTENER_NAME, resourceService::indexResources);
   }
 
   @KafkaListener(
@@ -127,7 +183,7 @@ public class KafkaMessageListener {
       .map(subject -> subject.id(getResourceEventId(subject)))
       .toList();
 
-    indexResources(batch, resourceService::indexResources);
+    indexResources(batch, SUBJECT_LISTENER_NAME, resourceService::indexResources);
   }
 
   /**
@@ -151,7 +207,8 @@ public class KafkaMessageListener {
 
     batchByTenant.forEach((tenant, resourceEvents) -> executionService.executeSystemUserScoped(tenant, () -> {
       folioMessageBatchProcessor.consumeBatchWithFallback(batch, KAFKA_RETRY_TEMPLATE_NAME,
-        resourceService::indexConsortiumInstances, KafkaMessageListener::logFailedConsortiumEvent);
+        getFallbackStrategy(CONSORTIUM_INSTANCE_LISTENER_NAME), resourceService::indexConsortiumInstances,
+        KafkaMessageListener::logFailedConsortiumEvent);
       return null;
     }));
   }
@@ -173,6 +230,7 @@ public class KafkaMessageListener {
 
     batchByTenant.forEach((tenant, resourceEvents) -> executionService.executeSystemUserScoped(tenant, () -> {
       folioMessageBatchProcessor.consumeBatchWithFallback(batch, KAFKA_RETRY_TEMPLATE_NAME,
+        getFallbackStrategy(CLASSIFICATION_TYPE_LISTENER_NAME),
         resourceEvent -> configSynchronizationService.sync(resourceEvent, ResourceType.CLASSIFICATION_TYPE),
         KafkaMessageListener::logFailedEvent);
       return null;
@@ -192,7 +250,7 @@ public class KafkaMessageListener {
       .map(location -> location.id(getResourceEventId(location) + "|" + location.getTenant()))
       .toList();
 
-    indexResources(batch, resourceService::indexResources);
+    indexResources(batch, LOCATION_LISTENER_NAME, resourceService::indexResources);
   }
 
   @KafkaListener(
@@ -208,19 +266,52 @@ public class KafkaMessageListener {
       .map(ld -> ld.id(getResourceEventId(ld)))
       .toList();
 
-    indexResources(batch, resourceService::indexResources);
+    indexResources(batch, LINKED_DATA_LISTENER_NAME, resourceService::indexResources);
   }
 
-  private void indexResources(List<ResourceEvent> batch, Consumer<List<ResourceEvent>> indexConsumer) {
+  private void indexResources(List<ResourceEvent> batch, String listenerName,
+                              Function<List<ResourceEvent>, FolioIndexOperationResponse> indexFunction) {
     var batchByTenant = batch.stream().collect(Collectors.groupingBy(ResourceEvent::getTenant));
 
     batchByTenant.forEach((tenant, resourceEvents) -> executionService.executeSystemUserScoped(tenant, () -> {
       folioMessageBatchProcessor.consumeBatchWithFallback(resourceEvents, KAFKA_RETRY_TEMPLATE_NAME,
-        indexConsumer, KafkaMessageListener::logFailedEvent);
+        getFallbackStrategy(listenerName), events -> reportFailedItems(events, indexFunction.apply(events)),
+        KafkaMessageListener::logFailedEvent);
       return null;
     }));
   }
 
+  private void indexInstanceEvents(String tenant, List<ResourceEvent> resourceEvents) {
+    executionService.executeSystemUserScoped(tenant, () -> {
+      folioMessageBatchProcessor.consumeBatchWithFallback(resourceEvents, KAFKA_RETRY_TEMPLATE_NAME,
+        getFallbackStrategy(EVENT_LISTENER_NAME),
+        events -> reportFailedItems(events, resourceService.indexInstancesById(events)),
+        KafkaMessageListener::logFailedEvent);
+      return null;
+    });
+  }
+
+  private void recordLaneLag(List<ConsumerRecord<String, ResourceEvent>> consumerRecords, String lane) {
+    var laneLagTimer = laneLagTimers.get(lane);
+    consumerRecords.stream()
+      .mapToLong(ConsumerRecord::timestamp)
+      .filter(timestamp -> timestamp >= 0)
+      .min()
+      .ifPresent(timestamp -> laneLagTimer.record(
+        Math.max(0, System.currentTimeMillis() - timestamp), TimeUnit.MILLISECONDS));
+  }
+
+  private BatchFallbackStrategy getFallbackStrategy(String listenerName) {
+    return eventProcessingProperties.getFallbackStrategy(listenerName);
+  }
+
+  private static Timer laneLagTimer(String lane, MeterRegistry meterRegistry) {
+    return Timer.builder(LANE_LAG_METRIC)
+      .description("Time between producing the oldest record of a consumed batch and its processing")
+      .tag(LANE_TAG, lane)
+      .register(meterRegistry);
+  }
+
   private static List<ResourceEvent> getInstanceResourceEvents(List<ConsumerRecord<String, ResourceEvent>> events) {
     return events.stream()
       .map(KafkaMessageListener::getInstanceResourceEvent)
@@ -249,10 +340,33 @@ public class KafkaMessageListener {
     return isInstanceResource(event) ? getString(eventPayload, ID_FIELD) : getString(eventPayload, INSTANCE_ID_FIELD);
   }
 
+  static boolean isReindexEvent(ConsumerRecord<String, ResourceEvent> consumerRecord) {
+    return consumerRecord.value().getType() == REINDEX;
+  }
+
   private static boolean isInstanceResource(ConsumerRecord<String, ResourceEvent> consumerRecord) {
     return consumerRecord.topic().endsWith("inventory." + INSTANCE_RESOURCE);
   }
 
+  /**
+   * Reports events of the batch, which documents are left failed by the bulk request after re-submitting of retryable
+   * failures. Failed documents are not re-indexed with the whole batch, because succeeded documents are already
+   * indexed.
+   */
+  private static void reportFailedItems(List<ResourceEvent> batch, FolioIndexOperationResponse response) {
+    var failedItems = response.getFailedItems();
+    if (failedItems == null || failedItems.isEmpty()) {
+      return;
+    }
+
+    var failureStatuses = failedItems.stream()
+      .collect(Collectors.toMap(FailedIndexItem::getId, FailedIndexItem::getStatus, (first, second) -> first));
+    batch.stream()
+      .filter(event -> failureStatuses.containsKey(event.getId()))
+      .forEach(event -> logFailedEvent(event, new SearchOperationException(
+        "Failed to index document [status: " + failureStatuses.get(event.getId()) + "]")));
+  }
+
   private static void logFailedEvent(ResourceEvent event, Exception e) {
     if (event == null) {
       log.warn("Failed to index resource event [event: null]", e);
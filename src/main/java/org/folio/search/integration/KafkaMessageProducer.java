@@ -16,24 +16,32 @@ import static org.folio.search.utils.SearchConverterUtils.getResourceEventId;
 import static org.folio.search.utils.SearchConverterUtils.getResourceSource;
 import static org.folio.search.utils.SearchConverterUtils.isUpdateEventForResourceSharing;
 import static org.folio.search.utils.SearchUtils.INSTANCE_CONTRIBUTORS_FIELD_NAME;
+import static org.folio.search.utils.SearchUtils.INSTANCE_ID_FIELD;
 import static org.folio.search.utils.SearchUtils.INSTANCE_SUBJECT_RESOURCE;
 import static org.folio.search.utils.SearchUtils.SOURCE_CONSORTIUM_PREFIX;
 
 import com.fasterxml.jackson.core.type.TypeReference;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.function.Function;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.kafka.clients.producer.ProducerRecord;
+import org.folio.search.configuration.properties.EventProducerProperties;
 import org.folio.search.domain.dto.Contributor;
 import org.folio.search.domain.dto.ResourceEvent;
 import org.folio.search.domain.dto.ResourceEventType;
+import org.folio.search.exception.SearchServiceException;
 import org.folio.search.model.event.ContributorResourceEvent;
 import org.folio.search.model.event.SubjectResourceEvent;
 import org.folio.search.service.consortium.ConsortiumTenantService;
@@ -44,10 +52,13 @@ import org.springframework.stereotype.Component;
 
 @Log4j2
 @Component
-@RequiredArgsConstructor
 public class KafkaMessageProducer {
 
   private static final String SUBJECTS_FIELD = "subjects";
+  private static final String FAN_OUT_METRIC = "search.events.fanout";
+  private static final String SKIPPED_OUTCOME = "skipped";
+  private static final String UNCHANGED_OUTCOME = "unchanged";
+  private static final String EMITTED_OUTCOME = "emitted";
   private static final String INSTANCE_CONTRIBUTOR_TOPIC_NAME = "search.instance-contributor";
   private static final String INSTANCE_SUBJECTS_TOPIC_NAME = "search.instance-subject";
   private static final TypeReference<List<Contributor>> TYPE_REFERENCE = new TypeReference<>() { };
@@ -55,24 +66,116 @@ public class KafkaMessageProducer {
   private final JsonConverter jsonConverter;
   private final KafkaTemplate<String, ResourceEvent> kafkaTemplate;
   private final ConsortiumTenantService consortiumTenantService;
+  private final EventProducerProperties eventProducerProperties;
+  private final Map<String, Map<String, Counter>> fanOutCounters;
+
+  public KafkaMessageProducer(JsonConverter jsonConverter, KafkaTemplate<String, ResourceEvent> kafkaTemplate,
+                              ConsortiumTenantService consortiumTenantService,
+                              EventProducerProperties eventProducerProperties, MeterRegistry meterRegistry) {
+    this.jsonConverter = jsonConverter;
+    this.kafkaTemplate = kafkaTemplate;
+    this.consortiumTenantService = consortiumTenantService;
+    this.eventProducerProperties = eventProducerProperties;
+    this.fanOutCounters = Map.of(
+      INSTANCE_CONTRIBUTORS_FIELD_NAME, fanOutCounters(INSTANCE_CONTRIBUTORS_FIELD_NAME, meterRegistry),
+      SUBJECTS_FIELD, fanOutCounters(SUBJECTS_FIELD, meterRegistry));
+  }
 
   public void prepareAndSendContributorEvents(List<ResourceEvent> resourceEvents) {
-    prepareAndSendEvents(resourceEvents, this::getContributorEvents);
+    prepareAndSendEvents(resourceEvents,
+      event -> getFanOutEvents(event, INSTANCE_CONTRIBUTORS_FIELD_NAME, this::getContributorEvents));
   }
 
   public void prepareAndSendSubjectEvents(List<ResourceEvent> resourceEvents) {
-    prepareAndSendEvents(resourceEvents, this::getSubjectsEvents);
+    prepareAndSendEvents(resourceEvents, event -> getFanOutEvents(event, SUBJECTS_FIELD, this::getSubjectsEvents));
   }
 
   private void prepareAndSendEvents(List<ResourceEvent> resourceEvents,
                                     Function<ResourceEvent, List<ProducerRecord<String, ResourceEvent>>> toEventsFunc) {
     if (isNotEmpty(resourceEvents)) {
-      resourceEvents.stream()
+      var producerRecords = resourceEvents.stream()
         .filter(Objects::nonNull)
         .map(toEventsFunc)
         .flatMap(List::stream)
-        .forEach(kafkaTemplate::send);
+        .toList();
+      sendAndAwait(producerRecords);
+    }
+  }
+
+  /**
+   * Sends all records of the batch and waits for their acknowledgements together, so a failed send fails the
+   * processed batch of instances and it can be retried.
+   *
+   * <p>The producer is not flushed, records are sent when the configured linger time is elapsed or the batch is
+   * full, so events of concurrent listener threads can be sent together.</p>
+   */
+  private void sendAndAwait(List<ProducerRecord<String, ResourceEvent>> producerRecords) {
+    if (producerRecords.isEmpty()) {
+      return;
+    }
+
+    var futures = producerRecords.stream().map(kafkaTemplate::send).toArray(CompletableFuture[]::new);
+
+    try {
+      CompletableFuture.allOf(futures).get(eventProducerProperties.getSendTimeoutMs(), TimeUnit.MILLISECONDS);
+      log.debug("sendAndAwait:: events sent to Kafka [total: {}]", producerRecords.size());
+    } catch (ExecutionException e) {
+      throw new SearchServiceException("Failed to send events to Kafka [total: " + producerRecords.size() + "]",
+        e.getCause());
+    } catch (TimeoutException e) {
+      throw new SearchServiceException(String.format("Failed to send events to Kafka in %s ms [total: %s]",
+        eventProducerProperties.getSendTimeoutMs(), producerRecords.size()), e);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new SearchServiceException("Interrupted while sending events to Kafka", e);
+    }
+  }
+
+  /**
+   * Prepares contributor or subject events only if the raw field values of the instance could be changed, the
+   * values are compared for equality before they are converted and compared by items.
+   */
+  private List<ProducerRecord<String, ResourceEvent>> getFanOutEvents(
+    ResourceEvent event, String fieldName, Function<ResourceEvent, List<ProducerRecord<String, ResourceEvent>>> func) {
+    if (!isUpdateEventForResourceSharing(event) && isFieldValueNotChanged(event, fieldName)) {
+      fanOutCounter(fieldName, SKIPPED_OUTCOME).increment();
+      return emptyList();
     }
+
+    var producerRecords = func.apply(event);
+    fanOutCounter(fieldName, producerRecords.isEmpty() ? UNCHANGED_OUTCOME : EMITTED_OUTCOME).increment();
+    return producerRecords;
+  }
+
+  private static boolean isFieldValueNotChanged(ResourceEvent event, String fieldName) {
+    var oldMap = getOldAsMap(event);
+    if (oldMap.containsKey(INSTANCE_ID_FIELD)) {
+      // the event is caused by a holding or item change, the old payload is not an instance
+      return true;
+    }
+
+    var oldValue = oldMap.get(fieldName);
+    var newValue = getNewAsMap(event).get(fieldName);
+    return Objects.equals(oldValue, newValue);
+  }
+
+  private Counter fanOutCounter(String fieldName, String outcome) {
+    return fanOutCounters.get(fieldName).get(outcome);
+  }
+
+  private static Map<String, Counter> fanOutCounters(String fieldName, MeterRegistry meterRegistry) {
+    return Map.of(
+      SKIPPED_OUTCOME, fanOutCounter(fieldName, SKIPPED_OUTCOME, meterRegistry),
+      UNCHANGED_OUTCOME, fanOutCounter(fieldName, UNCHANGED_OUTCOME, meterRegistry),
+      EMITTED_OUTCOME, fanOutCounter(fieldName, EMITTED_OUTCOME, meterRegistry));
+  }
+
+  private static Counter fanOutCounter(String fieldName, String outcome, MeterRegistry meterRegistry) {
+    return Counter.builder(FAN_OUT_METRIC)
+      .description("Number of instance events by outcome of contributor and subject events preparation")
+      .tag("field", fieldName)
+      .tag("outcome", outcome)
+      .register(meterRegistry);
   }
 
   private List<ProducerRecord<String, ResourceEvent>> getSubjectsEvents(ResourceEvent event) {
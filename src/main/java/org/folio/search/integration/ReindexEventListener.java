@@ -0,0 +1,44 @@
+package org.folio.search.integration;
+
+import static org.folio.search.utils.KafkaConstants.REINDEX_EVENT_LISTENER_NAME;
+
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.folio.search.domain.dto.ResourceEvent;
+import org.folio.search.utils.KafkaConstants;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Consumes REINDEX instance events using a separate consumer group, so that reindex traffic doesn't delay the user
+ * changes consumed by {@link KafkaMessageListener#handleInstanceEvents(List)}.
+ */
+@Log4j2
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "folio.event-processing.priority-lanes", name = "enabled", havingValue = "true")
+public class ReindexEventListener {
+
+  private final KafkaMessageListener kafkaMessageListener;
+
+  /**
+   * Handles REINDEX instance events and indexes them by id, other events are skipped.
+   *
+   * @param consumerRecords - list of consumer records from Apache Kafka to process.
+   */
+  @KafkaListener(
+    id = KafkaConstants.REINDEX_EVENT_LISTENER_ID,
+    containerFactory = "instanceEventListenerContainerFactory",
+    topicPattern = "#{folioKafkaProperties.listener['reindex-events'].topicPattern}",
+    groupId = "#{folioKafkaProperties.listener['reindex-events'].groupId}",
+    concurrency = "#{folioKafkaProperties.listener['reindex-events'].concurrency}",
+    properties = "max.poll.records=#{eventProcessingProperties.priorityLanes.reindexMaxPollRecords}")
+  public void handleReindexEvents(List<ConsumerRecord<String, ResourceEvent>> consumerRecords) {
+    log.info("Processing instance ids from kafka reindex events [number of events: {}]", consumerRecords.size());
+    var reindexRecords = consumerRecords.stream().filter(KafkaMessageListener::isReindexEvent).toList();
+    kafkaMessageListener.handleInstanceEvents(reindexRecords, REINDEX_EVENT_LISTENER_NAME);
+  }
+}
@@ -9,30 +9,53 @@ import static org.folio.search.utils.CollectionUtils.findLast;
 import static org.folio.search.utils.SearchConverterUtils.getResourceEventId;
 import static org.folio.search.utils.SearchUtils.INSTANCE_RESOURCE;
 
+import feign.Request;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import lombok.RequiredArgsConstructor;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 import lombok.extern.log4j.Log4j2;
 import org.apache.commons.collections.CollectionUtils;
 import org.folio.search.client.InventoryViewClient;
 import org.folio.search.client.InventoryViewClient.InstanceView;
+import org.folio.search.configuration.properties.ResourceFetchProperties;
 import org.folio.search.domain.dto.ResourceEvent;
 import org.folio.search.domain.dto.ResourceEventType;
+import org.folio.search.exception.SearchServiceException;
 import org.folio.search.model.client.CqlQueryParam;
-import org.folio.search.model.service.ResultList;
 import org.folio.spring.FolioExecutionContext;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 
 @Log4j2
 @Service
-@RequiredArgsConstructor
 public class ResourceFetchService {
 
-  private static final int BATCH_SIZE = 50;
+  private static final String FETCH_BATCH_METRIC = "search.inventory.fetch.batch";
 
   private final InventoryViewClient inventoryClient;
   private final FolioExecutionContext context;
+  private final ResourceFetchProperties resourceFetchProperties;
+  private final Executor resourceFetchExecutor;
+  private final Timer successTimer;
+  private final Timer failureTimer;
+
+  public ResourceFetchService(InventoryViewClient inventoryClient, FolioExecutionContext context,
+                              ResourceFetchProperties resourceFetchProperties,
+                              @Qualifier("resourceFetchExecutor") Executor resourceFetchExecutor,
+                              MeterRegistry meterRegistry) {
+    this.inventoryClient = inventoryClient;
+    this.context = context;
+    this.resourceFetchProperties = resourceFetchProperties;
+    this.resourceFetchExecutor = resourceFetchExecutor;
+    this.successTimer = fetchBatchTimer("success", meterRegistry);
+    this.failureTimer = fetchBatchTimer("failure", meterRegistry);
+  }
 
   /**
    * Fetches instances from inventory-storage module using CQL query.
@@ -52,13 +75,71 @@ public class ResourceFetchService {
     var eventsById = events.stream().collect(groupingBy(ResourceEvent::getId, LinkedHashMap::new, toList()));
     var instanceIdList = List.copyOf(eventsById.keySet());
     var tenantId = context.getTenantId();
-    return partition(instanceIdList, BATCH_SIZE).stream()
-      .map(batchIds -> inventoryClient.getInstances(exactMatchAny(CqlQueryParam.ID, batchIds), batchIds.size()))
-      .map(ResultList::getResult)
-      .flatMap(instanceViews -> instanceViews.stream()
-        .map(InstanceView::toInstance)
-        .map(instanceMap -> mapToResourceEvent(tenantId, instanceMap, eventsById)))
+    return fetchInstanceViews(instanceIdList).stream()
+      .map(InstanceView::toInstance)
+      .map(instanceMap -> mapToResourceEvent(tenantId, instanceMap, eventsById))
+      .toList();
+  }
+
+  /**
+   * Fetches instance views by batches, batches are requested concurrently using the bounded executor, that
+   * propagates FOLIO execution context, and results are returned in the order of batches.
+   *
+   * <p>Each inventory view call is limited by the configured timeout on the HTTP client level, so the call is
+   * cancelled when the timeout is exceeded. Calls are not retried, a failed batch fails the whole fetch, and it is
+   * retried by the Kafka listener retry policy.</p>
+   */
+  private List<InstanceView> fetchInstanceViews(List<String> instanceIds) {
+    var batches = partition(instanceIds, resourceFetchProperties.getBatchSize());
+    if (batches.size() == 1) {
+      return fetchBatch(batches.get(0));
+    }
+
+    log.debug("fetchInstanceViews:: fetching instances in parallel [instances: {}, batches: {}]",
+      instanceIds.size(), batches.size());
+    var futures = batches.stream()
+      .map(batchIds -> CompletableFuture.supplyAsync(() -> fetchBatch(batchIds), resourceFetchExecutor))
       .toList();
+
+    try {
+      CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+    } catch (CompletionException e) {
+      throw handleFetchFailure(e.getCause());
+    }
+
+    return futures.stream().flatMap(future -> future.join().stream()).toList();
+  }
+
+  private List<InstanceView> fetchBatch(List<String> batchIds) {
+    var startTime = System.nanoTime();
+    var timer = failureTimer;
+    try {
+      var instanceViews = inventoryClient.getInstances(exactMatchAny(CqlQueryParam.ID, batchIds), batchIds.size(),
+        requestOptions()).getResult();
+      timer = successTimer;
+      return instanceViews;
+    } finally {
+      timer.record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+    }
+  }
+
+  private Request.Options requestOptions() {
+    var timeoutMs = resourceFetchProperties.getTimeoutMs();
+    return new Request.Options(timeoutMs, TimeUnit.MILLISECONDS, timeoutMs, TimeUnit.MILLISECONDS, true);
+  }
+
+  private RuntimeException handleFetchFailure(Throwable cause) {
+    if (cause instanceof RuntimeException runtimeException) {
+      return runtimeException;
+    }
+    return new SearchServiceException("Failed to fetch instances from inventory", cause);
+  }
+
+  private static Timer fetchBatchTimer(String outcome, MeterRegistry meterRegistry) {
+    return Timer.builder(FETCH_BATCH_METRIC)
+      .description("Time spent to fetch a single batch of instances from inventory view")
+      .tag("outcome", outcome)
+      .register(meterRegistry);
   }
 
   private static ResourceEvent mapToResourceEvent(String tenantId, Map<String, Object> instanceMap,
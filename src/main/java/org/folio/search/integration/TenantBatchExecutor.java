@@ -0,0 +1,121 @@
+package org.folio.search.integration;
+
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.BiConsumer;
+import lombok.extern.log4j.Log4j2;
+import org.folio.search.configuration.properties.EventProcessingProperties;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+/**
+ * Executes tenant slices of a single Kafka poll, sequentially or concurrently depending on configuration.
+ */
+@Log4j2
+@Component
+public class TenantBatchExecutor {
+
+  private final Executor tenantBatchExecutor;
+  private final EventProcessingProperties eventProcessingProperties;
+  private final Map<String, TenantQueue> tenantQueues = new ConcurrentHashMap<>();
+
+  public TenantBatchExecutor(@Qualifier("tenantBatchExecutor") Executor tenantBatchExecutor,
+                             EventProcessingProperties eventProcessingProperties) {
+    this.tenantBatchExecutor = tenantBatchExecutor;
+    this.eventProcessingProperties = eventProcessingProperties;
+  }
+
+  /**
+   * Processes tenant slices of the batch and returns only when all of them are finished.
+   *
+   * <p>If tenant parallelism is enabled, slices are put to the per-tenant queues and processed on the bounded
+   * executor. The number of executor threads draining the queue of a single tenant is limited by the configured
+   * per-tenant concurrency, so the executor threads never wait for a tenant to become available.</p>
+   *
+   * @param batchByTenant  batch values grouped by tenant id
+   * @param tenantConsumer consumer of a single tenant slice, where first - is the tenant id, second - tenant values
+   * @param <T>            generic type for batch value
+   */
+  public <T> void execute(Map<String, List<T>> batchByTenant, BiConsumer<String, List<T>> tenantConsumer) {
+    if (!eventProcessingProperties.getTenantParallelism().isEnabled()) {
+      batchByTenant.forEach(tenantConsumer);
+      return;
+    }
+
+    log.debug("execute:: processing tenant slices in parallel [tenants: {}]", batchByTenant.keySet());
+    var futures = batchByTenant.entrySet().stream()
+      .map(entry -> submit(entry.getKey(), () -> tenantConsumer.accept(entry.getKey(), entry.getValue())))
+      .toArray(CompletableFuture[]::new);
+
+    try {
+      CompletableFuture.allOf(futures).join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      throw e;
+    }
+  }
+
+  private CompletableFuture<Void> submit(String tenant, Runnable tenantSlice) {
+    var future = new CompletableFuture<Void>();
+    var tenantQueue = tenantQueues.computeIfAbsent(tenant, key -> new TenantQueue());
+    var maxTenantConcurrency = eventProcessingProperties.getTenantParallelism().getMaxTenantConcurrency();
+    boolean startWorker;
+    synchronized (tenantQueue) {
+      tenantQueue.slices.add(() -> runSlice(tenantSlice, future));
+      startWorker = tenantQueue.workers < maxTenantConcurrency;
+      if (startWorker) {
+        tenantQueue.workers++;
+      }
+    }
+
+    if (startWorker) {
+      try {
+        tenantBatchExecutor.execute(() -> drain(tenantQueue));
+      } catch (RejectedExecutionException e) {
+        drain(tenantQueue);
+      }
+    }
+    return future;
+  }
+
+  /**
+   * Processes queued tenant slices one after another until the queue is empty.
+   */
+  private static void drain(TenantQueue tenantQueue) {
+    while (true) {
+      Runnable slice;
+      synchronized (tenantQueue) {
+        slice = tenantQueue.slices.poll();
+        if (slice == null) {
+          tenantQueue.workers--;
+          return;
+        }
+      }
+      slice.run();
+    }
+  }
+
+  private static void runSlice(Runnable tenantSlice, CompletableFuture<Void> future) {
+    try {
+      tenantSlice.run();
+      future.complete(null);
+    } catch (Throwable e) {
+      future.completeExceptionally(e);
+    }
+  }
+
+  private static final class TenantQueue {
+
+    private final Queue<Runnable> slices = new ArrayDeque<>();
+    private int workers;
+  }
+}
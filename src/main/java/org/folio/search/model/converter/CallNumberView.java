@@ -0,0 +1,65 @@
+package org.folio.search.model.converter;
+
+import static java.util.Collections.emptyList;
+import static org.apache.commons.lang3.StringUtils.isNotEmpty;
+import static org.folio.search.utils.CallNumberUtils.getEffectiveCallNumber;
+import static org.folio.search.utils.CallNumberUtils.normalizeCallNumberComponents;
+
+import java.util.List;
+import org.folio.search.domain.dto.Holding;
+import org.folio.search.domain.dto.Item;
+import org.folio.search.model.types.CallNumberType;
+
+/**
+ * Call number of an item or a holding, computed once per resource and shared by the call number field processors.
+ *
+ * @param typeId                call number type id, null for holdings
+ * @param type                  FOLIO call number type resolved from the type id, null if the type is not known
+ * @param shelvingOrder         effective shelving order, null for holdings
+ * @param effectiveCallNumber   call number joined from prefix, call number and suffix, null if item has no call
+ *                              number components
+ * @param normalizedCallNumbers normalized call numbers with and without prefix, empty if there is no call number
+ */
+public record CallNumberView(String typeId, CallNumberType type, String shelvingOrder, String effectiveCallNumber,
+                             List<String> normalizedCallNumbers) {
+
+  /**
+   * Creates call number view for the given item.
+   *
+   * @param item - item as {@link Item} object
+   * @return created {@link CallNumberView} object
+   */
+  public static CallNumberView of(Item item) {
+    var components = item.getEffectiveCallNumberComponents();
+    if (components == null) {
+      return new CallNumberView(null, null, item.getEffectiveShelvingOrder(), null, emptyList());
+    }
+
+    var prefix = components.getPrefix();
+    var callNumber = components.getCallNumber();
+    var suffix = components.getSuffix();
+    var typeId = components.getTypeId();
+    return new CallNumberView(typeId, CallNumberType.fromId(typeId).orElse(null),
+      item.getEffectiveShelvingOrder(), getEffectiveCallNumber(prefix, callNumber, suffix),
+      List.of(normalizeCallNumberComponents(prefix, callNumber, suffix),
+        normalizeCallNumberComponents(callNumber, suffix)));
+  }
+
+  /**
+   * Creates call number view for the given holding.
+   *
+   * @param holding - holding as {@link Holding} object
+   * @return created {@link CallNumberView} object
+   */
+  public static CallNumberView of(Holding holding) {
+    var prefix = holding.getCallNumberPrefix();
+    var callNumber = holding.getCallNumber();
+    var suffix = holding.getCallNumberSuffix();
+    List<String> normalizedCallNumbers = isNotEmpty(callNumber) || isNotEmpty(prefix)
+      ? List.of(normalizeCallNumberComponents(prefix, callNumber, suffix),
+        normalizeCallNumberComponents(callNumber, suffix))
+      : emptyList();
+    return new CallNumberView(null, null, null, getEffectiveCallNumber(prefix, callNumber, suffix),
+      normalizedCallNumbers);
+  }
+}
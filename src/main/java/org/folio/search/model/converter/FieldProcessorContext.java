@@ -0,0 +1,79 @@
+package org.folio.search.model.converter;
+
+import static org.folio.search.utils.CollectionUtils.toStreamSafe;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.folio.search.domain.dto.Instance;
+
+/**
+ * The field processors context object, it is created once per resource and shared by all its field processors.
+ *
+ * <p>Derived views of the resource are computed by the first field processor requesting them, other processors of
+ * the same resource reuse them.</p>
+ */
+@Getter
+@RequiredArgsConstructor(staticName = "of")
+public class FieldProcessorContext {
+
+  private static final String ITEM_CALL_NUMBERS_VIEW = "itemCallNumbers";
+  private static final String HOLDING_CALL_NUMBERS_VIEW = "holdingCallNumbers";
+
+  /**
+   * Raw resource data.
+   */
+  private final Map<String, Object> data;
+
+  /**
+   * Typed resource object, converted from the raw data, or the raw data itself if resource class is not specified.
+   */
+  private final Object resource;
+
+  @Getter(AccessLevel.NONE)
+  private final Map<String, Object> views = new HashMap<>();
+
+  /**
+   * Provides derived view of the resource by its name, it is computed using the given supplier only once.
+   *
+   * @param name         - view name as {@link String} object
+   * @param viewSupplier - view supplier, that is used if the view is not computed yet
+   * @param <V>          - generic type for view value
+   * @return resource view
+   */
+  @SuppressWarnings("unchecked")
+  public <V> V getView(String name, Supplier<V> viewSupplier) {
+    var view = views.get(name);
+    if (view == null) {
+      view = viewSupplier.get();
+      views.put(name, view);
+    }
+    return (V) view;
+  }
+
+  /**
+   * Provides call numbers of the instance items, in the order of the items.
+   *
+   * @return {@link List} with {@link CallNumberView} per item, empty if resource is not an instance
+   */
+  public List<CallNumberView> getItemCallNumbers() {
+    return getView(ITEM_CALL_NUMBERS_VIEW, () -> resource instanceof Instance instance
+      ? toStreamSafe(instance.getItems()).map(CallNumberView::of).toList()
+      : List.of());
+  }
+
+  /**
+   * Provides call numbers of the instance holdings, in the order of the holdings.
+   *
+   * @return {@link List} with {@link CallNumberView} per holding, empty if resource is not an instance
+   */
+  public List<CallNumberView> getHoldingCallNumbers() {
+    return getView(HOLDING_CALL_NUMBERS_VIEW, () -> resource instanceof Instance instance
+      ? toStreamSafe(instance.getHoldings()).map(CallNumberView::of).toList()
+      : List.of());
+  }
+}
@@ -0,0 +1,78 @@
+package org.folio.search.model.metadata;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * Trie of the dotted field paths, where each node corresponds to a single path segment.
+ *
+ * <p>Used to check if a nested field belongs to the set of paths while walking the resource, without building the
+ * dotted path strings: the walker keeps the current node and moves to its child per nested key.</p>
+ */
+public final class FieldPathNode {
+
+  /**
+   * Node without children, that is returned for paths outside the trie.
+   */
+  public static final FieldPathNode EMPTY = new FieldPathNode();
+
+  private static final char PATH_SEPARATOR = '.';
+
+  private final Map<String, FieldPathNode> children = new HashMap<>();
+  private boolean matched;
+
+  private FieldPathNode() {
+  }
+
+  /**
+   * Builds the trie for the given dotted field paths.
+   *
+   * @param paths - dotted field paths as {@link Collection} of {@link String} objects
+   * @return root {@link FieldPathNode} of the trie
+   */
+  public static FieldPathNode of(Collection<String> paths) {
+    var root = new FieldPathNode();
+    for (var path : paths) {
+      var node = root;
+      for (var segment : StringUtils.splitPreserveAllTokens(path, PATH_SEPARATOR)) {
+        node = node.children.computeIfAbsent(segment, key -> new FieldPathNode());
+      }
+      node.matched = true;
+    }
+    return root;
+  }
+
+  /**
+   * Provides the child node for the given key, keys containing dots are resolved segment by segment.
+   *
+   * @param key - nested field key as {@link String} object
+   * @return child {@link FieldPathNode} object, {@link #EMPTY} if there is no paths with this key
+   */
+  public FieldPathNode getChild(String key) {
+    var child = children.get(key);
+    if (child != null) {
+      return child;
+    }
+
+    if (key == null || key.indexOf(PATH_SEPARATOR) < 0) {
+      return EMPTY;
+    }
+
+    var node = this;
+    for (var segment : StringUtils.splitPreserveAllTokens(key, PATH_SEPARATOR)) {
+      node = node.children.getOrDefault(segment, EMPTY);
+    }
+    return node;
+  }
+
+  /**
+   * Checks if path to this node is one of the trie paths.
+   *
+   * @return true if the path to this node is one of the trie paths, false - otherwise
+   */
+  public boolean isMatched() {
+    return matched;
+  }
+}
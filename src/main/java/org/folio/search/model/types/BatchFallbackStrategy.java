@@ -0,0 +1,14 @@
+package org.folio.search.model.types;
+
+public enum BatchFallbackStrategy {
+
+  /**
+   * Failed batch is re-processed by single value at one time.
+   */
+  ONE_BY_ONE,
+
+  /**
+   * Failed batch is split in halves recursively until failed values are isolated.
+   */
+  BISECT
+}
@@ -9,10 +9,22 @@ import static org.folio.search.utils.SearchUtils.performExceptionalOperation;
 import static org.opensearch.client.RequestOptions.DEFAULT;
 import static org.opensearch.index.query.QueryBuilders.termQuery;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Stream;
 import lombok.extern.log4j.Log4j2;
 import org.apache.commons.collections4.CollectionUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.folio.search.configuration.properties.BulkIndexingProperties;
+import org.folio.search.domain.dto.FailedIndexItem;
 import org.folio.search.domain.dto.FolioIndexOperationResponse;
+import org.folio.search.exception.SearchOperationException;
 import org.folio.search.model.index.SearchDocumentBody;
 import org.opensearch.action.DocWriteRequest;
 import org.opensearch.action.bulk.BulkItemResponse;
@@ -21,6 +33,8 @@ import org.opensearch.action.bulk.BulkResponse;
 import org.opensearch.action.delete.DeleteRequest;
 import org.opensearch.action.index.IndexRequest;
 import org.opensearch.client.RestHighLevelClient;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.rest.RestStatus;
 import org.opensearch.index.reindex.BulkByScrollResponse;
 import org.opensearch.index.reindex.DeleteByQueryRequest;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -30,6 +44,7 @@ public abstract class AbstractResourceRepository implements ResourceRepository {
 
   protected RestHighLevelClient elasticsearchClient;
   protected IndexNameProvider indexNameProvider;
+  protected BulkIndexingProperties bulkIndexingProperties = new BulkIndexingProperties();
 
   @Override
   public FolioIndexOperationResponse indexResources(List<SearchDocumentBody> documents) {
@@ -39,10 +54,17 @@ public abstract class AbstractResourceRepository implements ResourceRepository {
 
     var bulkRequest = prepareBulkRequest(documents);
     var bulkApiResponse = executeBulkRequest(bulkRequest);
+    return toIndexOperationResponse(bulkApiResponse);
+  }
+
+  @Override
+  public CompletableFuture<FolioIndexOperationResponse> indexResourcesAsync(List<SearchDocumentBody> documents) {
+    if (CollectionUtils.isEmpty(documents)) {
+      return CompletableFuture.completedFuture(getSuccessIndexOperationResponse());
+    }
 
-    return bulkApiResponse.hasFailures()
-           ? getErrorIndexOperationResponse(bulkApiResponse.buildFailureMessage())
-           : getSuccessIndexOperationResponse();
+    var bulkRequest = prepareBulkRequest(documents);
+    return executeBulkRequestAsync(bulkRequest).thenApply(AbstractResourceRepository::toIndexOperationResponse);
   }
 
   @Override
@@ -68,9 +90,51 @@ public abstract class AbstractResourceRepository implements ResourceRepository {
     this.elasticsearchClient = elasticsearchClient;
   }
 
+  @Autowired
+  public void setBulkIndexingProperties(BulkIndexingProperties bulkIndexingProperties) {
+    this.bulkIndexingProperties = bulkIndexingProperties;
+  }
+
+  /**
+   * Executes bulk request and re-submits bulk items failed with retryable failure (too many requests, version
+   * conflict, rejected execution) using exponential backoff. Successfully processed items are not re-submitted.
+   *
+   * <p>Failed items are re-submitted the same way as by {@link #executeBulkRequestAsync(BulkRequest)}, using the
+   * delayed executor, the calling thread only waits for the final response.</p>
+   *
+   * @param bulkRequest - bulk request to execute
+   * @return {@link BulkResponse} with the last response for each item of the given bulk request
+   */
   protected BulkResponse executeBulkRequest(BulkRequest bulkRequest) {
-    var indicesString = bulkRequest.requests().stream().map(DocWriteRequest::index).collect(joining(","));
-    return performExceptionalOperation(() -> elasticsearchClient.bulk(bulkRequest, DEFAULT), indicesString, "bulkApi");
+    var bulkResponse = executeBulkRequestOnce(bulkRequest);
+    var initialBackoffMs = bulkIndexingProperties.getRetry().getInitialBackoffMs();
+    try {
+      var result = retryFailedItemsAsync(bulkRequest, bulkResponse, 1, initialBackoffMs).join();
+      logFailedItems(result);
+      return result;
+    } catch (CompletionException e) {
+      throw getBulkRequestException(getIndicesString(bulkRequest), e);
+    }
+  }
+
+  /**
+   * Executes bulk request without blocking the calling thread, retryable failed bulk items are re-submitted the same
+   * way as by {@link #executeBulkRequest(BulkRequest)}.
+   *
+   * @param bulkRequest - bulk request to execute
+   * @return {@link CompletableFuture} with the last response for each item of the given bulk request
+   */
+  protected CompletableFuture<BulkResponse> executeBulkRequestAsync(BulkRequest bulkRequest) {
+    var indicesString = getIndicesString(bulkRequest);
+    var retrySettings = bulkIndexingProperties.getRetry();
+    return executeBulkRequestOnceAsync(bulkRequest)
+      .thenCompose(response -> retryFailedItemsAsync(bulkRequest, response, 1, retrySettings.getInitialBackoffMs()))
+      .whenComplete((response, error) -> {
+        if (response != null) {
+          logFailedItems(response);
+        }
+      })
+      .exceptionallyCompose(error -> CompletableFuture.failedFuture(getBulkRequestException(indicesString, error)));
   }
 
   protected BulkRequest prepareBulkRequest(List<SearchDocumentBody> documents) {
@@ -103,6 +167,205 @@ public abstract class AbstractResourceRepository implements ResourceRepository {
     return new DeleteRequest(indexNameProvider.getIndexName(doc)).id(doc.getId());
   }
 
+  private BulkResponse executeBulkRequestOnce(BulkRequest bulkRequest) {
+    var bulkRequests = splitBulkRequest(bulkRequest);
+    var indicesString = getIndicesString(bulkRequest);
+    if (bulkRequests.size() == 1) {
+      return performExceptionalOperation(() -> elasticsearchClient.bulk(bulkRequest, DEFAULT), indicesString,
+        "bulkApi");
+    }
+
+    log.debug("executeBulkRequestOnce:: bulk request is split [actions: {}, bulks: {}]",
+      bulkRequest.numberOfActions(), bulkRequests.size());
+    var bulkResponses = performExceptionalOperation(() -> sendBulkRequestsAsync(bulkRequests).join(),
+      indicesString, "bulkApi");
+    return mergeBulkResponses(bulkResponses);
+  }
+
+  private CompletableFuture<BulkResponse> executeBulkRequestOnceAsync(BulkRequest bulkRequest) {
+    var bulkRequests = splitBulkRequest(bulkRequest);
+    return bulkRequests.size() == 1
+           ? sendBulkRequestAsync(bulkRequest)
+           : sendBulkRequestsAsync(bulkRequests).thenApply(AbstractResourceRepository::mergeBulkResponses);
+  }
+
+  private CompletableFuture<BulkResponse> retryFailedItemsAsync(BulkRequest bulkRequest, BulkResponse bulkResponse,
+                                                                int attempt, long backoffMs) {
+    var retryableItemIds = getRetryableItemIds(bulkResponse);
+    if (retryableItemIds.isEmpty() || attempt > bulkIndexingProperties.getRetry().getAttempts()) {
+      return CompletableFuture.completedFuture(bulkResponse);
+    }
+
+    log.info("executeBulkRequestAsync:: re-submitting failed bulk items [attempt: {}, items: {}, backoff: {}ms]",
+      attempt, retryableItemIds.size(), backoffMs);
+    var retryRequest = prepareRetryRequest(bulkRequest, retryableItemIds);
+    var delayedExecutor = CompletableFuture.delayedExecutor(backoffMs, TimeUnit.MILLISECONDS);
+    return CompletableFuture.supplyAsync(() -> executeBulkRequestOnceAsync(retryRequest), delayedExecutor)
+      .thenCompose(Function.identity())
+      .thenApply(retryResponse -> mergeRetryResponse(bulkResponse, retryableItemIds, retryResponse))
+      .thenCompose(response -> retryFailedItemsAsync(bulkRequest, response, attempt + 1, getNextBackoff(backoffMs)));
+  }
+
+  /**
+   * Splits bulk request into several requests bounded by configured maximum number of actions and size of
+   * document bodies.
+   */
+  private List<BulkRequest> splitBulkRequest(BulkRequest bulkRequest) {
+    var maxActions = bulkIndexingProperties.getMaxActions();
+    var maxBytes = bulkIndexingProperties.getMaxBytes();
+    var bulkRequests = new ArrayList<BulkRequest>();
+    var currentRequest = new BulkRequest();
+    var currentBytes = 0L;
+    for (var request : bulkRequest.requests()) {
+      var requestBytes = getDocumentSizeInBytes(request);
+      var numberOfActions = currentRequest.numberOfActions();
+      if (numberOfActions > 0 && (numberOfActions >= maxActions || currentBytes + requestBytes > maxBytes)) {
+        bulkRequests.add(currentRequest);
+        currentRequest = new BulkRequest();
+        currentBytes = 0L;
+      }
+      currentRequest.add(request);
+      currentBytes += requestBytes;
+    }
+
+    bulkRequests.add(currentRequest);
+    return bulkRequests;
+  }
+
+  /**
+   * Sends bulk requests using bounded number of lanes, bulk requests of a single lane are sent one after another.
+   */
+  private CompletableFuture<List<BulkResponse>> sendBulkRequestsAsync(List<BulkRequest> bulkRequests) {
+    var responses = new BulkResponse[bulkRequests.size()];
+    var lanes = Math.min(bulkIndexingProperties.getConcurrency(), bulkRequests.size());
+    var laneFutures = new CompletableFuture<?>[lanes];
+    for (int lane = 0; lane < lanes; lane++) {
+      var laneFuture = CompletableFuture.<Void>completedFuture(null);
+      for (int i = lane; i < bulkRequests.size(); i += lanes) {
+        var requestIndex = i;
+        laneFuture = laneFuture
+          .thenCompose(ignored -> sendBulkRequestAsync(bulkRequests.get(requestIndex)))
+          .thenAccept(response -> responses[requestIndex] = response);
+      }
+      laneFutures[lane] = laneFuture;
+    }
+
+    return CompletableFuture.allOf(laneFutures).thenApply(ignored -> List.of(responses));
+  }
+
+  private CompletableFuture<BulkResponse> sendBulkRequestAsync(BulkRequest bulkRequest) {
+    var future = new CompletableFuture<BulkResponse>();
+    elasticsearchClient.bulkAsync(bulkRequest, DEFAULT,
+      ActionListener.wrap(future::complete, future::completeExceptionally));
+    return future;
+  }
+
+  private static BulkResponse mergeBulkResponses(List<BulkResponse> bulkResponses) {
+    var items = new ArrayList<BulkItemResponse>();
+    var tookInMillis = 0L;
+    for (var bulkResponse : bulkResponses) {
+      var offset = items.size();
+      for (var item : bulkResponse.getItems()) {
+        items.add(withItemId(item, offset + item.getItemId()));
+      }
+      tookInMillis = Math.max(tookInMillis, bulkResponse.getTook().millis());
+    }
+    return new BulkResponse(items.toArray(BulkItemResponse[]::new), tookInMillis);
+  }
+
+  private static long getDocumentSizeInBytes(DocWriteRequest<?> request) {
+    return request instanceof IndexRequest indexRequest && indexRequest.source() != null
+           ? indexRequest.source().length()
+           : 0L;
+  }
+
+  private static List<Integer> getRetryableItemIds(BulkResponse bulkResponse) {
+    var items = bulkResponse.getItems();
+    if (!bulkResponse.hasFailures() || items == null) {
+      return Collections.emptyList();
+    }
+
+    var retryableItemIds = new ArrayList<Integer>();
+    for (int i = 0; i < items.length; i++) {
+      if (items[i].isFailed() && isRetryableFailure(items[i].getFailure())) {
+        retryableItemIds.add(i);
+      }
+    }
+    return retryableItemIds;
+  }
+
+  private static BulkRequest prepareRetryRequest(BulkRequest bulkRequest, List<Integer> retryableItemIds) {
+    var retryRequest = new BulkRequest();
+    retryableItemIds.forEach(itemId -> retryRequest.add(bulkRequest.requests().get(itemId)));
+    return retryRequest;
+  }
+
+  private static BulkResponse mergeRetryResponse(BulkResponse bulkResponse, List<Integer> retryableItemIds,
+                                                 BulkResponse retryResponse) {
+    var items = bulkResponse.getItems().clone();
+    var retryItems = retryResponse.getItems();
+    for (int i = 0; i < retryItems.length; i++) {
+      items[retryableItemIds.get(i)] = withItemId(retryItems[i], retryableItemIds.get(i));
+    }
+    return new BulkResponse(items, bulkResponse.getTook().millis() + retryResponse.getTook().millis());
+  }
+
+  private long getNextBackoff(long backoffMs) {
+    var retrySettings = bulkIndexingProperties.getRetry();
+    return Math.min((long) (backoffMs * retrySettings.getMultiplier()), retrySettings.getMaxBackoffMs());
+  }
+
+  private static boolean isRetryableFailure(BulkItemResponse.Failure failure) {
+    var status = failure.getStatus();
+    return status == RestStatus.TOO_MANY_REQUESTS
+      || status == RestStatus.CONFLICT
+      || StringUtils.contains(failure.getMessage(), "rejected_execution_exception");
+  }
+
+  private static BulkItemResponse withItemId(BulkItemResponse item, int itemId) {
+    return item.isFailed()
+           ? BulkItemResponse.failure(itemId, item.getOpType(), item.getFailure())
+           : BulkItemResponse.success(itemId, item.getOpType(), item.getResponse());
+  }
+
+  private static void logFailedItems(BulkResponse bulkResponse) {
+    if (bulkResponse.hasFailures() && bulkResponse.getItems() != null) {
+      var failedItems = Arrays.stream(bulkResponse.getItems())
+        .filter(BulkItemResponse::isFailed)
+        .map(item -> item.getId() + " (" + item.getFailure().getStatus() + ")")
+        .collect(joining(", "));
+      log.warn("Failed to index bulk items [items: {}]", failedItems);
+    }
+  }
+
+  private static FolioIndexOperationResponse toIndexOperationResponse(BulkResponse bulkResponse) {
+    if (!bulkResponse.hasFailures()) {
+      return getSuccessIndexOperationResponse();
+    }
+
+    var failedItems = Stream.ofNullable(bulkResponse.getItems())
+      .flatMap(Arrays::stream)
+      .filter(BulkItemResponse::isFailed)
+      .map(item -> new FailedIndexItem().id(item.getId()).status(item.getFailure().getStatus().getStatus()))
+      .toList();
+    return getErrorIndexOperationResponse(bulkResponse.buildFailureMessage(), failedItems);
+  }
+
+  private static String getIndicesString(BulkRequest bulkRequest) {
+    return bulkRequest.requests().stream().map(DocWriteRequest::index).collect(joining(","));
+  }
+
+  private static SearchOperationException getBulkRequestException(String indicesString, Throwable error) {
+    var cause = unwrap(error);
+    return new SearchOperationException(String.format(
+      "Failed to perform elasticsearch request [index=%s, type=bulkApi, message: %s]",
+      indicesString, cause.getMessage()), cause);
+  }
+
+  private static Throwable unwrap(Throwable error) {
+    return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+  }
+
   private static String getBulkByScrollResponseErrorMessage(BulkByScrollResponse bulkByScrollResponse) {
     return bulkByScrollResponse.getBulkFailures()
       .stream().map(BulkItemResponse.Failure::getMessage)
@@ -3,8 +3,6 @@ package org.folio.search.repository;
 import static java.util.stream.Collectors.groupingBy;
 import static org.folio.search.utils.CollectionUtils.subtract;
 import static org.folio.search.utils.SearchConverterUtils.getEventPayload;
-import static org.folio.search.utils.SearchResponseHelper.getErrorIndexOperationResponse;
-import static org.folio.search.utils.SearchResponseHelper.getSuccessIndexOperationResponse;
 import static org.folio.search.utils.SearchUtils.INSTANCE_CONTRIBUTORS_UPSERT_SCRIPT_ID;
 import static org.opensearch.script.ScriptType.STORED;
 
@@ -17,7 +15,6 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.apache.commons.lang3.StringUtils;
 import org.folio.search.configuration.properties.SearchConfigurationProperties;
-import org.folio.search.domain.dto.FolioIndexOperationResponse;
 import org.folio.search.model.index.SearchDocumentBody;
 import org.folio.search.model.types.IndexActionType;
 import org.opensearch.action.bulk.BulkRequest;
@@ -36,7 +33,7 @@ public class InstanceContributorsRepository extends AbstractResourceRepository {
   private final SearchConfigurationProperties properties;
 
   @Override
-  public FolioIndexOperationResponse indexResources(List<SearchDocumentBody> esDocumentBodies) {
+  protected BulkRequest prepareBulkRequest(List<SearchDocumentBody> esDocumentBodies) {
     var byId = esDocumentBodies.stream().collect(groupingBy(SearchDocumentBody::getId));
     var bulkRequest = new BulkRequest();
     for (var entry : byId.entrySet()) {
@@ -76,11 +73,7 @@ public class InstanceContributorsRepository extends AbstractResourceRepository {
       }
     }
 
-    var bulkApiResponse = executeBulkRequest(bulkRequest);
-
-    return bulkApiResponse.hasFailures()
-           ? getErrorIndexOperationResponse(bulkApiResponse.buildFailureMessage())
-           : getSuccessIndexOperationResponse();
+    return bulkRequest;
   }
 
   private Script prepareScript(HashSet<Map<String, Object>> instancesToCreate,
@@ -5,8 +5,6 @@ import static org.folio.search.model.types.IndexActionType.DELETE;
 import static org.folio.search.model.types.IndexActionType.INDEX;
 import static org.folio.search.utils.CollectionUtils.subtract;
 import static org.folio.search.utils.SearchConverterUtils.getEventPayload;
-import static org.folio.search.utils.SearchResponseHelper.getErrorIndexOperationResponse;
-import static org.folio.search.utils.SearchResponseHelper.getSuccessIndexOperationResponse;
 import static org.folio.search.utils.SearchUtils.INSTANCE_SUBJECT_UPSERT_SCRIPT_ID;
 import static org.opensearch.script.ScriptType.STORED;
 
@@ -21,7 +19,6 @@ import lombok.extern.log4j.Log4j2;
 import org.apache.commons.collections4.IterableUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.folio.search.configuration.properties.SearchConfigurationProperties;
-import org.folio.search.domain.dto.FolioIndexOperationResponse;
 import org.folio.search.model.index.SearchDocumentBody;
 import org.folio.search.model.types.IndexActionType;
 import org.opensearch.action.bulk.BulkRequest;
@@ -39,7 +36,7 @@ public class InstanceSubjectRepository extends AbstractResourceRepository {
   private final SearchConfigurationProperties properties;
 
   @Override
-  public FolioIndexOperationResponse indexResources(List<SearchDocumentBody> documentBodies) {
+  protected BulkRequest prepareBulkRequest(List<SearchDocumentBody> documentBodies) {
     var bulkRequest = new BulkRequest();
 
     var docsById = documentBodies.stream().collect(groupingBy(SearchDocumentBody::getId));
@@ -52,11 +49,7 @@ public class InstanceSubjectRepository extends AbstractResourceRepository {
       }
     }
 
-    var bulkApiResponse = executeBulkRequest(bulkRequest);
-
-    return bulkApiResponse.hasFailures()
-           ? getErrorIndexOperationResponse(bulkApiResponse.buildFailureMessage())
-           : getSuccessIndexOperationResponse();
+    return bulkRequest;
   }
 
   private EnumMap<IndexActionType, Set<Map<String, Object>>> prepareInstances(List<SearchDocumentBody> documents) {
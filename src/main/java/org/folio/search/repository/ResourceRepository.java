@@ -1,6 +1,7 @@
 package org.folio.search.repository;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import org.folio.search.domain.dto.FolioIndexOperationResponse;
 import org.folio.search.model.index.SearchDocumentBody;
 
@@ -13,6 +14,17 @@ public interface ResourceRepository {
    */
   FolioIndexOperationResponse indexResources(List<SearchDocumentBody> esDocumentBodies);
 
+  /**
+   * Saves provided list of {@link SearchDocumentBody} objects to elasticsearch without waiting for the response.
+   *
+   * @param esDocumentBodies list wth {@link SearchDocumentBody} object
+   * @return {@link CompletableFuture} with {@link FolioIndexOperationResponse} object
+   */
+  default CompletableFuture<FolioIndexOperationResponse> indexResourcesAsync(
+    List<SearchDocumentBody> esDocumentBodies) {
+    return CompletableFuture.completedFuture(indexResources(esDocumentBodies));
+  }
+
   default FolioIndexOperationResponse deleteResourceByTenantId(String resource, String tenantId) {
     throw new UnsupportedOperationException("Not implemented for repository");
   }
@@ -9,6 +9,7 @@ import lombok.AllArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.folio.search.configuration.properties.SearchConfigurationProperties;
 import org.folio.search.converter.FeatureConfigMapper;
+import org.folio.search.cql.SearchQueryCache;
 import org.folio.search.domain.dto.FeatureConfig;
 import org.folio.search.domain.dto.FeatureConfigs;
 import org.folio.search.domain.dto.TenantConfiguredFeature;
@@ -28,6 +29,7 @@ public class FeatureConfigService {
   private final FeatureConfigMapper featureConfigMapper;
   private final FeatureConfigRepository featureConfigRepository;
   private final SearchConfigurationProperties searchConfigurationProperties;
+  private final SearchQueryCache searchQueryCache;
 
   /**
    * Checks if feature is enabled for tenant by id or not.
@@ -77,6 +79,7 @@ public class FeatureConfigService {
     }
 
     var savedEntity = featureConfigRepository.save(entity);
+    searchQueryCache.invalidateAll();
     return featureConfigMapper.convert(savedEntity);
   }
 
@@ -108,6 +111,7 @@ public class FeatureConfigService {
     }
 
     var updatedEntity = featureConfigRepository.save(entity);
+    searchQueryCache.invalidateAll();
     return featureConfigMapper.convert(updatedEntity);
   }
 
@@ -125,5 +129,6 @@ public class FeatureConfigService {
       throw new EntityNotFoundException("Feature configuration not found for id: " + feature.getValue());
     }
     featureConfigRepository.deleteById(feature.getValue());
+    searchQueryCache.invalidateAll();
   }
 }
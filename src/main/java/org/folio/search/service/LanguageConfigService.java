@@ -13,6 +13,7 @@ import lombok.AllArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.folio.search.configuration.properties.SearchConfigurationProperties;
 import org.folio.search.converter.LanguageConfigConverter;
+import org.folio.search.cql.SearchQueryCache;
 import org.folio.search.domain.dto.LanguageConfig;
 import org.folio.search.domain.dto.LanguageConfigs;
 import org.folio.search.exception.ValidationException;
@@ -32,6 +33,7 @@ public class LanguageConfigService {
   private final LanguageConfigRepository configRepository;
   private final LocalSearchFieldProvider searchFieldProvider;
   private final SystemUserScopedExecutionService executionService;
+  private final SearchQueryCache searchQueryCache;
   private final SearchConfigurationProperties searchConfiguration;
 
   /**
@@ -58,7 +60,9 @@ public class LanguageConfigService {
         "code", languageCode);
     }
 
-    return toLanguageConfig(configRepository.save(entity));
+    var savedEntity = configRepository.save(entity);
+    searchQueryCache.invalidateAll();
+    return toLanguageConfig(savedEntity);
   }
 
   /**
@@ -85,7 +89,9 @@ public class LanguageConfigService {
       return languageConfig;
     }
 
-    return toLanguageConfig(configRepository.save(entity));
+    var savedEntity = configRepository.save(entity);
+    searchQueryCache.invalidateAll();
+    return toLanguageConfig(savedEntity);
   }
 
   /**
@@ -98,6 +104,7 @@ public class LanguageConfigService {
     log.debug("Attempts to delete languageConfig by [code: {}]", code);
 
     configRepository.deleteById(code);
+    searchQueryCache.invalidateAll();
   }
 
   /**
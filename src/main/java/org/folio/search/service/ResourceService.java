@@ -1,12 +1,13 @@
 package org.folio.search.service;
 
-import static java.util.stream.Collectors.flatMapping;
 import static java.util.stream.Collectors.groupingBy;
 import static java.util.stream.Collectors.joining;
 import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toSet;
 import static org.folio.search.model.types.IndexActionType.DELETE;
 import static org.folio.search.model.types.IndexActionType.INDEX;
+import static org.folio.search.utils.CollectionUtils.filterByKey;
+import static org.folio.search.utils.CollectionUtils.mergeByMappedKey;
 import static org.folio.search.utils.LogUtils.collectionToLogMsg;
 import static org.folio.search.utils.SearchConverterUtils.getNewAsMap;
 import static org.folio.search.utils.SearchConverterUtils.getOldAsMap;
@@ -16,10 +17,13 @@ import static org.folio.search.utils.SearchUtils.getNumberOfRequests;
 
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashMap;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.function.UnaryOperator;
 import java.util.stream.Stream;
@@ -27,6 +31,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.collections4.ListUtils;
+import org.folio.search.configuration.properties.BulkIndexingProperties;
 import org.folio.search.domain.dto.FolioIndexOperationResponse;
 import org.folio.search.domain.dto.ResourceEvent;
 import org.folio.search.domain.dto.ResourceEventType;
@@ -69,6 +74,8 @@ public class ResourceService {
   private final ConsortiumInstanceService consortiumInstanceService;
   private final IndexNameProvider indexNameProvider;
   private final InstanceEventPreProcessor instanceEventPreProcessor;
+  private final BulkIndexingProperties bulkIndexingProperties;
+  private final Map<String, String> repositoryNamesByResource = new ConcurrentHashMap<>();
 
   /**
    * Saves list of resourceEvents to elasticsearch.
@@ -107,11 +114,12 @@ public class ResourceService {
 
     var eventsToIndex = getEventsToIndex(resourceIdEvents);
 
-    var groupedByOperation = eventsToIndex.stream().collect(groupingBy(ResourceService::getEventIndexType));
+    var groupedByOperation = eventsToIndex.stream().collect(
+      groupingBy(ResourceService::getEventIndexType, () -> new EnumMap<>(IndexActionType.class), toList()));
     var indexDocuments = processIndexInstanceEvents(groupedByOperation.get(INDEX));
     var removeDocuments = processDeleteInstanceEvents(groupedByOperation.get(DELETE));
 
-    var bulkIndexResponse = indexSearchDocuments(mergeMaps(indexDocuments, removeDocuments));
+    var bulkIndexResponse = indexSearchDocuments(indexDocuments, removeDocuments);
     log.info("Records indexed to elasticsearch [indexRequests: {}, removeRequests: {}{}]",
       getNumberOfRequests(indexDocuments), getNumberOfRequests(removeDocuments), getErrorMessage(bulkIndexResponse));
 
@@ -187,41 +195,64 @@ public class ResourceService {
     return multiTenantSearchDocumentConverter.convert(list);
   }
 
-  private FolioIndexOperationResponse indexSearchDocuments(Map<String, List<SearchDocumentBody>> eventsByResource) {
-    var eventsByRepository = eventsByResource.entrySet().stream().collect(groupingBy(
-      entry -> getIndexingRepositoryName(entry.getKey()), flatMapping(entry -> entry.getValue().stream(), toList())));
+  @SafeVarargs
+  private FolioIndexOperationResponse indexSearchDocuments(Map<String, List<SearchDocumentBody>>... eventsByResource) {
+    var eventsByRepository = mergeByMappedKey(this::getIndexingRepositoryName, eventsByResource);
 
-    var responses = new ArrayList<FolioIndexOperationResponse>();
-    var primaryResources = eventsByRepository.get(PRIMARY_INDEXING_REPOSITORY_NAME);
-    responses.add(primaryResourceRepository.indexResources(primaryResources));
-    eventsByRepository.remove(PRIMARY_INDEXING_REPOSITORY_NAME);
-
-    eventsByRepository.forEach((repository, events) ->
-      responses.add(resourceRepositoryBeans.get(repository).indexResources(events)));
+    var primaryResources = eventsByRepository.remove(PRIMARY_INDEXING_REPOSITORY_NAME);
+    var responses = bulkIndexingProperties.isAsyncEnabled()
+                    ? indexSearchDocumentsAsync(primaryResources, eventsByRepository)
+                    : indexSearchDocumentsSync(primaryResources, eventsByRepository);
 
     var errorMessage = responses.stream()
       .map(FolioIndexOperationResponse::getErrorMessage)
       .filter(Objects::nonNull)
       .collect(joining(", "));
+    var failedItems = responses.stream()
+      .map(FolioIndexOperationResponse::getFailedItems)
+      .filter(Objects::nonNull)
+      .flatMap(List::stream)
+      .toList();
 
-    return errorMessage.isEmpty() ? getSuccessIndexOperationResponse() : getErrorIndexOperationResponse(errorMessage);
+    return errorMessage.isEmpty()
+           ? getSuccessIndexOperationResponse()
+           : getErrorIndexOperationResponse(errorMessage, failedItems);
   }
 
-  private List<ResourceEvent> getEventsThatCanBeIndexed(List<ResourceEvent> events,
-                                                        Function<ResourceEvent, String> eventToIndexNameFunc) {
-    var esIndices = events.stream().map(eventToIndexNameFunc).collect(toSet());
-    var existingIndices = esIndices.stream().filter(indexRepository::indexExists).collect(toSet());
-    var eventsToIndex = new ArrayList<ResourceEvent>();
-    var unknownEvents = new ArrayList<ResourceEvent>();
+  private List<FolioIndexOperationResponse> indexSearchDocumentsSync(
+    List<SearchDocumentBody> primaryResources, Map<String, List<SearchDocumentBody>> eventsByRepository) {
+    var responses = new ArrayList<FolioIndexOperationResponse>();
+    responses.add(primaryResourceRepository.indexResources(primaryResources));
+    eventsByRepository.forEach((repository, events) ->
+      responses.add(resourceRepositoryBeans.get(repository).indexResources(events)));
+    return responses;
+  }
+
+  private List<FolioIndexOperationResponse> indexSearchDocumentsAsync(
+    List<SearchDocumentBody> primaryResources, Map<String, List<SearchDocumentBody>> eventsByRepository) {
+    var futures = new ArrayList<CompletableFuture<FolioIndexOperationResponse>>();
+    futures.add(primaryResourceRepository.indexResourcesAsync(primaryResources));
+    eventsByRepository.forEach((repository, events) ->
+      futures.add(resourceRepositoryBeans.get(repository).indexResourcesAsync(events)));
 
-    for (var event : events) {
-      if (existingIndices.contains(eventToIndexNameFunc.apply(event))) {
-        eventsToIndex.add(event);
-      } else {
-        unknownEvents.add(event);
+    try {
+      CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
       }
+      throw e;
     }
 
+    return futures.stream().map(CompletableFuture::join).toList();
+  }
+
+  private List<ResourceEvent> getEventsThatCanBeIndexed(List<ResourceEvent> events,
+                                                        Function<ResourceEvent, String> eventToIndexNameFunc) {
+    var unknownEvents = new ArrayList<ResourceEvent>();
+    var eventsToIndex = filterByKey(events, ResourceTenant::of,
+      event -> indexRepository.indexExists(eventToIndexNameFunc.apply(event)), unknownEvents::add);
+
     if (!unknownEvents.isEmpty()) {
       var absentIndexNames = unknownEvents.stream().map(eventToIndexNameFunc).collect(toSet());
       log.warn("Ignoring incoming events [cause: Tenant(s) not initialized, indices {} are not exist, events: {}]",
@@ -262,19 +293,12 @@ public class ResourceService {
       .toList();
   }
 
-  private static <K, V> Map<K, List<V>> mergeMaps(Map<K, List<V>> map1, Map<K, List<V>> map2) {
-    var resultMap = new HashMap<K, List<V>>();
-    map1.forEach((key, value) -> resultMap.computeIfAbsent(key, v -> new ArrayList<>()).addAll(value));
-    map2.forEach((key, value) -> resultMap.computeIfAbsent(key, v -> new ArrayList<>()).addAll(value));
-    return resultMap;
-  }
-
   private String getIndexingRepositoryName(String resourceName) {
-    return resourceDescriptionService.find(resourceName)
+    return repositoryNamesByResource.computeIfAbsent(resourceName, resource -> resourceDescriptionService.find(resource)
       .map(ResourceDescription::getIndexingConfiguration)
       .map(ResourceIndexingConfiguration::getResourceRepository)
       .filter(resourceRepositoryBeans::containsKey)
-      .orElse(PRIMARY_INDEXING_REPOSITORY_NAME);
+      .orElse(PRIMARY_INDEXING_REPOSITORY_NAME));
   }
 
   private static IndexActionType getEventIndexType(ResourceEvent event) {
@@ -284,4 +308,11 @@ public class ResourceService {
   private static String getErrorMessage(FolioIndexOperationResponse bulkIndexResponse) {
     return bulkIndexResponse.getErrorMessage() != null ? ", errors: [" + bulkIndexResponse.getErrorMessage() + "]" : "";
   }
+
+  private record ResourceTenant(String resource, String tenant) {
+
+    static ResourceTenant of(ResourceEvent event) {
+      return new ResourceTenant(event.getResourceName(), event.getTenant());
+    }
+  }
 }
@@ -0,0 +1,160 @@
+package org.folio.search.service;
+
+import static java.lang.String.format;
+import static org.folio.search.model.types.ErrorCode.UNKNOWN_ERROR;
+import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.folio.search.domain.dto.Error;
+import org.folio.search.exception.SearchServiceException;
+import org.folio.search.model.SearchResult;
+import org.folio.search.model.service.CqlSearchRequest;
+import org.folio.search.service.converter.ElasticsearchDocumentConverter;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.util.Assert;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+@Log4j2
+@Component
+@RequiredArgsConstructor
+public class SearchResultStreamHelper {
+
+  private final ObjectMapper objectMapper;
+  private final SearchService searchService;
+  private final ElasticsearchDocumentConverter documentConverter;
+
+  /**
+   * Executes search request and streams found records into the http response, converting search hits one by one.
+   *
+   * <p>Response body is the same as for the search result object with {@code totalRecords} and records fields.
+   * Search errors are thrown before anything is written to the response. If a record cannot be converted after the
+   * response is committed, the response body is ended with the {@code errors} field.</p>
+   *
+   * @param request          - cql search request as {@link CqlSearchRequest} object
+   * @param recordsFieldName - name of the response field with found records
+   * @param <T>              - generic type of found records
+   * @param <R>              - generic type of response body
+   * @return response with found records using http streaming approach.
+   */
+  public <T, R> ResponseEntity<R> streamSearchResult(CqlSearchRequest<T> request, String recordsFieldName) {
+    log.debug("streamSearchResult:: by [query: {}, resource: {}]", request.getQuery(), request.getResource());
+
+    var searchResult = searchService.searchLazily(request);
+    var recordWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    return writeSearchResult(searchResult, recordsFieldName, recordWriter::writeValue);
+  }
+
+  /**
+   * Executes search request and streams the source of found search hits into the http response as is, without
+   * binding it to the response model.
+   *
+   * <p>Source is written with multi-language field data removed, in the same way as for search results bound to the
+   * response model. Search response post-processors are not applied.</p>
+   *
+   * @param request          - cql search request as {@link CqlSearchRequest} object
+   * @param recordsFieldName - name of the response field with found records
+   * @param <R>              - generic type of response body
+   * @return response with found records using http streaming approach.
+   */
+  public <R> ResponseEntity<R> streamRawSearchResult(CqlSearchRequest<?> request, String recordsFieldName) {
+    log.debug("streamRawSearchResult:: by [query: {}, resource: {}]", request.getQuery(), request.getResource());
+
+    var searchResult = searchService.searchHits(request);
+    return writeSearchResult(searchResult, recordsFieldName, (json, hit) -> documentConverter.writeSource(hit, json));
+  }
+
+  private <T, R> ResponseEntity<R> writeSearchResult(SearchResult<T> searchResult, String recordsFieldName,
+                                                     RecordWriter<T> recordWriter) {
+    var httpServletResponse = prepareHttpResponse();
+    httpServletResponse.setContentType(APPLICATION_JSON_VALUE);
+    JsonGenerator json;
+    try {
+      json = objectMapper.createGenerator(httpServletResponse.getOutputStream())
+        .disable(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT);
+    } catch (IOException e) {
+      throw new SearchServiceException("Failed to get output stream from response", e);
+    }
+
+    try {
+      writeSearchResult(searchResult, recordsFieldName, recordWriter, json, httpServletResponse);
+      return ResponseEntity.ok().build();
+    } catch (IOException e) {
+      throw new SearchServiceException(
+        format("Failed to write data into json [reason: %s]", e.getMessage()), e);
+    }
+  }
+
+  /**
+   * Writes search result records one by one.
+   *
+   * <p>If a record cannot be written before the response is committed, the response buffer is discarded and the
+   * error is rethrown to be returned by the exception handler. If the response is already committed, the records
+   * array is closed and the error is written as the terminal {@code errors} field of the response body.</p>
+   */
+  private <T> void writeSearchResult(SearchResult<T> searchResult, String recordsFieldName,
+                                     RecordWriter<T> recordWriter, JsonGenerator json,
+                                     HttpServletResponse httpServletResponse) throws IOException {
+    json.writeStartObject();
+    json.writeNumberField("totalRecords", searchResult.getTotalRecords());
+    json.writeArrayFieldStart(recordsFieldName);
+    var recordsContext = json.getOutputContext();
+    try {
+      for (var searchRecord : searchResult.getRecords()) {
+        recordWriter.write(json, searchRecord);
+      }
+    } catch (RuntimeException | IOException e) {
+      if (!httpServletResponse.isCommitted()) {
+        httpServletResponse.resetBuffer();
+        throw e;
+      }
+
+      log.warn("writeSearchResult:: failed to write record into committed response", e);
+      while (json.getOutputContext() != recordsContext) {
+        if (json.getOutputContext().inArray()) {
+          json.writeEndArray();
+        } else {
+          json.writeEndObject();
+        }
+      }
+      json.writeEndArray();
+      json.writeFieldName("errors");
+      json.writeObject(List.of(new Error()
+        .message(e.getMessage())
+        .type(e.getClass().getSimpleName())
+        .code(UNKNOWN_ERROR.getValue())));
+      json.writeEndObject();
+      json.close();
+      return;
+    }
+
+    json.writeEndArray();
+    json.writeEndObject();
+    json.close();
+  }
+
+  private HttpServletResponse prepareHttpResponse() {
+    var requestAttributes = (ServletRequestAttributes) RequestContextHolder.getRequestAttributes();
+    Assert.notNull(requestAttributes, "Request attributes must be not null");
+
+    var httpServletResponse = requestAttributes.getResponse();
+    Assert.notNull(httpServletResponse, "HttpServletResponse must be not null");
+
+    httpServletResponse.setStatus(HttpServletResponse.SC_OK);
+    return httpServletResponse;
+  }
+
+  @FunctionalInterface
+  private interface RecordWriter<T> {
+
+    void write(JsonGenerator json, T searchRecord) throws IOException;
+  }
+}
@@ -2,6 +2,7 @@ package org.folio.search.service;
 
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static org.apache.commons.lang3.BooleanUtils.isFalse;
+import static org.apache.commons.lang3.BooleanUtils.isTrue;
 import static org.folio.search.model.types.ResponseGroupType.SEARCH;
 import static org.folio.search.utils.SearchUtils.buildPreferenceKey;
 
@@ -19,7 +20,9 @@ import org.folio.search.repository.SearchRepository;
 import org.folio.search.service.converter.ElasticsearchDocumentConverter;
 import org.folio.search.service.metadata.SearchFieldProvider;
 import org.folio.search.service.setter.SearchResponsePostProcessor;
+import org.opensearch.action.search.SearchResponse;
 import org.opensearch.common.unit.TimeValue;
+import org.opensearch.search.SearchHit;
 import org.springframework.stereotype.Service;
 
 /**
@@ -47,6 +50,46 @@ public class SearchService {
    * @return search result.
    */
   public <T> SearchResult<T>  search(CqlSearchRequest<T> request) {
+    var searchResponse = executeSearch(request);
+    var searchResult = documentConverter.convertToSearchResult(searchResponse, request.getResourceClass());
+
+    searchResultPostProcessing(request.getResourceClass(), request.getIncludeNumberOfTitles(), searchResult);
+
+    return searchResult;
+  }
+
+  /**
+   * Prepares search query and executes search request to the search engine, records in the search result are
+   * converted from the search hits on each access instead of being collected upfront.
+   *
+   * <p>If the search result must be post-processed, the records are collected as in {@link #search}.</p>
+   *
+   * @param request cql search request as {@link CqlSearchRequest} object
+   * @return search result with lazily converted records.
+   */
+  public <T> SearchResult<T> searchLazily(CqlSearchRequest<T> request) {
+    var resourceClass = request.getResourceClass();
+    if (isTrue(request.getIncludeNumberOfTitles()) && searchResponsePostProcessors.containsKey(resourceClass)) {
+      return search(request);
+    }
+
+    var searchResponse = executeSearch(request);
+    return documentConverter.convertToLazySearchResult(searchResponse, resourceClass);
+  }
+
+  /**
+   * Prepares search query and executes search request to the search engine, found search hits are returned without
+   * converting their source. Search response post-processors are not applied.
+   *
+   * @param request cql search request as {@link CqlSearchRequest} object
+   * @return search result with found search hits.
+   */
+  public SearchResult<SearchHit> searchHits(CqlSearchRequest<?> request) {
+    var searchResponse = executeSearch(request);
+    return documentConverter.getSearchHits(searchResponse);
+  }
+
+  private SearchResponse executeSearch(CqlSearchRequest<?> request) {
     log.debug("search:: by [query: {}, resource: {}]", request.getQuery(), request.getResource());
 
     if (request.getOffset() + request.getLimit() > DEFAULT_MAX_SEARCH_RESULT_WINDOW) {
@@ -72,12 +115,7 @@ public class SearchService {
       queryBuilder.fetchSource(includes, null);
     }
 
-    var searchResponse = searchRepository.search(request, queryBuilder, preference);
-    var searchResult = documentConverter.convertToSearchResult(searchResponse, request.getResourceClass());
-
-    searchResultPostProcessing(request.getResourceClass(), request.getIncludeNumberOfTitles(), searchResult);
-
-    return searchResult;
+    return searchRepository.search(request, queryBuilder, preference);
   }
 
   private <T> void searchResultPostProcessing(Class<?> resourceClass, boolean includeNumberOfTitles,
@@ -25,6 +25,7 @@ import org.folio.search.model.service.BrowseContext;
 import org.folio.search.model.service.BrowseRequest;
 import org.folio.search.service.consortium.BrowseConfigServiceDecorator;
 import org.folio.search.service.consortium.ConsortiumSearchHelper;
+import org.folio.search.utils.ShelfKeyCache;
 import org.folio.search.utils.ShelvingOrderCalculationHelper;
 import org.opensearch.index.query.QueryBuilder;
 import org.opensearch.index.query.TermQueryBuilder;
@@ -39,6 +40,7 @@ public class ClassificationBrowseService
 
   private final ConsortiumSearchHelper consortiumSearchHelper;
   private final BrowseConfigServiceDecorator configService;
+  private final ShelfKeyCache shelfKeyCache;
 
   @Override
   protected String getValueForBrowsing(ClassificationNumberBrowseItem browseItem) {
@@ -63,7 +65,8 @@ public class ClassificationBrowseService
     var config = configService.getConfig(BrowseType.INSTANCE_CLASSIFICATION, req.getBrowseOptionType());
 
     var browseField = getBrowseField(config);
-    var normalizedAnchor = ShelvingOrderCalculationHelper.calculate(ctx.getAnchor(), config.getShelvingAlgorithm());
+    var normalizedAnchor = ShelvingOrderCalculationHelper.calculate(ctx.getAnchor(), config.getShelvingAlgorithm(),
+      shelfKeyCache);
     var query = consortiumSearchHelper.filterBrowseQueryForActiveAffiliation(ctx, getQuery(ctx, config, null),
       req.getResource());
 
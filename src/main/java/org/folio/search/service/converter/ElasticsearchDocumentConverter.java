@@ -3,7 +3,10 @@ package org.folio.search.service.converter;
 import static java.util.Collections.emptyList;
 import static org.folio.search.utils.SearchUtils.PLAIN_FULLTEXT_PREFIX;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.util.AbstractList;
 import java.util.Arrays;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -24,6 +27,7 @@ import org.springframework.stereotype.Component;
 public class ElasticsearchDocumentConverter {
 
   private final ObjectMapper objectMapper;
+  private final SearchHitSourceReader searchHitSourceReader;
 
   /**
    * Converts an Elasticsearch {@link SearchResponse} object into {@link SearchResult} object.
@@ -57,6 +61,59 @@ public class ElasticsearchDocumentConverter {
       .orElseGet(SearchResult::empty);
   }
 
+  /**
+   * Converts an Elasticsearch {@link SearchResponse} object into {@link SearchResult} object with records, that are
+   * converted from the search hits on each access.
+   *
+   * <p>Converted records are not kept in the result, so they can be written one by one, without holding all of them
+   * in memory.</p>
+   *
+   * @param response      - an Elasticsearch search response as {@link SearchResponse} object
+   * @param responseClass - type for converting source in the {@link SearchHit} object
+   * @param <T>           - generic type of conversion result for search hit source
+   * @return created {@link SearchResult} object.
+   */
+  public <T> SearchResult<T> convertToLazySearchResult(SearchResponse response, Class<T> responseClass) {
+    return Optional.ofNullable(response)
+      .map(SearchResponse::getHits)
+      .map(hits -> SearchResult.of(getTotalRecords(hits), lazySearchHits(hits.getHits(), responseClass)))
+      .orElseGet(SearchResult::empty);
+  }
+
+  /**
+   * Extracts search hits from an Elasticsearch {@link SearchResponse} object without converting their source.
+   *
+   * @param response - an Elasticsearch search response as {@link SearchResponse} object
+   * @return created {@link SearchResult} object with found search hits.
+   */
+  public SearchResult<SearchHit> getSearchHits(SearchResponse response) {
+    return Optional.ofNullable(response)
+      .map(SearchResponse::getHits)
+      .map(hits -> SearchResult.of(getTotalRecords(hits), getSearchHitList(hits)))
+      .orElseGet(SearchResult::empty);
+  }
+
+  /**
+   * Writes search hit source to the given generator without binding it to the result class.
+   *
+   * <p>Multi-language field data is removed in the same way as in {@link #convert(Map, Class)}. Fields with null
+   * values are not written, whether the source is read by {@link SearchHitSourceReader} or parsed into a map.</p>
+   *
+   * @param searchHit - search hit with the source to write
+   * @param generator - json generator to write source to
+   * @throws IOException if source cannot be written
+   */
+  public void writeSource(SearchHit searchHit, JsonGenerator generator) throws IOException {
+    var source = searchHit.getSourceRef();
+    if (searchHitSourceReader.canRead(source)) {
+      searchHitSourceReader.write(source, generator);
+      return;
+    }
+
+    var sourceAsMap = searchHit.getSourceAsMap();
+    writeNonNullValues(MapUtils.isEmpty(sourceAsMap) ? sourceAsMap : processMap(sourceAsMap), generator);
+  }
+
   /**
    * Converts elasticsearch document to the result class.
    *
@@ -82,10 +139,41 @@ public class ElasticsearchDocumentConverter {
     }
 
     return Arrays.stream(searchHits)
-      .map(searchHit -> searchHitMapper.apply(searchHit, convert(searchHit.getSourceAsMap(), type)))
+      .map(searchHit -> searchHitMapper.apply(searchHit, convert(searchHit, type)))
       .toList();
   }
 
+  private static List<SearchHit> getSearchHitList(SearchHits hits) {
+    var searchHits = hits.getHits();
+    return searchHits != null ? Arrays.asList(searchHits) : emptyList();
+  }
+
+  private <T> List<T> lazySearchHits(SearchHit[] searchHits, Class<T> type) {
+    if (searchHits == null) {
+      return emptyList();
+    }
+
+    return new AbstractList<>() {
+      @Override
+      public T get(int index) {
+        return convert(searchHits[index], type);
+      }
+
+      @Override
+      public int size() {
+        return searchHits.length;
+      }
+    };
+  }
+
+  private <T> T convert(SearchHit searchHit, Class<T> type) {
+    var source = searchHit.getSourceRef();
+    if (searchHitSourceReader.canRead(source)) {
+      return searchHitSourceReader.read(source, type);
+    }
+    return convert(searchHit.getSourceAsMap(), type);
+  }
+
   private static Map<String, Object> processMap(Map<String, Object> map) {
     var resultMap = new LinkedHashMap<String, Object>();
     for (var entry : map.entrySet()) {
@@ -115,6 +203,31 @@ public class ElasticsearchDocumentConverter {
     return value;
   }
 
+  private static void writeNonNullValues(Object value, JsonGenerator generator) throws IOException {
+    if (value instanceof Map<?, ?> map) {
+      generator.writeStartObject();
+      for (var entry : map.entrySet()) {
+        if (entry.getValue() != null) {
+          generator.writeFieldName(String.valueOf(entry.getKey()));
+          writeNonNullValues(entry.getValue(), generator);
+        }
+      }
+      generator.writeEndObject();
+      return;
+    }
+
+    if (value instanceof List<?> list) {
+      generator.writeStartArray();
+      for (var element : list) {
+        writeNonNullValues(element, generator);
+      }
+      generator.writeEndArray();
+      return;
+    }
+
+    generator.writeObject(value);
+  }
+
   private static int getTotalRecords(SearchHits hits) {
     var totalHits = hits.getTotalHits();
     return totalHits != null ? (int) totalHits.value : 0;
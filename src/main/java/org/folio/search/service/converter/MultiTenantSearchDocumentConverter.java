@@ -1,5 +1,6 @@
 package org.folio.search.service.converter;
 
+import static com.google.common.collect.Lists.partition;
 import static java.util.Collections.emptyMap;
 import static java.util.stream.Collectors.groupingBy;
 import static org.folio.search.utils.LogUtils.collectionToLogMsg;
@@ -10,11 +11,15 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.apache.commons.collections4.CollectionUtils;
+import org.folio.search.configuration.properties.DocumentConversionProperties;
 import org.folio.search.domain.dto.ResourceEvent;
 import org.folio.search.model.index.SearchDocumentBody;
 import org.folio.search.model.metadata.ResourceDescription;
@@ -23,6 +28,7 @@ import org.folio.search.service.consortium.ConsortiumTenantExecutor;
 import org.folio.search.service.converter.preprocessor.EventPreProcessor;
 import org.folio.search.service.metadata.ResourceDescriptionService;
 import org.folio.spring.FolioExecutionContext;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
 
 @Log4j2
@@ -35,6 +41,9 @@ public class MultiTenantSearchDocumentConverter {
   private final Map<String, EventPreProcessor> eventPreProcessorBeans;
   private final ConsortiumTenantExecutor consortiumTenantExecutor;
   private final FolioExecutionContext folioExecutionContext;
+  private final DocumentConversionProperties documentConversionProperties;
+  @Qualifier("documentConversionExecutor")
+  private final Executor documentConversionExecutor;
 
   /**
    * Converts {@link ResourceEvent} objects to a list with {@link SearchDocumentBody} objects.
@@ -58,12 +67,10 @@ public class MultiTenantSearchDocumentConverter {
 
   private List<SearchDocumentBody> convertForTenant(Entry<String, List<ResourceEvent>> entry) {
     var convert = (Supplier<List<SearchDocumentBody>>) () ->
-      entry.getValue().stream()
+      convertEvents(entry.getValue().stream()
         .flatMap(this::populateResourceEvents)
         .map(event -> event.getId() != null ? event : event.id(getResourceEventId(event)))
-        .map(searchDocumentConverter::convert)
-        .flatMap(Optional::stream)
-        .toList();
+        .toList());
 
     if (entry.getKey().equals(folioExecutionContext.getTenantId())) {
       return convert.get();
@@ -72,6 +79,40 @@ public class MultiTenantSearchDocumentConverter {
     }
   }
 
+  /**
+   * Converts events by chunks on the bounded executor, that propagates FOLIO execution context, if parallel
+   * conversion is enabled, documents are returned in the order of given events.
+   */
+  private List<SearchDocumentBody> convertEvents(List<ResourceEvent> events) {
+    var chunkSize = documentConversionProperties.getChunkSize();
+    if (!documentConversionProperties.isParallelEnabled() || events.size() <= chunkSize) {
+      return convertChunk(events);
+    }
+
+    log.debug("convertEvents:: converting events in parallel [events: {}, chunkSize: {}]", events.size(), chunkSize);
+    var futures = partition(events, chunkSize).stream()
+      .map(chunk -> CompletableFuture.supplyAsync(() -> convertChunk(chunk), documentConversionExecutor))
+      .toList();
+
+    try {
+      CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      throw e;
+    }
+
+    return futures.stream().flatMap(future -> future.join().stream()).toList();
+  }
+
+  private List<SearchDocumentBody> convertChunk(List<ResourceEvent> events) {
+    return events.stream()
+      .map(searchDocumentConverter::convert)
+      .flatMap(Optional::stream)
+      .toList();
+  }
+
   private Stream<ResourceEvent> populateResourceEvents(ResourceEvent event) {
     var resourceName = event.getResourceName();
     return resourceDescriptionService.find(resourceName)
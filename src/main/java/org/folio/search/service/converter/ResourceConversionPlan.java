@@ -0,0 +1,158 @@
+package org.folio.search.service.converter;
+
+import static org.folio.search.utils.CollectionUtils.nullIfEmpty;
+import static org.folio.search.utils.SearchUtils.PLAIN_FULLTEXT_PREFIX;
+import static org.folio.search.utils.SearchUtils.getMultilangValue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.commons.collections4.MapUtils;
+import org.folio.search.model.converter.ConversionContext;
+import org.folio.search.model.metadata.FieldDescription;
+import org.folio.search.model.metadata.ObjectFieldDescription;
+import org.folio.search.model.metadata.PlainFieldDescription;
+
+/**
+ * Precompiled conversion plan for the resource description fields.
+ *
+ * <p>Field descriptions are evaluated once, when the plan is compiled, and each field is turned into a writer, that
+ * puts the converted value directly to the resulting document, without temporary maps per field.</p>
+ */
+public final class ResourceConversionPlan {
+
+  private final Map<String, FieldDescription> fields;
+  private final FieldWriter[] fieldWriters;
+
+  private ResourceConversionPlan(Map<String, FieldDescription> fields, List<FieldWriter> fieldWriters) {
+    this.fields = fields;
+    this.fieldWriters = fieldWriters.toArray(FieldWriter[]::new);
+  }
+
+  /**
+   * Compiles conversion plan for the given resource description fields.
+   *
+   * @param fields - resource description fields as {@link Map} object
+   * @return compiled {@link ResourceConversionPlan} object
+   */
+  public static ResourceConversionPlan compile(Map<String, FieldDescription> fields) {
+    var fieldWriters = new ArrayList<FieldWriter>();
+    MapUtils.emptyIfNull(fields).forEach((fieldName, fieldDescription) -> {
+      var fieldWriter = compileField(fieldName, fieldDescription);
+      if (fieldWriter != null) {
+        fieldWriters.add(fieldWriter);
+      }
+    });
+    return new ResourceConversionPlan(fields, fieldWriters);
+  }
+
+  /**
+   * Checks if the plan is compiled for the given resource description fields.
+   *
+   * @param fields - resource description fields as {@link Map} object
+   * @return true if the plan is compiled for the same fields object, false - otherwise
+   */
+  public boolean isCompiledFor(Map<String, FieldDescription> fields) {
+    return this.fields == fields;
+  }
+
+  /**
+   * Converts resource data to the search document fields.
+   *
+   * @param data - resource data as {@link Map} object
+   * @param ctx  - conversion context as {@link ConversionContext} object
+   * @return converted document fields, null if there is nothing to index
+   */
+  public Map<String, Object> convert(Map<String, Object> data, ConversionContext ctx) {
+    var document = new LinkedHashMap<String, Object>();
+    for (var fieldWriter : fieldWriters) {
+      fieldWriter.write(data, document, ctx);
+    }
+    return nullIfEmpty(document);
+  }
+
+  @SuppressWarnings("unchecked")
+  private Object convertObjectValue(Object value, ConversionContext ctx) {
+    if (value instanceof Map) {
+      return convert((Map<String, Object>) value, ctx);
+    }
+
+    if (value instanceof List<?> listValue) {
+      var result = new ArrayList<>(listValue.size());
+      for (var listItem : listValue) {
+        var convertedItem = convertObjectValue(listItem, ctx);
+        if (convertedItem != null) {
+          result.add(convertedItem);
+        }
+      }
+      return Collections.unmodifiableList(result);
+    }
+
+    return null;
+  }
+
+  private static FieldWriter compileField(String fieldName, FieldDescription fieldDescription) {
+    if (fieldDescription instanceof PlainFieldDescription plainFieldDescription) {
+      return compilePlainField(fieldName, plainFieldDescription);
+    }
+
+    var subPlan = compile(((ObjectFieldDescription) fieldDescription).getProperties());
+    return (data, document, ctx) -> {
+      var value = subPlan.convertObjectValue(data.get(fieldName), ctx);
+      if (value != null) {
+        document.put(fieldName, value);
+      }
+    };
+  }
+
+  private static FieldWriter compilePlainField(String fieldName, PlainFieldDescription desc) {
+    if (desc.isNotIndexed()) {
+      return null;
+    }
+
+    if (desc.isTenantField()) {
+      return (data, document, ctx) -> document.put(fieldName, ctx.getTenantId());
+    }
+
+    var defaultValue = desc.getDefaultValue();
+    if (desc.isMultilang()) {
+      return (data, document, ctx) -> {
+        var value = getValue(data, fieldName, defaultValue);
+        if (value != null) {
+          document.putAll(getMultilangValue(fieldName, value, ctx.getLanguages()));
+        }
+      };
+    }
+
+    if (desc.hasFulltextIndex()) {
+      var plainFieldName = PLAIN_FULLTEXT_PREFIX + fieldName;
+      return (data, document, ctx) -> {
+        var value = getValue(data, fieldName, defaultValue);
+        if (value != null) {
+          document.put(fieldName, value);
+          document.put(plainFieldName, value);
+        }
+      };
+    }
+
+    return (data, document, ctx) -> {
+      var value = getValue(data, fieldName, defaultValue);
+      if (value != null) {
+        document.put(fieldName, value);
+      }
+    };
+  }
+
+  private static Object getValue(Map<String, Object> data, String fieldName, Object defaultValue) {
+    var value = data != null ? data.get(fieldName) : null;
+    return value != null ? value : defaultValue;
+  }
+
+  @FunctionalInterface
+  private interface FieldWriter {
+
+    void write(Map<String, Object> data, Map<String, Object> document, ConversionContext ctx);
+  }
+}
@@ -1,36 +1,29 @@
 package org.folio.search.service.converter;
 
-import static java.util.Collections.emptyMap;
-import static java.util.Collections.singletonMap;
 import static org.folio.search.model.types.IndexActionType.DELETE;
 import static org.folio.search.model.types.IndexActionType.INDEX;
 import static org.folio.search.utils.CollectionUtils.mergeSafely;
-import static org.folio.search.utils.CollectionUtils.nullIfEmpty;
+import static org.folio.search.utils.CollectionUtils.mergedView;
 import static org.folio.search.utils.SearchConverterUtils.getMapValueByPath;
 import static org.folio.search.utils.SearchConverterUtils.getNewAsMap;
 
-import java.util.LinkedHashMap;
+import jakarta.annotation.PostConstruct;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
-import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import lombok.extern.log4j.Log4j2;
-import org.apache.commons.collections4.MapUtils;
 import org.folio.search.configuration.properties.SearchConfigurationProperties;
 import org.folio.search.domain.dto.ResourceEvent;
 import org.folio.search.domain.dto.ResourceEventType;
 import org.folio.search.model.converter.ConversionContext;
 import org.folio.search.model.index.SearchDocumentBody;
-import org.folio.search.model.metadata.FieldDescription;
-import org.folio.search.model.metadata.ObjectFieldDescription;
-import org.folio.search.model.metadata.PlainFieldDescription;
+import org.folio.search.model.metadata.ResourceDescription;
 import org.folio.search.model.types.IndexingDataFormat;
 import org.folio.search.service.consortium.LanguageConfigServiceDecorator;
 import org.folio.search.service.metadata.ResourceDescriptionService;
 import org.folio.search.utils.SearchConverterUtils;
-import org.folio.search.utils.SearchUtils;
 import org.opensearch.core.common.bytes.BytesReference;
 import org.springframework.stereotype.Component;
 
@@ -42,7 +35,9 @@ public class SearchDocumentConverter {
   private final LanguageConfigServiceDecorator languageConfigService;
   private final ResourceDescriptionService descriptionService;
   private final IndexingDataFormat indexingDataFormat;
+  private final boolean streamingDocumentWriting;
   private final Function<Map<String, Object>, BytesReference> searchDocumentBodyConverter;
+  private final Map<String, ResourceConversionPlan> conversionPlans = new ConcurrentHashMap<>();
 
   public SearchDocumentConverter(SearchFieldsProcessor searchFieldsProcessor,
                                  LanguageConfigServiceDecorator languageConfigService,
@@ -53,9 +48,19 @@ public class SearchDocumentConverter {
     this.languageConfigService = languageConfigService;
     this.descriptionService = descriptionService;
     this.indexingDataFormat = searchConfigurationProperties.getIndexing().getDataFormat();
+    this.streamingDocumentWriting = searchConfigurationProperties.getIndexing().isStreamingDocumentWriting();
     this.searchDocumentBodyConverter = searchDocumentBodyConverter;
   }
 
+  /**
+   * Compiles conversion plans for all resource descriptions.
+   */
+  @PostConstruct
+  public void init() {
+    descriptionService.findAll().forEach(this::getConversionPlan);
+    log.info("init:: resource conversion plans are compiled [resources: {}]", conversionPlans.keySet());
+  }
+
   /**
    * Converts {@link ResourceEvent} object to the {@link SearchDocumentBody} objects.
    *
@@ -77,10 +82,12 @@ public class SearchDocumentConverter {
 
   private SearchDocumentBody convert(ConversionContext context) {
     var resourceEvent = context.getResourceEvent();
-    var resourceDescriptionFields = context.getResourceDescription().getFields();
-    var baseFields = convertMapUsingResourceFields(getNewAsMap(resourceEvent), resourceDescriptionFields, context);
+    var conversionPlan = getConversionPlan(context.getResourceDescription());
+    var baseFields = conversionPlan.convert(getNewAsMap(resourceEvent), context);
     var searchFields = searchFieldsProcessor.getSearchFields(context);
-    var resultDocument = mergeSafely(baseFields, searchFields);
+    var resultDocument = streamingDocumentWriting
+      ? mergedView(baseFields, searchFields)
+      : mergeSafely(baseFields, searchFields);
     return SearchDocumentBody.of(searchDocumentBodyConverter.apply(resultDocument),
       indexingDataFormat, resourceEvent, INDEX);
   }
@@ -106,62 +113,17 @@ public class SearchDocumentConverter {
     return ConversionContext.of(event, resourceDescription, resourceLanguages, event.getTenant());
   }
 
-  private static Map<String, Object> convertMapUsingResourceFields(
-    Map<String, Object> data, Map<String, FieldDescription> fields, ConversionContext ctx) {
-    var resultMap = new LinkedHashMap<String, Object>();
-    fields.entrySet().forEach(entry -> resultMap.putAll(getFieldValue(data, entry, ctx)));
-    return nullIfEmpty(resultMap);
-  }
-
-  private static Map<String, Object> getFieldValue(
-    Map<String, Object> data, Entry<String, FieldDescription> descEntry, ConversionContext ctx) {
-    var fieldDescription = descEntry.getValue();
-    if (fieldDescription instanceof PlainFieldDescription) {
-      return getPlainFieldValue(data, descEntry, ctx);
-    }
-
-    var objectFieldDescription = (ObjectFieldDescription) fieldDescription;
-    var fieldName = descEntry.getKey();
-    var objectMapValue = data.get(fieldName);
-    var value = getObjectFieldValue(objectMapValue, objectFieldDescription.getProperties(), ctx);
-    return value != null ? Map.of(fieldName, value) : emptyMap();
-  }
-
-  private static Map<String, Object> getPlainFieldValue(Map<String, Object> fieldData,
-                                                        Entry<String, FieldDescription> fieldEntry,
-                                                        ConversionContext ctx) {
-    var fieldName = fieldEntry.getKey();
-    var desc = (PlainFieldDescription) fieldEntry.getValue();
-    if (desc.isNotIndexed()) {
-      return emptyMap();
-    }
-
-    if (desc.isTenantField()) {
-      return singletonMap(fieldName, ctx.getTenantId());
-    }
-
-    var plainFieldValue = MapUtils.getObject(fieldData, fieldName, desc.getDefaultValue());
-    if (plainFieldValue == null) {
-      return emptyMap();
-    }
-
-    return SearchUtils.getPlainFieldValue(desc, fieldName, plainFieldValue, ctx.getLanguages());
-  }
-
-  @SuppressWarnings("unchecked")
-  private static Object getObjectFieldValue(
-    Object value, Map<String, FieldDescription> subfields, ConversionContext ctx) {
-    if (value instanceof Map) {
-      return convertMapUsingResourceFields((Map<String, Object>) value, subfields, ctx);
-    }
-
-    if (value instanceof List) {
-      return ((List<Object>) value).stream()
-        .map(listValue -> getObjectFieldValue(listValue, subfields, ctx))
-        .filter(Objects::nonNull)
-        .toList();
+  /**
+   * Returns the conversion plan compiled for the given resource description, the plan is compiled again if the
+   * resource description fields are changed.
+   */
+  private ResourceConversionPlan getConversionPlan(ResourceDescription resourceDescription) {
+    var fields = resourceDescription.getFields();
+    var conversionPlan = conversionPlans.get(resourceDescription.getName());
+    if (conversionPlan == null || !conversionPlan.isCompiledFor(fields)) {
+      conversionPlan = ResourceConversionPlan.compile(fields);
+      conversionPlans.put(resourceDescription.getName(), conversionPlan);
     }
-
-    return null;
+    return conversionPlan;
   }
 }
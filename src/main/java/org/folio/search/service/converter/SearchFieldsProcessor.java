@@ -4,14 +4,18 @@ import static java.util.Collections.emptyMap;
 import static org.folio.search.utils.LogUtils.collectionToLogMsg;
 import static org.folio.search.utils.SearchConverterUtils.getNewAsMap;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.apache.commons.collections.MapUtils;
 import org.apache.commons.lang3.ObjectUtils;
 import org.folio.search.model.converter.ConversionContext;
+import org.folio.search.model.converter.FieldProcessorContext;
 import org.folio.search.model.metadata.SearchFieldDescriptor;
 import org.folio.search.service.consortium.FeatureConfigServiceDecorator;
 import org.folio.search.service.setter.FieldProcessor;
@@ -24,9 +28,13 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class SearchFieldsProcessor {
 
+  private static final String FIELD_PROCESSOR_METRIC = "search.indexing.field.processor";
+
   private final JsonConverter jsonConverter;
   private final FeatureConfigServiceDecorator featureConfigService;
   private final Map<String, FieldProcessor<?, ?>> fieldProcessors;
+  private final MeterRegistry meterRegistry;
+  private final Map<String, Timer> processorTimers = new ConcurrentHashMap<>();
 
   /**
    * Provides search fields as {@link Map} for given resource in the {@link ConversionContext} object.
@@ -46,12 +54,13 @@ public class SearchFieldsProcessor {
     var data = getNewAsMap(ctx.getResourceEvent());
     var resourceClass = resourceDescription.getEventBodyJavaClass();
     var resourceObject = resourceClass != null ? jsonConverter.convert(data, resourceClass) : data;
+    var processorContext = FieldProcessorContext.of(data, resourceObject);
 
     var resultMap = new LinkedHashMap<String, Object>();
     searchFields.forEach((name, fieldDescriptor) -> {
       var resource = fieldDescriptor.isRawProcessing() ? data : resourceObject;
       if (isSearchProcessorEnabled(fieldDescriptor)) {
-        resultMap.putAll(getSearchFieldValue(resource, ctx.getLanguages(), name, fieldDescriptor));
+        resultMap.putAll(getSearchFieldValue(resource, processorContext, ctx.getLanguages(), name, fieldDescriptor));
       } else {
         log.debug("Search processor has been ignored [processor: {}]", fieldDescriptor.getProcessor());
       }
@@ -60,22 +69,33 @@ public class SearchFieldsProcessor {
   }
 
   @SuppressWarnings("unchecked")
-  private Map<String, Object> getSearchFieldValue(
-    Object resource, List<String> languages, String name, SearchFieldDescriptor descriptor) {
-
-    var fieldProcessor = (FieldProcessor<Object, ?>) fieldProcessors.get(descriptor.getProcessor());
+  private Map<String, Object> getSearchFieldValue(Object resource, FieldProcessorContext processorContext,
+                                                  List<String> languages, String name,
+                                                  SearchFieldDescriptor descriptor) {
+    var processorName = descriptor.getProcessor();
+    var fieldProcessor = (FieldProcessor<Object, ?>) fieldProcessors.get(processorName);
+    var sample = Timer.start(meterRegistry);
     try {
-      var value = fieldProcessor.getFieldValue(resource);
+      var value = fieldProcessor.getFieldValue(resource, processorContext);
       if (ObjectUtils.isNotEmpty(value)) {
         return SearchUtils.getPlainFieldValue(descriptor, name, value, languages);
       }
     } catch (Exception e) {
       log.warn("Failed to retrieve field value", e);
+    } finally {
+      sample.stop(getProcessorTimer(processorName));
     }
 
     return emptyMap();
   }
 
+  private Timer getProcessorTimer(String processorName) {
+    return processorTimers.computeIfAbsent(processorName, name -> Timer.builder(FIELD_PROCESSOR_METRIC)
+      .description("Time spent by a field processor to retrieve a search field value")
+      .tag("processor", name)
+      .register(meterRegistry));
+  }
+
   private boolean isSearchProcessorEnabled(SearchFieldDescriptor desc) {
     var dependsOnFeature = desc.getDependsOnFeature();
     return dependsOnFeature == null || featureConfigService.isEnabled(dependsOnFeature);
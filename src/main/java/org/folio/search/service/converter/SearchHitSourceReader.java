@@ -0,0 +1,342 @@
+package org.folio.search.service.converter;
+
+import static com.fasterxml.jackson.core.JsonToken.END_ARRAY;
+import static com.fasterxml.jackson.core.JsonToken.END_OBJECT;
+import static com.fasterxml.jackson.core.JsonToken.FIELD_NAME;
+import static com.fasterxml.jackson.core.JsonToken.START_ARRAY;
+import static com.fasterxml.jackson.core.JsonToken.START_OBJECT;
+import static com.fasterxml.jackson.core.JsonToken.VALUE_FALSE;
+import static com.fasterxml.jackson.core.JsonToken.VALUE_NULL;
+import static com.fasterxml.jackson.core.JsonToken.VALUE_NUMBER_INT;
+import static com.fasterxml.jackson.core.JsonToken.VALUE_STRING;
+import static com.fasterxml.jackson.core.JsonToken.VALUE_TRUE;
+import static org.folio.search.utils.SearchUtils.PLAIN_FULLTEXT_PREFIX;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.util.JsonParserDelegate;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.BitSet;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import org.folio.search.exception.SearchServiceException;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.springframework.stereotype.Component;
+
+/**
+ * Binds the search hit source bytes directly to the result class, without parsing them into a map first.
+ *
+ * <p>The result is the same as {@link ElasticsearchDocumentConverter#convert(Map, Class)} applied to the parsed
+ * source: {@code plain_} fields replace the multi-language fields with the same name, null values of other fields
+ * are not set and null array elements are removed. The source is tokenized twice: the first pass finds field
+ * occurrences that must be skipped, the second one binds the remaining tokens using the given object mapper.</p>
+ */
+@Component
+public class SearchHitSourceReader {
+
+  private static final byte[] SMILE_HEADER = {':', ')', '\n'};
+
+  private final ObjectMapper objectMapper;
+  private final JsonFactory smileFactory = new SmileFactory();
+
+  public SearchHitSourceReader(ObjectMapper objectMapper) {
+    this.objectMapper = objectMapper;
+  }
+
+  /**
+   * Checks if search hit source can be read by this class.
+   *
+   * @param source search hit source as {@link BytesReference} object
+   * @return true if source is not empty and encoded as JSON or SMILE document
+   */
+  public boolean canRead(BytesReference source) {
+    return source != null && getJsonFactory(source) != null;
+  }
+
+  /**
+   * Reads search hit source into the result class.
+   *
+   * @param source      search hit source as {@link BytesReference} object
+   * @param resultClass expected result class
+   * @param <T>         generic type for result class
+   * @return constructed {@link T} object from the search hit source.
+   * @throws SearchServiceException if source cannot be parsed or bound to the result class
+   */
+  public <T> T read(BytesReference source, Class<T> resultClass) {
+    try (var parser = createSourceParser(source)) {
+      return objectMapper.readValue(parser, resultClass);
+    } catch (IOException e) {
+      throw new SearchServiceException("Failed to read search hit source", e);
+    }
+  }
+
+  /**
+   * Writes search hit source to the given generator without binding it to the result class.
+   *
+   * <p>Written document contains the same fields as the parsed source, passed to
+   * {@link ElasticsearchDocumentConverter#convert(Map, Class)}, after removing multi-language field data. Fields
+   * with null values are not written.</p>
+   *
+   * @param source    search hit source as {@link BytesReference} object
+   * @param generator json generator to write source to
+   * @throws IOException if source cannot be parsed or written
+   */
+  public void write(BytesReference source, JsonGenerator generator) throws IOException {
+    try (var parser = createSourceParser(source)) {
+      var token = parser.nextToken();
+      while (token != null) {
+        if (token == FIELD_NAME) {
+          var name = parser.currentName();
+          if (parser.nextToken() == VALUE_NULL) {
+            token = parser.nextToken();
+            continue;
+          }
+          generator.writeFieldName(name);
+        }
+        generator.copyCurrentEvent(parser);
+        token = parser.nextToken();
+      }
+    }
+  }
+
+  private JsonParser createSourceParser(BytesReference source) throws IOException {
+    var jsonFactory = getJsonFactory(source);
+    if (jsonFactory == null) {
+      throw new SearchServiceException("Unsupported search hit source format");
+    }
+
+    var bytes = source.hasArray() ? source.array() : BytesReference.toBytes(source);
+    var offset = source.hasArray() ? source.arrayOffset() : 0;
+    var length = source.length();
+    BitSet skippedFields;
+    try (var parser = jsonFactory.createParser(bytes, offset, length)) {
+      skippedFields = findSkippedFields(parser);
+    }
+    return new SourceParser(jsonFactory.createParser(bytes, offset, length), skippedFields);
+  }
+
+  private JsonFactory getJsonFactory(BytesReference source) {
+    var length = source.length();
+    if (length >= SMILE_HEADER.length && source.get(0) == SMILE_HEADER[0]
+      && source.get(1) == SMILE_HEADER[1] && source.get(2) == SMILE_HEADER[2]) {
+      return smileFactory;
+    }
+
+    for (int i = 0; i < length; i++) {
+      var value = source.get(i);
+      if (!Character.isWhitespace(value)) {
+        return value == '{' ? objectMapper.getFactory() : null;
+      }
+    }
+
+    return null;
+  }
+
+  /**
+   * Resolves field occurrences that are skipped while binding: field values overridden by {@code plain_} fields or
+   * by the following non-null values and null values of fields without {@code plain_} prefix. Field occurrences are
+   * identified by their ordinal number in the document.
+   */
+  private static BitSet findSkippedFields(JsonParser parser) throws IOException {
+    var skippedFields = new BitSet();
+    Deque<Map<String, FieldOccurrence>> objects = new ArrayDeque<>();
+    var fieldOrdinal = 0;
+
+    var token = parser.nextToken();
+    while (token != null) {
+      if (token == START_OBJECT) {
+        objects.push(new HashMap<>());
+      } else if (token == END_OBJECT) {
+        objects.pop();
+      } else if (token == FIELD_NAME) {
+        var name = parser.currentName();
+        token = parser.nextToken();
+        var occurrence = new FieldOccurrence(fieldOrdinal++, token == VALUE_NULL);
+        resolveFieldOccurrence(objects.element(), name, occurrence, skippedFields);
+        continue;
+      }
+      token = parser.nextToken();
+    }
+
+    return skippedFields;
+  }
+
+  private static void resolveFieldOccurrence(Map<String, FieldOccurrence> fields, String name,
+                                             FieldOccurrence occurrence, BitSet skippedFields) {
+    if (name.startsWith(PLAIN_FULLTEXT_PREFIX)) {
+      var previous = fields.put(name.substring(PLAIN_FULLTEXT_PREFIX.length()), occurrence);
+      if (previous != null) {
+        skippedFields.set(previous.ordinal());
+      }
+      return;
+    }
+
+    var previous = fields.get(name);
+    if (occurrence.nullValue() || previous != null && !previous.nullValue()) {
+      skippedFields.set(occurrence.ordinal());
+      return;
+    }
+
+    if (previous != null) {
+      skippedFields.set(previous.ordinal());
+    }
+    fields.put(name, occurrence);
+  }
+
+  private record FieldOccurrence(int ordinal, boolean nullValue) { }
+
+  /**
+   * Parser, that hides skipped fields and null array elements and removes {@code plain_} prefix from field names.
+   */
+  private static final class SourceParser extends JsonParserDelegate {
+
+    private final BitSet skippedFields;
+    private int fieldOrdinal;
+
+    SourceParser(JsonParser parser, BitSet skippedFields) {
+      super(parser);
+      this.skippedFields = skippedFields;
+    }
+
+    @Override
+    public JsonToken nextToken() throws IOException {
+      var token = delegate.nextToken();
+      while (token != null) {
+        if (token == FIELD_NAME && skippedFields.get(fieldOrdinal++)) {
+          delegate.nextToken();
+          skipStructure();
+        } else if (token != VALUE_NULL || !delegate.getParsingContext().inArray()) {
+          return token;
+        }
+        token = delegate.nextToken();
+      }
+      return null;
+    }
+
+    @Override
+    public JsonToken nextValue() throws IOException {
+      var token = nextToken();
+      return token == FIELD_NAME ? nextToken() : token;
+    }
+
+    @Override
+    public String nextFieldName() throws IOException {
+      return nextToken() == FIELD_NAME ? currentName() : null;
+    }
+
+    @Override
+    public boolean nextFieldName(SerializableString name) throws IOException {
+      return nextToken() == FIELD_NAME && name.getValue().equals(currentName());
+    }
+
+    @Override
+    public String nextTextValue() throws IOException {
+      return nextToken() == VALUE_STRING ? getText() : null;
+    }
+
+    @Override
+    public int nextIntValue(int defaultValue) throws IOException {
+      return nextToken() == VALUE_NUMBER_INT ? getIntValue() : defaultValue;
+    }
+
+    @Override
+    public long nextLongValue(long defaultValue) throws IOException {
+      return nextToken() == VALUE_NUMBER_INT ? getLongValue() : defaultValue;
+    }
+
+    @Override
+    public Boolean nextBooleanValue() throws IOException {
+      var token = nextToken();
+      return token == VALUE_TRUE || token == VALUE_FALSE ? token == VALUE_TRUE : null;
+    }
+
+    @Override
+    public JsonParser skipChildren() throws IOException {
+      skipStructure();
+      return this;
+    }
+
+    @Override
+    public String currentName() throws IOException {
+      return removePlainPrefix(delegate.currentName());
+    }
+
+    @Override
+    public String getCurrentName() throws IOException {
+      return currentName();
+    }
+
+    @Override
+    public String getText() throws IOException {
+      return delegate.currentToken() == FIELD_NAME ? currentName() : delegate.getText();
+    }
+
+    @Override
+    public boolean hasTextCharacters() {
+      return delegate.currentToken() != FIELD_NAME && delegate.hasTextCharacters();
+    }
+
+    @Override
+    public char[] getTextCharacters() throws IOException {
+      return delegate.currentToken() == FIELD_NAME ? currentName().toCharArray() : delegate.getTextCharacters();
+    }
+
+    @Override
+    public int getTextLength() throws IOException {
+      return delegate.currentToken() == FIELD_NAME ? currentName().length() : delegate.getTextLength();
+    }
+
+    @Override
+    public int getTextOffset() throws IOException {
+      return delegate.currentToken() == FIELD_NAME ? 0 : delegate.getTextOffset();
+    }
+
+    @Override
+    public String getValueAsString() throws IOException {
+      return delegate.currentToken() == FIELD_NAME ? currentName() : delegate.getValueAsString();
+    }
+
+    @Override
+    public String getValueAsString(String defaultValue) throws IOException {
+      return delegate.currentToken() == FIELD_NAME ? currentName() : delegate.getValueAsString(defaultValue);
+    }
+
+    /**
+     * Skips the structure started by the current token, counting the field names inside it.
+     */
+    private void skipStructure() throws IOException {
+      var token = delegate.currentToken();
+      if (token != START_OBJECT && token != START_ARRAY) {
+        return;
+      }
+
+      var depth = 1;
+      while (depth > 0) {
+        token = delegate.nextToken();
+        if (token == null) {
+          return;
+        }
+        if (token == FIELD_NAME) {
+          fieldOrdinal++;
+        } else if (token == START_OBJECT || token == START_ARRAY) {
+          depth++;
+        } else if (token == END_OBJECT || token == END_ARRAY) {
+          depth--;
+        }
+      }
+    }
+
+    private static String removePlainPrefix(String name) {
+      return name != null && name.startsWith(PLAIN_FULLTEXT_PREFIX)
+        ? name.substring(PLAIN_FULLTEXT_PREFIX.length())
+        : name;
+    }
+  }
+}
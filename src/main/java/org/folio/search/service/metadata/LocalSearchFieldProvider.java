@@ -37,6 +37,7 @@ import org.apache.commons.collections.CollectionUtils;
 import org.folio.search.cql.SearchFieldModifier;
 import org.folio.search.exception.ResourceDescriptionException;
 import org.folio.search.model.Pair;
+import org.folio.search.model.metadata.FieldPathNode;
 import org.folio.search.model.metadata.PlainFieldDescription;
 import org.folio.search.model.metadata.ResourceDescription;
 import org.folio.search.model.metadata.SearchFieldType;
@@ -61,6 +62,7 @@ public class LocalSearchFieldProvider implements SearchFieldProvider {
   private Map<String, Map<ResponseGroupType, String[]>> sourceFields;
   private Map<String, SearchFieldType> elasticsearchFieldTypes;
   private Map<String, Map<String, List<String>>> fieldsBySearchAlias;
+  private Map<String, FieldPathNode> fullTextFieldPaths;
 
   /**
    * Loads local defined elasticsearch field type from json.
@@ -75,6 +77,8 @@ public class LocalSearchFieldProvider implements SearchFieldProvider {
     supportedLanguages = getSupportedLanguages();
     fieldsBySearchAlias = resourceDescriptions.stream().collect(toUnmodifiableMap(
       ResourceDescription::getName, LocalSearchFieldProvider::collectFieldsBySearchAlias));
+    fullTextFieldPaths = resourceDescriptions.stream().collect(toUnmodifiableMap(
+      ResourceDescription::getName, LocalSearchFieldProvider::collectFullTextFieldPaths));
   }
 
   @Override
@@ -121,6 +125,11 @@ public class LocalSearchFieldProvider implements SearchFieldProvider {
     return this.getPlainFieldByPath(resourceName, path).filter(PlainFieldDescription::hasFulltextIndex).isPresent();
   }
 
+  @Override
+  public FieldPathNode getFullTextFieldPaths(String resourceName) {
+    return fullTextFieldPaths.getOrDefault(resourceName, FieldPathNode.EMPTY);
+  }
+
   @Override
   public String getModifiedField(String field, String resource) {
     var queryWrapper = new Object() {
@@ -161,6 +170,14 @@ public class LocalSearchFieldProvider implements SearchFieldProvider {
     return unmodifiableMap(searchFieldByAlias);
   }
 
+  private static FieldPathNode collectFullTextFieldPaths(ResourceDescription resourceDescription) {
+    var fullTextPaths = resourceDescription.getFlattenFields().entrySet().stream()
+      .filter(entry -> entry.getValue().hasFulltextIndex())
+      .map(Entry::getKey)
+      .toList();
+    return FieldPathNode.of(fullTextPaths);
+  }
+
   private static void validateSearchAliases(LinkedHashMap<String, List<String>> fields, ResourceDescription desc) {
     var errors = new ArrayList<String>();
     var flattenFields = desc.getFlattenFields();
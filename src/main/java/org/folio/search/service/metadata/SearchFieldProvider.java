@@ -2,6 +2,7 @@ package org.folio.search.service.metadata;
 
 import java.util.List;
 import java.util.Optional;
+import org.folio.search.model.metadata.FieldPathNode;
 import org.folio.search.model.metadata.PlainFieldDescription;
 import org.folio.search.model.metadata.SearchFieldType;
 import org.folio.search.model.types.ResponseGroupType;
@@ -72,6 +73,14 @@ public interface SearchFieldProvider {
    */
   boolean isFullTextField(String resourceName, String path);
 
+  /**
+   * Provides trie of the full-text field paths for the given resource.
+   *
+   * @param resourceName resource name as {@link String} object
+   * @return root {@link FieldPathNode} of the full-text field paths, {@link FieldPathNode#EMPTY} if resource is unknown
+   */
+  FieldPathNode getFullTextFieldPaths(String resourceName);
+
   /**
    * Apply resource field modifiers for field.
    *
@@ -14,6 +14,7 @@ import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.collections.MapUtils;
 import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.lang3.StringUtils;
+import org.folio.search.model.metadata.FieldPathNode;
 import org.folio.search.model.service.MultilangValue;
 import org.folio.search.service.metadata.SearchFieldProvider;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -39,11 +40,13 @@ public abstract class AbstractAllValuesProcessor implements FieldProcessor<Map<S
       return multilangValue;
     }
 
-    collectFieldValuesFromEventBody(initialPath, multilangValue, eventBody, keyFilter);
+    var fullTextFieldPaths = searchFieldProvider.getFullTextFieldPaths(INSTANCE_RESOURCE);
+    var initialNode = initialPath != null ? fullTextFieldPaths.getChild(initialPath) : fullTextFieldPaths;
+    collectFieldValuesFromEventBody(initialNode, multilangValue, eventBody, keyFilter);
     return multilangValue;
   }
 
-  private void collectFieldValuesFromEventBody(String path, MultilangValue context,
+  private void collectFieldValuesFromEventBody(FieldPathNode pathNode, MultilangValue context,
                                                Map<String, Object> fields, Predicate<String> keyFilter) {
     if (MapUtils.isEmpty(fields)) {
       return;
@@ -57,32 +60,32 @@ public abstract class AbstractAllValuesProcessor implements FieldProcessor<Map<S
     for (Entry<String, Object> entry : fields.entrySet()) {
       String key = entry.getKey();
       if (isIncludedField(key) && keyFilter.test(key)) {
-        var newKey = updateMultilangPlainFieldKey(key);
-        var newPath = path != null ? path + "." + newKey : newKey;
-        collectFieldValuesFromEventBody(newPath, context, entry.getValue(), keyFilter);
+        var childNode = pathNode.getChild(updateMultilangPlainFieldKey(key));
+        collectFieldValuesFromEventBody(childNode, context, entry.getValue(), keyFilter);
       }
     }
   }
 
-  private void collectFieldValuesFromEventBody(String path, MultilangValue ctx,
+  private void collectFieldValuesFromEventBody(FieldPathNode pathNode, MultilangValue ctx,
                                                Collection<?> collection, Predicate<String> keyFilter) {
     if (CollectionUtils.isNotEmpty(collection)) {
-      collection.forEach(value -> collectFieldValuesFromEventBody(path, ctx, value, keyFilter));
+      collection.forEach(value -> collectFieldValuesFromEventBody(pathNode, ctx, value, keyFilter));
     }
   }
 
   @SuppressWarnings("unchecked")
-  private void collectFieldValuesFromEventBody(String path, MultilangValue ctx, Object v, Predicate<String> filter) {
+  private void collectFieldValuesFromEventBody(FieldPathNode pathNode, MultilangValue ctx, Object v,
+                                               Predicate<String> filter) {
     if (v instanceof String) {
-      ctx.addValue(StringUtils.strip((String) v), searchFieldProvider.isFullTextField(INSTANCE_RESOURCE, path));
+      ctx.addValue(StringUtils.strip((String) v), pathNode.isMatched());
     }
 
     if (v instanceof Collection<?>) {
-      collectFieldValuesFromEventBody(path, ctx, (Collection<?>) v, filter);
+      collectFieldValuesFromEventBody(pathNode, ctx, (Collection<?>) v, filter);
     }
 
     if (v instanceof Map<?, ?>) {
-      collectFieldValuesFromEventBody(path, ctx, (Map<String, Object>) v, filter);
+      collectFieldValuesFromEventBody(pathNode, ctx, (Map<String, Object>) v, filter);
     }
   }
 
@@ -4,8 +4,11 @@ import static java.util.stream.Collectors.toCollection;
 import static org.folio.search.client.InventoryReferenceDataClient.ReferenceDataType.IDENTIFIER_TYPES;
 import static org.folio.search.utils.CollectionUtils.toStreamSafe;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import lombok.Getter;
@@ -14,11 +17,14 @@ import lombok.extern.log4j.Log4j2;
 import org.folio.search.domain.dto.Identifier;
 import org.folio.search.integration.ReferenceDataService;
 import org.folio.search.model.client.CqlQueryParam;
+import org.folio.search.model.converter.FieldProcessorContext;
 
 @Log4j2
 @RequiredArgsConstructor
 public abstract class AbstractIdentifierProcessor<T> implements FieldProcessor<T, Set<String>> {
 
+  private static final String IDENTIFIERS_BY_TYPE_VIEW = "identifiersByType";
+
   private final ReferenceDataService referenceDataService;
   @Getter
   private final List<String> identifierNames;
@@ -40,6 +46,27 @@ public abstract class AbstractIdentifierProcessor<T> implements FieldProcessor<T
       .collect(toCollection(LinkedHashSet::new));
   }
 
+  /**
+   * Returns set of filtered identifiers value from event body by specified set of types, using identifier values
+   * grouped by type once per resource.
+   *
+   * @param identifiers event body identifiers to process
+   * @param ctx         field processors context as {@link FieldProcessorContext} object
+   * @return {@link Set} of filtered identifiers value
+   */
+  protected Set<String> filterIdentifiersValue(List<Identifier> identifiers, FieldProcessorContext ctx) {
+    var identifiersByType = ctx.getView(IDENTIFIERS_BY_TYPE_VIEW, () -> groupIdentifierValuesByType(identifiers));
+    var identifierTypeIds = fetchIdentifierIdsFromCache();
+
+    var result = new LinkedHashSet<String>();
+    identifiersByType.forEach((identifierTypeId, values) -> {
+      if (identifierTypeIds.contains(identifierTypeId)) {
+        result.addAll(values);
+      }
+    });
+    return result;
+  }
+
   /**
    * Returns set of identifier ids from cache.
    *
@@ -53,4 +80,14 @@ public abstract class AbstractIdentifierProcessor<T> implements FieldProcessor<T
     }
     return identifierTypeIds;
   }
+
+  private static Map<String, List<String>> groupIdentifierValuesByType(List<Identifier> identifiers) {
+    var identifiersByType = new LinkedHashMap<String, List<String>>();
+    toStreamSafe(identifiers)
+      .filter(identifier -> identifier.getValue() != null)
+      .forEach(identifier -> identifiersByType
+        .computeIfAbsent(identifier.getIdentifierTypeId(), typeId -> new ArrayList<>())
+        .add(identifier.getValue().trim()));
+    return identifiersByType;
+  }
 }
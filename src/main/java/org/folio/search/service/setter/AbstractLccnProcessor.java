@@ -8,6 +8,7 @@ import java.util.Set;
 import java.util.stream.Collectors;
 import org.folio.search.domain.dto.Identifier;
 import org.folio.search.integration.ReferenceDataService;
+import org.folio.search.model.converter.FieldProcessorContext;
 import org.folio.search.service.lccn.LccnNormalizer;
 
 public abstract class AbstractLccnProcessor<T> extends AbstractIdentifierProcessor<T> {
@@ -22,12 +23,21 @@ public abstract class AbstractLccnProcessor<T> extends AbstractIdentifierProcess
 
   @Override
   public Set<String> getFieldValue(T entity) {
-    return filterIdentifiersValue(getIdentifiers(entity)).stream()
+    return normalizeLccns(filterIdentifiersValue(getIdentifiers(entity)));
+  }
+
+  @Override
+  public Set<String> getFieldValue(T entity, FieldProcessorContext ctx) {
+    return normalizeLccns(filterIdentifiersValue(getIdentifiers(entity), ctx));
+  }
+
+  protected abstract List<Identifier> getIdentifiers(T entity);
+
+  private Set<String> normalizeLccns(Set<String> lccnValues) {
+    return lccnValues.stream()
       .map(lccnNormalizer)
       .flatMap(Optional::stream)
       .filter(Objects::nonNull)
       .collect(Collectors.toCollection(LinkedHashSet::new));
   }
-
-  protected abstract List<Identifier> getIdentifiers(T entity);
 }
@@ -1,5 +1,7 @@
 package org.folio.search.service.setter;
 
+import org.folio.search.model.converter.FieldProcessorContext;
+
 /**
  * Generic interface for field processors.
  *
@@ -15,4 +17,16 @@ public interface FieldProcessor<T, R> {
    * @return extracted value as {@link T} object
    */
   R getFieldValue(T eventBody);
+
+  /**
+   * Extract field value as {@link T} from {@link R} event body, using the views shared by field processors of the
+   * same resource.
+   *
+   * @param eventBody event body as {@link R} object
+   * @param ctx       field processors context as {@link FieldProcessorContext} object
+   * @return extracted value as {@link T} object
+   */
+  default R getFieldValue(T eventBody, FieldProcessorContext ctx) {
+    return getFieldValue(eventBody);
+  }
 }
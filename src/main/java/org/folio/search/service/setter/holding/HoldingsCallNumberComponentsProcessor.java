@@ -1,12 +1,13 @@
 package org.folio.search.service.setter.holding;
 
+import static java.util.Collections.emptyMap;
 import static java.util.stream.Collectors.toSet;
-import static org.folio.search.utils.CallNumberUtils.getEffectiveCallNumber;
-import static org.folio.search.utils.CollectionUtils.toStreamSafe;
 
 import java.util.Set;
 import org.apache.commons.lang3.StringUtils;
 import org.folio.search.domain.dto.Instance;
+import org.folio.search.model.converter.CallNumberView;
+import org.folio.search.model.converter.FieldProcessorContext;
 import org.folio.search.service.setter.FieldProcessor;
 import org.springframework.stereotype.Component;
 
@@ -15,8 +16,13 @@ public class HoldingsCallNumberComponentsProcessor implements FieldProcessor<Ins
 
   @Override
   public Set<String> getFieldValue(Instance instance) {
-    return toStreamSafe(instance.getHoldings())
-      .map(hr -> getEffectiveCallNumber(hr.getCallNumberPrefix(), hr.getCallNumber(), hr.getCallNumberSuffix()))
+    return getFieldValue(instance, FieldProcessorContext.of(emptyMap(), instance));
+  }
+
+  @Override
+  public Set<String> getFieldValue(Instance instance, FieldProcessorContext ctx) {
+    return ctx.getHoldingCallNumbers().stream()
+      .map(CallNumberView::effectiveCallNumber)
       .filter(StringUtils::isNotBlank)
       .collect(toSet());
   }
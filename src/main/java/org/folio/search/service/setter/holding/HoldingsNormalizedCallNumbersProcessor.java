@@ -1,12 +1,11 @@
 package org.folio.search.service.setter.holding;
 
-import static org.apache.commons.lang3.StringUtils.isNotEmpty;
-import static org.folio.search.utils.CallNumberUtils.normalizeCallNumberComponents;
-import static org.folio.search.utils.CollectionUtils.toStreamSafe;
+import static java.util.Collections.emptyMap;
 
 import java.util.HashSet;
 import java.util.Set;
 import org.folio.search.domain.dto.Instance;
+import org.folio.search.model.converter.FieldProcessorContext;
 import org.folio.search.service.setter.FieldProcessor;
 import org.springframework.stereotype.Component;
 
@@ -15,14 +14,13 @@ public class HoldingsNormalizedCallNumbersProcessor implements FieldProcessor<In
 
   @Override
   public Set<String> getFieldValue(Instance instance) {
+    return getFieldValue(instance, FieldProcessorContext.of(emptyMap(), instance));
+  }
+
+  @Override
+  public Set<String> getFieldValue(Instance instance, FieldProcessorContext ctx) {
     var result = new HashSet<String>();
-    toStreamSafe(instance.getHoldings())
-      .filter(holding -> isNotEmpty(holding.getCallNumber()) || isNotEmpty(holding.getCallNumberPrefix()))
-      .forEach(holding -> {
-        result.add(normalizeCallNumberComponents(holding.getCallNumberPrefix(), holding.getCallNumber(),
-          holding.getCallNumberSuffix()));
-        result.add(normalizeCallNumberComponents(holding.getCallNumber(), holding.getCallNumberSuffix()));
-      });
+    ctx.getHoldingCallNumbers().forEach(callNumber -> result.addAll(callNumber.normalizedCallNumbers()));
     return result;
   }
 }
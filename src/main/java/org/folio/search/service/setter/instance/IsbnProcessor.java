@@ -17,6 +17,7 @@ import org.apache.commons.lang3.CharUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.folio.search.domain.dto.Instance;
 import org.folio.search.integration.ReferenceDataService;
+import org.folio.search.model.converter.FieldProcessorContext;
 import org.folio.search.service.setter.AbstractIdentifierProcessor;
 import org.springframework.stereotype.Component;
 
@@ -60,10 +61,12 @@ public class IsbnProcessor extends AbstractIdentifierProcessor<Instance> {
 
   @Override
   public Set<String> getFieldValue(Instance instance) {
-    return filterIdentifiersValue(instance.getIdentifiers()).stream()
-      .map(this::normalizeIsbn)
-      .flatMap(Collection::stream)
-      .collect(toCollection(LinkedHashSet::new));
+    return normalizeIsbns(filterIdentifiersValue(instance.getIdentifiers()));
+  }
+
+  @Override
+  public Set<String> getFieldValue(Instance instance, FieldProcessorContext ctx) {
+    return normalizeIsbns(filterIdentifiersValue(instance.getIdentifiers(), ctx));
   }
 
   /**
@@ -133,4 +136,11 @@ public class IsbnProcessor extends AbstractIdentifierProcessor<Instance> {
   private static String normalizeIsbnValue(String value) {
     return value.replace("-", "").replace(" ", "");
   }
+
+  private Set<String> normalizeIsbns(Set<String> isbnValues) {
+    return isbnValues.stream()
+      .map(this::normalizeIsbn)
+      .flatMap(Collection::stream)
+      .collect(toCollection(LinkedHashSet::new));
+  }
 }
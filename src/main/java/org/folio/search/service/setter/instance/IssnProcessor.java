@@ -4,6 +4,7 @@ import java.util.List;
 import java.util.Set;
 import org.folio.search.domain.dto.Instance;
 import org.folio.search.integration.ReferenceDataService;
+import org.folio.search.model.converter.FieldProcessorContext;
 import org.folio.search.service.setter.AbstractIdentifierProcessor;
 import org.springframework.stereotype.Component;
 
@@ -25,4 +26,9 @@ public class IssnProcessor extends AbstractIdentifierProcessor<Instance> {
   public Set<String> getFieldValue(Instance instance) {
     return filterIdentifiersValue(instance.getIdentifiers());
   }
+
+  @Override
+  public Set<String> getFieldValue(Instance instance, FieldProcessorContext ctx) {
+    return filterIdentifiersValue(instance.getIdentifiers(), ctx);
+  }
 }
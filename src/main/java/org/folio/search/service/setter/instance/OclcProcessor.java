@@ -36,10 +36,12 @@ public class OclcProcessor extends AbstractIdentifierProcessor<Instance> {
 
   @Override
   public Set<String> getFieldValue(Instance instance) {
-    return filterIdentifiersValue(instance.getIdentifiers()).stream()
-      .map(this::normalizeOclc)
-      .filter(Objects::nonNull)
-      .collect(toCollection(LinkedHashSet::new));
+    return normalizeOclcs(filterIdentifiersValue(instance.getIdentifiers()));
+  }
+
+  @Override
+  public Set<String> getFieldValue(Instance instance, FieldProcessorContext ctx) {
+    return normalizeOclcs(filterIdentifiersValue(instance.getIdentifiers(), ctx));
   }
 
   /**
@@ -67,6 +69,13 @@ public class OclcProcessor extends AbstractIdentifierProcessor<Instance> {
     return sb.toString();
   }
 
+  private Set<String> normalizeOclcs(Set<String> oclcValues) {
+    return oclcValues.stream()
+      .map(this::normalizeOclc)
+      .filter(Objects::nonNull)
+      .collect(toCollection(LinkedHashSet::new));
+  }
+
   private String normalizeOclcValue(String value) {
     return WHITESPACE_REGEX.matcher(trim(value)).replaceAll("-");
   }
@@ -1,14 +1,13 @@
 package org.folio.search.service.setter.item;
 
+import static java.util.Collections.emptyMap;
 import static java.util.stream.Collectors.toSet;
-import static org.folio.search.utils.CallNumberUtils.getEffectiveCallNumber;
-import static org.folio.search.utils.CollectionUtils.toStreamSafe;
 
-import java.util.Objects;
 import java.util.Set;
 import org.apache.commons.lang3.StringUtils;
 import org.folio.search.domain.dto.Instance;
-import org.folio.search.domain.dto.Item;
+import org.folio.search.model.converter.CallNumberView;
+import org.folio.search.model.converter.FieldProcessorContext;
 import org.folio.search.service.setter.FieldProcessor;
 import org.springframework.stereotype.Component;
 
@@ -17,10 +16,13 @@ public class EffectiveCallNumberComponentsProcessor implements FieldProcessor<In
 
   @Override
   public Set<String> getFieldValue(Instance instance) {
-    return toStreamSafe(instance.getItems())
-      .map(Item::getEffectiveCallNumberComponents)
-      .filter(Objects::nonNull)
-      .map(cn -> getEffectiveCallNumber(cn.getPrefix(), cn.getCallNumber(), cn.getSuffix()))
+    return getFieldValue(instance, FieldProcessorContext.of(emptyMap(), instance));
+  }
+
+  @Override
+  public Set<String> getFieldValue(Instance instance, FieldProcessorContext ctx) {
+    return ctx.getItemCallNumbers().stream()
+      .map(CallNumberView::effectiveCallNumber)
       .filter(StringUtils::isNotBlank)
       .collect(toSet());
   }
@@ -1,13 +1,14 @@
 package org.folio.search.service.setter.item;
 
+import static java.util.Collections.emptyMap;
 import static org.folio.search.utils.CollectionUtils.toLinkedHashSet;
-import static org.folio.search.utils.CollectionUtils.toStreamSafe;
 
 import java.util.Set;
 import lombok.extern.log4j.Log4j2;
 import org.apache.commons.lang3.StringUtils;
 import org.folio.search.domain.dto.Instance;
-import org.folio.search.domain.dto.Item;
+import org.folio.search.model.converter.CallNumberView;
+import org.folio.search.model.converter.FieldProcessorContext;
 import org.folio.search.service.setter.FieldProcessor;
 import org.folio.search.utils.CallNumberUtils;
 import org.springframework.stereotype.Component;
@@ -18,8 +19,13 @@ public class ItemCallNumberProcessor implements FieldProcessor<Instance, Set<Lon
 
   @Override
   public Set<Long> getFieldValue(Instance instance) {
-    return toStreamSafe(instance.getItems())
-      .map(Item::getEffectiveShelvingOrder)
+    return getFieldValue(instance, FieldProcessorContext.of(emptyMap(), instance));
+  }
+
+  @Override
+  public Set<Long> getFieldValue(Instance instance, FieldProcessorContext ctx) {
+    return ctx.getItemCallNumbers().stream()
+      .map(CallNumberView::shelvingOrder)
       .filter(StringUtils::isNotBlank)
       .map(CallNumberUtils::getCallNumberAsLong)
       .filter(value -> value > 0)
@@ -1,15 +1,14 @@
 package org.folio.search.service.setter.item;
 
+import static java.util.Collections.emptyMap;
 import static org.folio.search.utils.CallNumberUtils.normalizeEffectiveShelvingOrder;
 import static org.folio.search.utils.CollectionUtils.toLinkedHashSet;
-import static org.folio.search.utils.CollectionUtils.toStreamSafe;
 
-import java.util.Optional;
 import java.util.Set;
 import org.apache.commons.lang3.StringUtils;
 import org.folio.search.domain.dto.Instance;
-import org.folio.search.domain.dto.Item;
-import org.folio.search.model.types.CallNumberType;
+import org.folio.search.model.converter.CallNumberView;
+import org.folio.search.model.converter.FieldProcessorContext;
 import org.folio.search.service.setter.FieldProcessor;
 import org.springframework.stereotype.Component;
 
@@ -18,20 +17,24 @@ public class ItemEffectiveShelvingOrderProcessor implements FieldProcessor<Insta
 
   @Override
   public Set<String> getFieldValue(Instance eventBody) {
-    return toStreamSafe(eventBody.getItems())
+    return getFieldValue(eventBody, FieldProcessorContext.of(emptyMap(), eventBody));
+  }
+
+  @Override
+  public Set<String> getFieldValue(Instance eventBody, FieldProcessorContext ctx) {
+    return ctx.getItemCallNumbers().stream()
       .map(this::getNormalizedEffectiveShelvingOrder)
       .filter(StringUtils::isNotBlank)
       .sorted()
       .collect(toLinkedHashSet());
   }
 
-  private String getNormalizedEffectiveShelvingOrder(Item item) {
-    var effectiveShelvingOrder = item.getEffectiveShelvingOrder();
-    return Optional.ofNullable(item.getEffectiveCallNumberComponents())
-      .flatMap(components -> CallNumberType.fromId(components.getTypeId()))
-      .filter(callNumberType -> callNumberType.getNumber() < 5)
-      .map(callNumberType -> effectiveShelvingOrder)
-      .orElse(normalizeEffectiveShelvingOrder(effectiveShelvingOrder));
+  private String getNormalizedEffectiveShelvingOrder(CallNumberView callNumber) {
+    var effectiveShelvingOrder = callNumber.shelvingOrder();
+    var callNumberType = callNumber.type();
+    return callNumberType != null && callNumberType.getNumber() < 5
+      ? effectiveShelvingOrder
+      : normalizeEffectiveShelvingOrder(effectiveShelvingOrder);
   }
 
 }
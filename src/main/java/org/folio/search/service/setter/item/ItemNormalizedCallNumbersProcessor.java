@@ -1,11 +1,11 @@
 package org.folio.search.service.setter.item;
 
-import static org.folio.search.utils.CallNumberUtils.normalizeCallNumberComponents;
-import static org.folio.search.utils.CollectionUtils.toStreamSafe;
+import static java.util.Collections.emptyMap;
 
 import java.util.HashSet;
 import java.util.Set;
 import org.folio.search.domain.dto.Instance;
+import org.folio.search.model.converter.FieldProcessorContext;
 import org.folio.search.service.setter.FieldProcessor;
 import org.springframework.stereotype.Component;
 
@@ -14,15 +14,13 @@ public class ItemNormalizedCallNumbersProcessor implements FieldProcessor<Instan
 
   @Override
   public Set<String> getFieldValue(Instance instance) {
+    return getFieldValue(instance, FieldProcessorContext.of(emptyMap(), instance));
+  }
+
+  @Override
+  public Set<String> getFieldValue(Instance instance, FieldProcessorContext ctx) {
     var result = new HashSet<String>();
-    toStreamSafe(instance.getItems())
-      .filter(items -> items.getEffectiveCallNumberComponents() != null)
-      .forEach(item -> {
-        var itemCallNumber = item.getEffectiveCallNumberComponents();
-        result.add(normalizeCallNumberComponents(itemCallNumber.getPrefix(), itemCallNumber.getCallNumber(),
-          itemCallNumber.getSuffix()));
-        result.add(normalizeCallNumberComponents(itemCallNumber.getCallNumber(), itemCallNumber.getSuffix()));
-      });
+    ctx.getItemCallNumbers().forEach(callNumber -> result.addAll(callNumber.normalizedCallNumbers()));
     return result;
   }
 }
@@ -1,12 +1,12 @@
 package org.folio.search.service.setter.item;
 
+import static java.util.Collections.emptyMap;
 import static org.folio.search.client.InventoryReferenceDataClient.ReferenceDataType.CALL_NUMBER_TYPES;
 import static org.folio.search.model.client.CqlQueryParam.SOURCE;
 import static org.folio.search.model.types.CallNumberTypeSource.LOCAL;
 import static org.folio.search.service.browse.CallNumberBrowseService.FOLIO_CALL_NUMBER_TYPES_SOURCES;
 import static org.folio.search.utils.CallNumberUtils.getCallNumberAsLong;
 import static org.folio.search.utils.CollectionUtils.toLinkedHashSet;
-import static org.folio.search.utils.CollectionUtils.toStreamSafe;
 
 import java.util.Collections;
 import java.util.List;
@@ -16,9 +16,9 @@ import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import org.apache.commons.lang3.StringUtils;
 import org.folio.search.domain.dto.Instance;
-import org.folio.search.domain.dto.Item;
-import org.folio.search.domain.dto.ItemEffectiveCallNumberComponents;
 import org.folio.search.integration.ReferenceDataService;
+import org.folio.search.model.converter.CallNumberView;
+import org.folio.search.model.converter.FieldProcessorContext;
 import org.folio.search.model.types.CallNumberType;
 import org.folio.search.service.setter.FieldProcessor;
 import org.springframework.stereotype.Component;
@@ -33,7 +33,12 @@ public class ItemTypedCallNumberProcessor implements FieldProcessor<Instance, Se
 
   @Override
   public Set<Long> getFieldValue(Instance instance) {
-    return toStreamSafe(instance.getItems())
+    return getFieldValue(instance, FieldProcessorContext.of(emptyMap(), instance));
+  }
+
+  @Override
+  public Set<Long> getFieldValue(Instance instance, FieldProcessorContext ctx) {
+    return ctx.getItemCallNumbers().stream()
       .map(this::toCallNumberLongRepresentation)
       .filter(Objects::nonNull)
       .filter(value -> value > 0)
@@ -42,21 +47,23 @@ public class ItemTypedCallNumberProcessor implements FieldProcessor<Instance, Se
   }
 
   public Optional<Integer> getCallNumberTypedPrefix(String callNumberTypeId) {
-    return CallNumberType.fromId(callNumberTypeId)
+    return getCallNumberTypedPrefix(callNumberTypeId, CallNumberType.fromId(callNumberTypeId).orElse(null));
+  }
+
+  private Optional<Integer> getCallNumberTypedPrefix(String callNumberTypeId, CallNumberType callNumberType) {
+    return Optional.ofNullable(callNumberType)
       .map(CallNumberType::getNumber)
       .or(() -> isLocalCallNumberTypeId(callNumberTypeId)
         ? Optional.of(CallNumberType.LOCAL.getNumber()) : Optional.empty());
   }
 
-  private Long toCallNumberLongRepresentation(Item item) {
-    var effectiveShelvingOrder = item.getEffectiveShelvingOrder();
-    var callNumberTypeId = Optional.ofNullable(item.getEffectiveCallNumberComponents())
-      .map(ItemEffectiveCallNumberComponents::getTypeId)
-      .orElse(null);
+  private Long toCallNumberLongRepresentation(CallNumberView callNumber) {
+    var effectiveShelvingOrder = callNumber.shelvingOrder();
+    var callNumberTypeId = callNumber.typeId();
     if (StringUtils.isAnyBlank(callNumberTypeId, effectiveShelvingOrder)) {
       return null;
     } else {
-      return getCallNumberTypedPrefix(callNumberTypeId)
+      return getCallNumberTypedPrefix(callNumberTypeId, callNumber.type())
         .map(integer -> getCallNumberAsLong(effectiveShelvingOrder, integer))
         .orElse(null);
     }
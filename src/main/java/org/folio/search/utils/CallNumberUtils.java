@@ -5,6 +5,7 @@ import static java.util.Locale.ROOT;
 import static java.util.stream.Collectors.joining;
 
 import jakarta.validation.Valid;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -36,6 +37,8 @@ public class CallNumberUtils {
   private static final String BROWSE_TENANT_FILTER_KEY = "holdings.tenantId";
   private static final String BROWSE_LOCATION_FILTER_KEY = "items.effectiveLocationId";
   private static final Map<Character, Integer> VALID_CHARACTERS_MAP = getValidCharactersMap();
+  private static final int[] ASCII_CHARACTER_VALUES = getAsciiCharacterValues();
+  private static final long[] CHARACTER_POSITION_WEIGHTS = getCharacterPositionWeights();
   private static final Pattern NORMALIZE_REGEX = Pattern.compile("[^a-z0-9]");
 
   /**
@@ -49,14 +52,26 @@ public class CallNumberUtils {
       return "";
     }
 
-    var string = effectiveShelvingOrder.toUpperCase(ROOT);
-    var stringBuilder = new StringBuilder();
-    for (int i = 0; i < string.length(); i++) {
-      var character = string.charAt(i);
-      stringBuilder.append(isSupportedCharacter(character) ? character : ASCII_SPACE);
+    if (!isAscii(effectiveShelvingOrder)) {
+      return normalizeNonAsciiShelvingOrder(effectiveShelvingOrder);
     }
 
-    return stringBuilder.toString().trim();
+    var start = getFirstSupportedCharIndex(effectiveShelvingOrder);
+    var end = getLastSupportedCharIndex(effectiveShelvingOrder) + 1;
+    if (start >= end) {
+      return "";
+    }
+
+    var normalizedChars = new char[end - start];
+    var unchanged = start == 0 && end == effectiveShelvingOrder.length();
+    for (int i = start; i < end; i++) {
+      var character = effectiveShelvingOrder.charAt(i);
+      var normalizedCharacter = normalizeAsciiChar(character);
+      unchanged &= character == normalizedCharacter;
+      normalizedChars[i - start] = normalizedCharacter;
+    }
+
+    return unchanged ? effectiveShelvingOrder : new String(normalizedChars);
   }
 
   /**
@@ -66,10 +81,33 @@ public class CallNumberUtils {
    * @return created normalized call number as {@link String} value
    */
   public static String normalizeCallNumberComponents(String... callNumberValues) {
-    return Stream.of(callNumberValues)
-      .map(s -> RegExUtils.removeAll(StringUtils.lowerCase(s), NORMALIZE_REGEX))
-      .filter(StringUtils::isNotBlank)
-      .collect(Collectors.joining(""));
+    var length = 0;
+    for (var value : callNumberValues) {
+      if (value != null) {
+        if (!isAscii(value)) {
+          return normalizeNonAsciiCallNumberComponents(callNumberValues);
+        }
+        length += value.length();
+      }
+    }
+
+    var normalizedChars = new char[length];
+    var position = 0;
+    for (var value : callNumberValues) {
+      if (value == null) {
+        continue;
+      }
+      for (int i = 0; i < value.length(); i++) {
+        var character = value.charAt(i);
+        if (character >= 'A' && character <= 'Z') {
+          normalizedChars[position++] = (char) (character + ('a' - 'A'));
+        } else if (character >= 'a' && character <= 'z' || character >= '0' && character <= '9') {
+          normalizedChars[position++] = character;
+        }
+      }
+    }
+
+    return new String(normalizedChars, 0, position);
   }
 
   /**
@@ -94,7 +132,9 @@ public class CallNumberUtils {
    * @return true if character is supported, false - otherwise
    */
   public static boolean isSupportedCharacter(char character) {
-    return VALID_CHARACTERS_MAP.containsKey(character);
+    return character < ASCII_CHARACTER_VALUES.length
+      ? ASCII_CHARACTER_VALUES[character] >= 0
+      : VALID_CHARACTERS_MAP.containsKey(character);
   }
 
   /**
@@ -105,6 +145,10 @@ public class CallNumberUtils {
    * @return integer representation for char value
    */
   public static int getIntValue(char character, int defaultValue) {
+    if (character < ASCII_CHARACTER_VALUES.length) {
+      var value = ASCII_CHARACTER_VALUES[character];
+      return value >= 0 ? value : defaultValue;
+    }
     return VALID_CHARACTERS_MAP.getOrDefault(character, defaultValue);
   }
 
@@ -265,6 +309,26 @@ public class CallNumberUtils {
   }
 
   private static long callNumberToLong(String callNumber, long startVal, int maxChars) {
+    if (callNumber == null) {
+      return startVal;
+    }
+
+    if (!isAscii(callNumber)) {
+      return nonAsciiCallNumberToLong(callNumber, startVal, maxChars);
+    }
+
+    // trailing spaces are not trimmed here: space value is 0, so they don't change the result
+    long result = startVal;
+    var start = getFirstSupportedCharIndex(callNumber);
+    var end = Math.min(callNumber.length(), start + maxChars);
+    for (int i = start; i < end; i++) {
+      var characterValue = ASCII_CHARACTER_VALUES[normalizeAsciiChar(callNumber.charAt(i))];
+      result += characterValue * CHARACTER_POSITION_WEIGHTS[maxChars - (i - start)];
+    }
+    return result;
+  }
+
+  private static long nonAsciiCallNumberToLong(String callNumber, long startVal, int maxChars) {
     var cleanCallNumber = cleanCallNumber(callNumber, maxChars);
     if (StringUtils.isBlank(cleanCallNumber)) {
       return startVal;
@@ -282,10 +346,73 @@ public class CallNumberUtils {
     return normalizedCallNumber.substring(0, Math.min(charsCount, normalizedCallNumber.length()));
   }
 
+  private static String normalizeNonAsciiShelvingOrder(String effectiveShelvingOrder) {
+    var string = effectiveShelvingOrder.toUpperCase(ROOT);
+    var stringBuilder = new StringBuilder(string.length());
+    for (int i = 0; i < string.length(); i++) {
+      var character = string.charAt(i);
+      stringBuilder.append(isSupportedCharacter(character) ? character : ASCII_SPACE);
+    }
+
+    return stringBuilder.toString().trim();
+  }
+
+  private static String normalizeNonAsciiCallNumberComponents(String... callNumberValues) {
+    return Stream.of(callNumberValues)
+      .map(s -> RegExUtils.removeAll(StringUtils.lowerCase(s), NORMALIZE_REGEX))
+      .filter(StringUtils::isNotBlank)
+      .collect(Collectors.joining(""));
+  }
+
+  private static char normalizeAsciiChar(char character) {
+    var upperCaseCharacter = character >= 'a' && character <= 'z' ? (char) (character - ('a' - 'A')) : character;
+    return ASCII_CHARACTER_VALUES[upperCaseCharacter] >= 0 ? upperCaseCharacter : ASCII_SPACE;
+  }
+
+  private static int getFirstSupportedCharIndex(String value) {
+    var index = 0;
+    while (index < value.length() && normalizeAsciiChar(value.charAt(index)) == ASCII_SPACE) {
+      index++;
+    }
+    return index;
+  }
+
+  private static int getLastSupportedCharIndex(String value) {
+    var index = value.length() - 1;
+    while (index >= 0 && normalizeAsciiChar(value.charAt(index)) == ASCII_SPACE) {
+      index--;
+    }
+    return index;
+  }
+
+  private static boolean isAscii(String value) {
+    for (int i = 0; i < value.length(); i++) {
+      if (value.charAt(i) >= ASCII_CHARACTER_VALUES.length) {
+        return false;
+      }
+    }
+    return true;
+  }
+
   private static long convertChar(int characterValue, double b) {
     return characterValue * (long) Math.pow(52, b);
   }
 
+  private static int[] getAsciiCharacterValues() {
+    var characterValues = new int[128];
+    Arrays.fill(characterValues, -1);
+    VALID_CHARACTERS_MAP.forEach((character, value) -> characterValues[character] = value);
+    return characterValues;
+  }
+
+  private static long[] getCharacterPositionWeights() {
+    var weights = new long[CN_MAX_CHARS + 1];
+    for (int i = 0; i < weights.length; i++) {
+      weights[i] = (long) Math.pow(52, i);
+    }
+    return weights;
+  }
+
   private static Map<Character, Integer> getValidCharactersMap() {
     var supportedCharacters = getSupportedCharactersAsList();
     Assert.isTrue(supportedCharacters.size() <= MAX_SUPPORTED_CHARACTERS, "Number of supported characters is limited.");
@@ -8,17 +8,24 @@ import static java.util.stream.StreamSupport.stream;
 import static org.apache.commons.collections.CollectionUtils.isEmpty;
 import static org.apache.commons.collections.CollectionUtils.isNotEmpty;
 
+import com.google.common.collect.Maps;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collector;
@@ -65,6 +72,25 @@ public final class CollectionUtils {
     return nullIfEmpty(baseMap);
   }
 
+  /**
+   * Creates read-only view of two merged maps without copying their entries.
+   *
+   * <p>Iteration order and values are the same as for {@link #mergeSafely(Map[])}: keys of the first map are followed
+   * by the keys that are present only in the second one, the second map values override the first map values.</p>
+   *
+   * @param first  first map to merge, can be null
+   * @param second second map to merge, can be null
+   * @param <K>    generic type for map key
+   * @param <V>    generic type for map value
+   * @return merged view of given maps as {@link Map} object, null - if both maps are empty.
+   */
+  public static <K, V> Map<K, V> mergedView(Map<K, V> first, Map<K, V> second) {
+    if (MapUtils.isEmpty(first) && MapUtils.isEmpty(second)) {
+      return null;
+    }
+    return new MergedMapView<>(MapUtils.emptyIfNull(first), MapUtils.emptyIfNull(second));
+  }
+
   /**
    * Converts iterable to {@link LinkedHashMap} using given mapper functions.
    *
@@ -366,6 +392,74 @@ public final class CollectionUtils {
       .collect(toCollection(LinkedHashSet::new));
   }
 
+  /**
+   * Merges lists of the given maps into a single map, where the new key is resolved once per key of the source maps.
+   *
+   * @param keyMapper - key mapper as {@link Function} object
+   * @param maps      - array of maps to merge, null values are ignored
+   * @param <K>       - generic type for source map key
+   * @param <R>       - generic type for result map key
+   * @param <V>       - generic type for list values
+   * @return a new {@link Map} object with merged lists by resolved keys
+   */
+  @SafeVarargs
+  public static <K, R, V> Map<R, List<V>> mergeByMappedKey(Function<K, R> keyMapper, Map<K, List<V>>... maps) {
+    var expectedSize = 0;
+    for (var map : maps) {
+      expectedSize += map != null ? map.size() : 0;
+    }
+
+    Map<R, List<V>> result = Maps.newHashMapWithExpectedSize(expectedSize);
+    for (var map : maps) {
+      if (map == null) {
+        continue;
+      }
+      for (var entry : map.entrySet()) {
+        var key = keyMapper.apply(entry.getKey());
+        var values = result.get(key);
+        if (values == null) {
+          result.put(key, new ArrayList<>(entry.getValue()));
+        } else {
+          values.addAll(entry.getValue());
+        }
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Filters values by the predicate that is evaluated only for the first value of each distinct key, the result is
+   * reused for all other values with the same key.
+   *
+   * @param values           - values to filter
+   * @param keyMapper        - key mapper as {@link Function} object
+   * @param predicate        - value predicate as {@link Predicate} object
+   * @param rejectedConsumer - consumer for values that don't match the predicate
+   * @param <T>              - generic type for values
+   * @param <K>              - generic type for value key
+   * @return a new {@link List} with values that match the predicate
+   */
+  public static <T, K> List<T> filterByKey(Collection<T> values, Function<T, K> keyMapper, Predicate<T> predicate,
+                                           Consumer<T> rejectedConsumer) {
+    var result = new ArrayList<T>(values.size());
+    var matchedKeys = new HashMap<K, Boolean>();
+    for (var value : values) {
+      var key = keyMapper.apply(value);
+      var matched = matchedKeys.get(key);
+      if (matched == null) {
+        matched = predicate.test(value);
+        matchedKeys.put(key, matched);
+      }
+
+      if (matched) {
+        result.add(value);
+      } else {
+        rejectedConsumer.accept(value);
+      }
+    }
+    return result;
+  }
+
   private static List<?> getValueForList(Iterable<?> iterable, String pathValue) {
     return stream(iterable.spliterator(), false)
       .filter(Map.class::isInstance)
@@ -399,4 +493,87 @@ public final class CollectionUtils {
 
     return emptyList();
   }
+
+  private static final class MergedMapView<K, V> extends AbstractMap<K, V> {
+
+    private final Map<K, V> first;
+    private final Map<K, V> second;
+    private final Set<Entry<K, V>> entrySet = new MergedEntrySet();
+
+    private MergedMapView(Map<K, V> first, Map<K, V> second) {
+      this.first = first;
+      this.second = second;
+    }
+
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+      return entrySet;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+      return first.containsKey(key) || second.containsKey(key);
+    }
+
+    @Override
+    public V get(Object key) {
+      return second.containsKey(key) ? second.get(key) : first.get(key);
+    }
+
+    private final class MergedEntrySet extends AbstractSet<Entry<K, V>> {
+
+      @Override
+      public Iterator<Entry<K, V>> iterator() {
+        return new MergedEntryIterator();
+      }
+
+      @Override
+      public int size() {
+        var size = first.size();
+        for (var key : second.keySet()) {
+          if (!first.containsKey(key)) {
+            size++;
+          }
+        }
+        return size;
+      }
+    }
+
+    private final class MergedEntryIterator implements Iterator<Entry<K, V>> {
+
+      private final Iterator<Entry<K, V>> firstIterator = first.entrySet().iterator();
+      private final Iterator<Entry<K, V>> secondIterator = second.entrySet().iterator();
+      private Entry<K, V> nextSecondEntry;
+
+      @Override
+      public boolean hasNext() {
+        if (firstIterator.hasNext() || nextSecondEntry != null) {
+          return true;
+        }
+        while (secondIterator.hasNext()) {
+          var entry = secondIterator.next();
+          if (!first.containsKey(entry.getKey())) {
+            nextSecondEntry = entry;
+            return true;
+          }
+        }
+        return false;
+      }
+
+      @Override
+      public Entry<K, V> next() {
+        if (firstIterator.hasNext()) {
+          var entry = firstIterator.next();
+          var key = entry.getKey();
+          return second.containsKey(key) ? new SimpleImmutableEntry<>(key, second.get(key)) : entry;
+        }
+        if (!hasNext()) {
+          throw new NoSuchElementException();
+        }
+        var entry = nextSecondEntry;
+        nextSecondEntry = null;
+        return entry;
+      }
+    }
+  }
 }
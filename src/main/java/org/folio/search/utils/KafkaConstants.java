@@ -5,10 +5,24 @@ public final class KafkaConstants {
   public static final String CONTRIBUTOR_LISTENER_ID = "mod-search-contributor-listener";
   public static final String SUBJECT_LISTENER_ID = "mod-search-subject-listener";
   public static final String EVENT_LISTENER_ID = "mod-search-events-listener";
+  public static final String REINDEX_EVENT_LISTENER_ID = "mod-search-reindex-events-listener";
   public static final String CONSORTIUM_INSTANCE_LISTENER_ID = "mod-search-consortium-instance-listener";
   public static final String CLASSIFICATION_TYPE_LISTENER_ID = "mod-search-classification-type-listener";
   public static final String LOCATION_LISTENER_ID = "mod-search-location-listener";
   public static final String LINKED_DATA_LISTENER_ID = "mod-search-linked-data-listener";
 
+  /*
+   * Listener names, used as keys of folio.kafka.listener and folio.event-processing.fallback-strategies settings.
+   */
+  public static final String AUTHORITY_LISTENER_NAME = "authorities";
+  public static final String CONTRIBUTOR_LISTENER_NAME = "contributors";
+  public static final String SUBJECT_LISTENER_NAME = "subjects";
+  public static final String EVENT_LISTENER_NAME = "events";
+  public static final String REINDEX_EVENT_LISTENER_NAME = "reindex-events";
+  public static final String CONSORTIUM_INSTANCE_LISTENER_NAME = "consortium-instance";
+  public static final String CLASSIFICATION_TYPE_LISTENER_NAME = "classification-type";
+  public static final String LOCATION_LISTENER_NAME = "location";
+  public static final String LINKED_DATA_LISTENER_NAME = "linked-data";
+
   private KafkaConstants() {}
 }
@@ -0,0 +1,51 @@
+package org.folio.search.utils;
+
+import com.fasterxml.jackson.core.util.ByteArrayBuilder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.util.Map;
+import org.apache.commons.lang3.SerializationException;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.core.common.bytes.BytesReference;
+
+/**
+ * Writes search document fields straight into the Jackson generator (JSON or SMILE, depending on the given object
+ * mapper), backed by the output buffer that is reused by the calling thread.
+ *
+ * <p>Unlike {@link JsonConverter#toJsonBytes(Object)} no intermediate {@link String} is created, the only copy is
+ * the resulting byte array.</p>
+ */
+public class SearchDocumentBodyWriter {
+
+  private static final int INITIAL_BUFFER_SIZE = 8 * 1024;
+
+  private final ObjectMapper objectMapper;
+  private final ThreadLocal<ByteArrayBuilder> buffers =
+    ThreadLocal.withInitial(() -> new ByteArrayBuilder(INITIAL_BUFFER_SIZE));
+
+  public SearchDocumentBodyWriter(ObjectMapper objectMapper) {
+    this.objectMapper = objectMapper;
+  }
+
+  /**
+   * Writes search document fields as the document body.
+   *
+   * @param fields - search document fields as {@link Map} object
+   * @return document body as {@link BytesReference} object, null if fields are null
+   */
+  public BytesReference write(Map<String, Object> fields) {
+    if (fields == null) {
+      return null;
+    }
+
+    var buffer = buffers.get();
+    buffer.reset();
+    try (var generator = objectMapper.getFactory().createGenerator(buffer)) {
+      objectMapper.writeValue(generator, fields);
+    } catch (IOException e) {
+      throw new SerializationException(String.format(
+        JsonConverter.SERIALIZATION_ERROR_MSG_TEMPLATE, e.getMessage()));
+    }
+    return new BytesArray(buffer.toByteArray());
+  }
+}
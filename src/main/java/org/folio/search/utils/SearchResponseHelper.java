@@ -3,6 +3,7 @@ package org.folio.search.utils;
 import java.util.List;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import org.folio.search.domain.dto.FailedIndexItem;
 import org.folio.search.domain.dto.FolioCreateIndexResponse;
 import org.folio.search.domain.dto.FolioIndexOperationResponse;
 import org.folio.search.domain.dto.FolioIndexOperationResponse.StatusEnum;
@@ -59,4 +60,19 @@ public class SearchResponseHelper {
     response.setErrorMessage(errorMessage);
     return response;
   }
+
+  /**
+   * Creates negative {@link FolioIndexOperationResponse} object with error message and documents failed to be
+   * indexed.
+   *
+   * @param errorMessage error message
+   * @param failedItems  documents failed to be indexed with their failure status
+   * @return created {@link FolioIndexOperationResponse} object
+   */
+  public static FolioIndexOperationResponse getErrorIndexOperationResponse(String errorMessage,
+                                                                          List<FailedIndexItem> failedItems) {
+    var response = getErrorIndexOperationResponse(errorMessage);
+    failedItems.forEach(response::addFailedItemsItem);
+    return response;
+  }
 }
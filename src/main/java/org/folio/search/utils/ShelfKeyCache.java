@@ -0,0 +1,52 @@
+package org.folio.search.utils;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.util.function.UnaryOperator;
+import org.folio.search.configuration.properties.SearchCacheConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bounded cache of the call-number shelf keys.
+ *
+ * <p>Shelf keys are calculated by the regex-based marc4j parsers, while the same call numbers repeat across items,
+ * holdings, classifications and browse anchors, so calculated keys are shared by indexing and browsing.</p>
+ */
+@Component
+public class ShelfKeyCache {
+
+  /**
+   * Name of the cache for the cache metrics.
+   */
+  public static final String SHELF_KEY_CACHE_NAME = "shelf-keys";
+
+  private final Cache<ShelfKeyCacheKey, String> shelfKeys;
+
+  public ShelfKeyCache(SearchCacheConfigurationProperties cacheConfiguration) {
+    this.shelfKeys = Caffeine.from(cacheConfiguration.getShelfKeyCacheSpec()).recordStats().build();
+  }
+
+  /**
+   * Provides shelf key for the given call number and shelving algorithm, calculating it only on the cache miss.
+   *
+   * @param algorithm          - shelving algorithm name, that is used as a part of the cache key
+   * @param callNumber         - call number as {@link String} object
+   * @param shelfKeyCalculator - function calculating the shelf key for the call number of the given algorithm
+   * @return shelf key as {@link String} object
+   */
+  public String getShelfKey(String algorithm, String callNumber, UnaryOperator<String> shelfKeyCalculator) {
+    return shelfKeys.get(new ShelfKeyCacheKey(algorithm, callNumber),
+      key -> shelfKeyCalculator.apply(key.callNumber()));
+  }
+
+  /**
+   * Provides the underlying cache to bind its metrics.
+   *
+   * @return shelf keys {@link Cache} object
+   */
+  public Cache<?, ?> getCache() {
+    return shelfKeys;
+  }
+
+  private record ShelfKeyCacheKey(String algorithm, String callNumber) { }
+}
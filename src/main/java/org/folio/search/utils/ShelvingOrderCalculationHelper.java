@@ -12,12 +12,39 @@ public class ShelvingOrderCalculationHelper {
 
   public static String calculate(@NonNull String input, @NonNull ShelvingOrderAlgorithmType algorithmType) {
     return switch (algorithmType) {
-      case LC -> new LCCallNumber(input).getShelfKey().trim();
-      case DEWEY -> new DeweyCallNumber(input).getShelfKey().trim();
+      case LC -> lcShelfKey(input);
+      case DEWEY -> deweyShelfKey(input);
       case DEFAULT -> normalize(input);
     };
   }
 
+  /**
+   * Calculates shelving order using the given cache for the shelf keys of the parsed call numbers.
+   *
+   * @param input         - call number as {@link String} object
+   * @param algorithmType - shelving order algorithm
+   * @param shelfKeyCache - shelf keys cache
+   * @return shelving order as {@link String} object
+   */
+  public static String calculate(@NonNull String input, @NonNull ShelvingOrderAlgorithmType algorithmType,
+                                 @NonNull ShelfKeyCache shelfKeyCache) {
+    return switch (algorithmType) {
+      case LC -> shelfKeyCache.getShelfKey(algorithmType.getValue(), input,
+        ShelvingOrderCalculationHelper::lcShelfKey);
+      case DEWEY -> shelfKeyCache.getShelfKey(algorithmType.getValue(), input,
+        ShelvingOrderCalculationHelper::deweyShelfKey);
+      case DEFAULT -> normalize(input);
+    };
+  }
+
+  private static String lcShelfKey(String input) {
+    return new LCCallNumber(input).getShelfKey().trim();
+  }
+
+  private static String deweyShelfKey(String input) {
+    return new DeweyCallNumber(input).getShelfKey().trim();
+  }
+
   private static String normalize(String input) {
     return input.toUpperCase(Locale.ROOT).trim();
   }
@@ -5,6 +5,8 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
 
 import java.util.Collections;
+import org.folio.search.configuration.properties.EventProcessingProperties;
+import org.folio.search.integration.InstanceResourceEventDeserializer;
 import org.folio.spring.testing.type.UnitTest;
 import org.folio.spring.tools.kafka.FolioKafkaProperties;
 import org.junit.jupiter.api.Test;
@@ -37,6 +39,16 @@ class KafkaConfigurationTest {
     assertThat(containerFactory).isNotNull();
   }
 
+  @Test
+  void instanceEventListenerContainerFactory() {
+    when(kafkaProperties.buildConsumerProperties(any())).thenReturn(Collections.emptyMap());
+    var containerFactory = kafkaConfiguration.instanceEventListenerContainerFactory(new RecordFilterStrategy[0],
+      new BatchInterceptor[0], new EventProcessingProperties());
+    assertThat(containerFactory).isNotNull();
+    assertThat(containerFactory.getConsumerFactory().getValueDeserializer())
+      .isInstanceOf(InstanceResourceEventDeserializer.class);
+  }
+
   @Test
   void consortiumListenerContainerFactory() {
     when(kafkaProperties.buildConsumerProperties(any())).thenReturn(Collections.emptyMap());
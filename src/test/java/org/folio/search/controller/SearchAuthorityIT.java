@@ -5,12 +5,15 @@ import static org.folio.search.sample.SampleAuthorities.getAuthorityNaturalId;
 import static org.folio.search.sample.SampleAuthorities.getAuthoritySampleAsMap;
 import static org.folio.search.sample.SampleAuthorities.getAuthoritySampleId;
 import static org.folio.search.sample.SampleAuthorities.getAuthoritySourceFileId;
+import static org.folio.search.support.base.ApiEndpoints.authoritySearchPath;
 import static org.folio.search.support.base.ApiEndpoints.instanceSearchPath;
 import static org.folio.search.utils.TestConstants.TENANT_ID;
 import static org.folio.search.utils.TestUtils.parseResponse;
+import static org.folio.search.utils.TestUtils.parseResponseTree;
 import static org.folio.search.utils.TestUtils.randomId;
 import static org.hamcrest.Matchers.is;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 
 import java.util.List;
@@ -27,6 +30,7 @@ import org.folio.spring.testing.type.IntegrationTest;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.CsvSource;
@@ -138,6 +142,22 @@ class SearchAuthorityIT extends BaseIntegrationTest {
     );
   }
 
+  @Test
+  void searchByAuthorities_rawSource() {
+    var query = "cql.allRecords=1";
+    var expected = parseResponseTree(
+      doGet(get(authoritySearchPath()).queryParam("query", query).queryParam("includeNumberOfTitles", "false")));
+    var response = doGet(get(authoritySearchPath()).queryParam("query", query)
+      .queryParam("includeNumberOfTitles", "false").queryParam("rawSource", "true"));
+
+    var actual = parseResponseTree(response);
+
+    assertThat(actual.path("totalRecords").asInt()).isEqualTo(30);
+    assertThat(actual.path("totalRecords")).isEqualTo(expected.path("totalRecords"));
+    assertThat(actual.properties()).hasSize(2);
+    assertThat(actual.path("authorities")).containsExactlyInAnyOrderElementsOf(expected.path("authorities"));
+  }
+
   private static Stream<Arguments> testDataProvider() {
     return Stream.of(
       arguments("keyword == {value}", "\"a personal title\""),
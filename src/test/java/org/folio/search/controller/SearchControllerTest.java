@@ -8,6 +8,7 @@ import static org.folio.search.utils.TestUtils.searchResult;
 import static org.folio.search.utils.TestUtils.searchServiceRequest;
 import static org.hamcrest.Matchers.is;
 import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
@@ -15,17 +16,21 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import java.util.stream.Stream;
+import org.folio.search.configuration.properties.SearchQueryConfigurationProperties;
 import org.folio.search.domain.dto.Authority;
 import org.folio.search.domain.dto.Instance;
 import org.folio.search.domain.dto.LinkedDataAuthority;
 import org.folio.search.domain.dto.LinkedDataWork;
 import org.folio.search.exception.SearchOperationException;
 import org.folio.search.exception.SearchServiceException;
+import org.folio.search.model.service.CqlSearchRequest;
+import org.folio.search.service.SearchResultStreamHelper;
 import org.folio.search.service.SearchService;
 import org.folio.search.service.consortium.TenantProvider;
 import org.folio.spring.integration.XOkapiHeaders;
 import org.folio.spring.testing.type.UnitTest;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.CsvSource;
@@ -37,6 +42,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
+import org.springframework.http.ResponseEntity;
 import org.springframework.test.web.servlet.MockMvc;
 
 @UnitTest
@@ -48,6 +54,10 @@ class SearchControllerTest {
   private SearchService searchService;
   @MockBean
   private TenantProvider tenantProvider;
+  @MockBean
+  private SearchResultStreamHelper searchResultStreamHelper;
+  @MockBean
+  private SearchQueryConfigurationProperties searchQueryConfiguration;
   @Autowired
   private MockMvc mockMvc;
 
@@ -82,6 +92,85 @@ class SearchControllerTest {
       .andExpect(jsonPath(jsonDataPath, is(emptyList())));
   }
 
+  @Test
+  void searchInstances_positive_streamingResponse() throws Exception {
+    var cqlQuery = "title all \"test-query\"";
+    var expectedSearchRequest = searchServiceRequest(Instance.class, TENANT_ID, cqlQuery, true, 100);
+    when(searchQueryConfiguration.isStreamingResponseEnabled()).thenReturn(true);
+    when(searchResultStreamHelper.streamSearchResult(expectedSearchRequest, "instances"))
+      .thenReturn(ResponseEntity.ok().build());
+
+    var requestBuilder = get("/search/instances")
+      .queryParam("query", cqlQuery)
+      .queryParam("limit", "100")
+      .queryParam("expandAll", "true")
+      .contentType(APPLICATION_JSON)
+      .header(XOkapiHeaders.TENANT, TENANT_ID);
+
+    mockMvc.perform(requestBuilder)
+      .andExpect(status().isOk());
+    verifyNoInteractions(searchService);
+  }
+
+  @Test
+  void searchInstances_positive_rawSource() throws Exception {
+    var cqlQuery = "title all \"test-query\"";
+    var expectedSearchRequest = searchServiceRequest(Instance.class, TENANT_ID, cqlQuery, false, 100);
+    when(searchResultStreamHelper.streamRawSearchResult(expectedSearchRequest, "instances"))
+      .thenReturn(ResponseEntity.ok().build());
+
+    var requestBuilder = get("/search/instances")
+      .queryParam("query", cqlQuery)
+      .queryParam("limit", "100")
+      .queryParam("rawSource", "true")
+      .contentType(APPLICATION_JSON)
+      .header(XOkapiHeaders.TENANT, TENANT_ID);
+
+    mockMvc.perform(requestBuilder)
+      .andExpect(status().isOk());
+    verifyNoInteractions(searchService);
+  }
+
+  @Test
+  void searchAuthorities_positive_rawSource() throws Exception {
+    var cqlQuery = "headingRef all \"test-query\"";
+    var expectedSearchRequest = CqlSearchRequest.of(Authority.class, TENANT_ID, cqlQuery, 100, 0, false, false);
+    when(searchResultStreamHelper.streamRawSearchResult(expectedSearchRequest, "authorities"))
+      .thenReturn(ResponseEntity.ok().build());
+
+    var requestBuilder = get("/search/authorities")
+      .queryParam("query", cqlQuery)
+      .queryParam("limit", "100")
+      .queryParam("includeNumberOfTitles", "false")
+      .queryParam("rawSource", "true")
+      .contentType(APPLICATION_JSON)
+      .header(XOkapiHeaders.TENANT, TENANT_ID);
+
+    mockMvc.perform(requestBuilder)
+      .andExpect(status().isOk());
+    verifyNoInteractions(searchService);
+  }
+
+  @Test
+  void searchAuthorities_positive_rawSourceWithNumberOfTitles() throws Exception {
+    var cqlQuery = "headingRef all \"test-query\"";
+    var expectedSearchRequest = CqlSearchRequest.of(Authority.class, TENANT_ID, cqlQuery, 100, 0, false, true);
+    when(searchService.search(expectedSearchRequest)).thenReturn(searchResult());
+
+    var requestBuilder = get("/search/authorities")
+      .queryParam("query", cqlQuery)
+      .queryParam("limit", "100")
+      .queryParam("rawSource", "true")
+      .contentType(APPLICATION_JSON)
+      .header(XOkapiHeaders.TENANT, TENANT_ID);
+
+    mockMvc.perform(requestBuilder)
+      .andExpect(status().isOk())
+      .andExpect(jsonPath("$.totalRecords", is(0)))
+      .andExpect(jsonPath("$.authorities", is(emptyList())));
+    verifyNoInteractions(searchResultStreamHelper);
+  }
+
   @ParameterizedTest
   @ValueSource(strings = {
     "/search/instances",
@@ -5,10 +5,13 @@ import static org.folio.search.sample.SampleInstances.getSemanticWebId;
 import static org.folio.search.sample.SampleInstancesResponse.getInstanceBasicResponseSample;
 import static org.folio.search.sample.SampleInstancesResponse.getInstanceFullResponseSample;
 import static org.folio.search.support.base.ApiEndpoints.instanceIdsPath;
+import static org.folio.search.support.base.ApiEndpoints.instanceSearchPath;
 import static org.folio.search.utils.TestConstants.TENANT_ID;
 import static org.folio.search.utils.TestUtils.parseResponse;
+import static org.folio.search.utils.TestUtils.parseResponseTree;
 import static org.hamcrest.Matchers.is;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -124,6 +127,17 @@ class SearchInstanceIT extends BaseIntegrationTest {
     Assertions.assertThat(actual).usingRecursiveComparison().isEqualTo(expected);
   }
 
+  @Test
+  void responseContainsOnlyBasicInstanceProperties_rawSource() {
+    var query = prepareQuery("id=={value}", getSemanticWebId());
+    var expected = parseResponseTree(doSearchByInstances(query));
+    var response = doGet(get(instanceSearchPath()).queryParam("query", query).queryParam("rawSource", "true"));
+
+    var actual = parseResponseTree(response);
+
+    Assertions.assertThat(actual).isEqualTo(expected);
+  }
+
   @Test
   void responseContainsAllInstanceProperties() {
     var expected = getInstanceFullResponseSample();
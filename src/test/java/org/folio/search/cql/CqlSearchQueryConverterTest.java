@@ -4,16 +4,20 @@ import static java.util.Collections.emptyList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.folio.search.utils.SearchUtils.INSTANCE_RESOURCE;
+import static org.folio.search.utils.TestConstants.MEMBER_TENANT_ID;
 import static org.folio.search.utils.TestConstants.RESOURCE_NAME;
+import static org.folio.search.utils.TestConstants.TENANT_ID;
 import static org.folio.search.utils.TestUtils.filterField;
 import static org.folio.search.utils.TestUtils.keywordField;
 import static org.folio.search.utils.TestUtils.multilangField;
 import static org.folio.search.utils.TestUtils.randomId;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.opensearch.index.query.MultiMatchQueryBuilder.Type.CROSS_FIELDS;
 import static org.opensearch.index.query.MultiMatchQueryBuilder.Type.PHRASE;
@@ -32,6 +36,7 @@ import static org.springframework.boot.test.context.SpringBootTest.WebEnvironmen
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 import org.folio.search.cql.CqlSearchQueryConverterTest.ConverterTestConfiguration;
 import org.folio.search.exception.RequestValidationException;
@@ -79,10 +84,14 @@ class CqlSearchQueryConverterTest {
   private ConsortiumTenantService consortiumTenantService;
   @MockBean
   private ConsortiumSearchHelper consortiumSearchHelper;
+  @MockBean
+  private SearchQueryCache searchQueryCache;
 
   @BeforeEach
   void setUp() {
     when(searchFieldProvider.getModifiedField(any(), any())).thenAnswer(f -> f.getArguments()[0]);
+    when(searchQueryCache.get(any(), any(), any(), anyBoolean(), any()))
+      .thenAnswer(invocation -> invocation.<Supplier<SearchSourceBuilder>>getArgument(4).get());
     doAnswer(invocation -> invocation.getArgument(0))
       .when(consortiumSearchHelper).filterQueryForActiveAffiliation(any(), any());
   }
@@ -369,6 +378,21 @@ class CqlSearchQueryConverterTest {
     assertThat(actual).isEqualTo(searchSource().query(consortiumQueryMock));
   }
 
+  @Test
+  void convertForConsortia_positive_cachedPerTenantAndAffiliation() {
+    when(folioExecutionContext.getTenantId()).thenReturn(TENANT_ID);
+    doReturn(Optional.of(filterField())).when(searchFieldProvider).getPlainFieldByPath(RESOURCE_NAME, "f1");
+    var cqlQuery = "f1==value";
+
+    cqlSearchQueryConverter.convert(cqlQuery, RESOURCE_NAME);
+    cqlSearchQueryConverter.convertForConsortia(cqlQuery, RESOURCE_NAME);
+    cqlSearchQueryConverter.convertForConsortia(cqlQuery, RESOURCE_NAME, MEMBER_TENANT_ID);
+
+    verify(searchQueryCache).get(eq(TENANT_ID), eq(RESOURCE_NAME), eq(cqlQuery), eq(false), any());
+    verify(searchQueryCache).get(eq(TENANT_ID), eq(RESOURCE_NAME), eq(cqlQuery), eq(true), any());
+    verify(searchQueryCache).get(eq(MEMBER_TENANT_ID), eq(RESOURCE_NAME), eq(cqlQuery), eq(true), any());
+  }
+
   private static Stream<Arguments> convertCqlQueryDataProvider() {
     var resourceId = randomId();
     return Stream.of(
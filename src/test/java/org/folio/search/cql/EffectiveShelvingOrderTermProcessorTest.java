@@ -5,6 +5,8 @@ import static org.folio.search.utils.CallNumberUtils.normalizeEffectiveShelvingO
 
 import java.util.List;
 import java.util.stream.Collectors;
+import org.folio.search.configuration.properties.SearchCacheConfigurationProperties;
+import org.folio.search.utils.ShelfKeyCache;
 import org.folio.spring.testing.type.UnitTest;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -19,7 +21,8 @@ import org.marc4j.callnum.NlmCallNumber;
 @UnitTest
 class EffectiveShelvingOrderTermProcessorTest {
 
-  private final EffectiveShelvingOrderTermProcessor searchTermProcessor = new EffectiveShelvingOrderTermProcessor();
+  private final EffectiveShelvingOrderTermProcessor searchTermProcessor = new EffectiveShelvingOrderTermProcessor(
+    new ShelfKeyCache(new SearchCacheConfigurationProperties()));
 
   @ParameterizedTest
   @NullSource
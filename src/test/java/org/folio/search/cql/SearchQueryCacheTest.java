@@ -0,0 +1,78 @@
+package org.folio.search.cql;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.folio.search.utils.TestConstants.MEMBER_TENANT_ID;
+import static org.folio.search.utils.TestConstants.RESOURCE_NAME;
+import static org.folio.search.utils.TestConstants.TENANT_ID;
+import static org.opensearch.index.query.QueryBuilders.boolQuery;
+import static org.opensearch.index.query.QueryBuilders.multiMatchQuery;
+import static org.opensearch.index.query.QueryBuilders.termQuery;
+import static org.opensearch.search.sort.SortBuilders.fieldSort;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import org.folio.search.configuration.properties.SearchCacheConfigurationProperties;
+import org.folio.spring.testing.type.UnitTest;
+import org.junit.jupiter.api.Test;
+import org.opensearch.index.query.BoolQueryBuilder;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.search.sort.SortOrder;
+
+@UnitTest
+class SearchQueryCacheTest {
+
+  private static final String QUERY = "title all \"semantic web\" and source==MARC sortby title";
+
+  private final SearchQueryCache searchQueryCache = new SearchQueryCache(new SearchCacheConfigurationProperties());
+  private final AtomicInteger conversions = new AtomicInteger();
+
+  @Test
+  void get_positive_convertedOnce() {
+    var first = searchQueryCache.get(TENANT_ID, RESOURCE_NAME, QUERY, false, this::convert);
+    var second = searchQueryCache.get(TENANT_ID, RESOURCE_NAME, QUERY, false, this::convert);
+
+    assertThat(first).isEqualTo(searchSource()).isEqualTo(second).isNotSameAs(second);
+    assertThat(conversions).hasValue(1);
+  }
+
+  @Test
+  void get_positive_copyIsSafeToMutate() {
+    var first = searchQueryCache.get(TENANT_ID, RESOURCE_NAME, QUERY, false, this::convert);
+    ((BoolQueryBuilder) first.query()).filter().clear();
+    first.sorts().clear();
+    first.size(0);
+
+    var second = searchQueryCache.get(TENANT_ID, RESOURCE_NAME, QUERY, false, this::convert);
+
+    assertThat(second).isEqualTo(searchSource());
+  }
+
+  @Test
+  void get_positive_keyedByTenantAndAffiliation() {
+    searchQueryCache.get(TENANT_ID, RESOURCE_NAME, QUERY, false, this::convert);
+    searchQueryCache.get(TENANT_ID, RESOURCE_NAME, QUERY, true, this::convert);
+    searchQueryCache.get(MEMBER_TENANT_ID, RESOURCE_NAME, QUERY, true, this::convert);
+
+    assertThat(conversions).hasValue(3);
+  }
+
+  @Test
+  void invalidateAll_positive() {
+    searchQueryCache.get(TENANT_ID, RESOURCE_NAME, QUERY, false, this::convert);
+    searchQueryCache.invalidateAll();
+    searchQueryCache.get(TENANT_ID, RESOURCE_NAME, QUERY, false, this::convert);
+
+    assertThat(conversions).hasValue(2);
+    assertThat(searchQueryCache.getCache().stats().missCount()).isEqualTo(2);
+  }
+
+  private SearchSourceBuilder convert() {
+    conversions.incrementAndGet();
+    return searchSource();
+  }
+
+  private static SearchSourceBuilder searchSource() {
+    return new SearchSourceBuilder()
+      .query(boolQuery().must(multiMatchQuery("semantic web", "title.*")).filter(termQuery("source", "MARC")))
+      .sort(fieldSort("sort_title").order(SortOrder.ASC));
+  }
+}
@@ -2,6 +2,7 @@ package org.folio.search.integration;
 
 import static java.util.Collections.singletonList;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.folio.search.model.types.BatchFallbackStrategy.BISECT;
 import static org.folio.search.utils.TestUtils.mapOf;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.never;
@@ -9,6 +10,7 @@ import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -27,8 +29,10 @@ class FolioMessageBatchProcessorTest {
   private final RetryTemplate retryTemplate = spy(RetryTemplate.builder().maxAttempts(3).fixedBackoff(1).build());
   private final RetryTemplate customRetryTemplate = spy(RetryTemplate.builder().maxAttempts(5).fixedBackoff(1).build());
 
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
   private final FolioMessageBatchProcessor folioMessageBatchProcessor = new FolioMessageBatchProcessor(
-    mapOf("default", retryTemplate, "custom", customRetryTemplate), retryTemplate);
+    mapOf("default", retryTemplate, "custom", customRetryTemplate), retryTemplate, meterRegistry);
 
   @Test
   void consumeBatchWithFallback_positive() {
@@ -120,6 +124,42 @@ class FolioMessageBatchProcessorTest {
     });
   }
 
+  @Test
+  void consumeBatchWithFallback_positive_bisectIsolatesFailedValues() {
+    var consumedMessages = new ArrayList<Integer>();
+    var failedMessages = new ArrayList<Pair<Integer, Exception>>();
+    var consumerCalls = new AtomicInteger();
+    folioMessageBatchProcessor.consumeBatchWithFallback(List.of(1, 2, 3, 4, 5, 6, 7, 8), null, BISECT,
+      values -> {
+        consumerCalls.incrementAndGet();
+        if (values.contains(3)) {
+          throw new RuntimeException("error");
+        }
+        consumedMessages.addAll(values);
+      }, (value, err) -> failedMessages.add(Pair.of(value, err)));
+
+    assertThat(consumedMessages).containsExactly(1, 2, 4, 5, 6, 7, 8);
+    assertThat(failedMessages).hasSize(1).satisfies(list -> verifyFailedMessage(list.get(0), 3));
+    // 3 batch attempts, 4 sub-batches ([1-4], [5-8], [1, 2], [3, 4]), 3 attempts for [3] and 1 for [4]
+    assertThat(consumerCalls.get()).isEqualTo(11);
+    assertThat(meterRegistry.get("search.batch.fallback.isolated.values").counter().count()).isEqualTo(1.0);
+    assertThat(meterRegistry.get("search.batch.fallback.split.depth").summary().max()).isEqualTo(3.0);
+  }
+
+  @Test
+  void consumeBatchWithFallback_positive_bisectRecoversFromTransientFailure() {
+    var consumedMessages = new ArrayList<Integer>();
+    var failedMessages = new ArrayList<Pair<Integer, Exception>>();
+    var attemptsCounter = new AtomicInteger(1);
+    folioMessageBatchProcessor.consumeBatchWithFallback(List.of(1, 2, 3), null, BISECT,
+      attemptThrowingConsumer(consumedMessages, attemptsCounter, 3),
+      (value, err) -> failedMessages.add(Pair.of(value, err)));
+
+    assertThat(consumedMessages).containsExactly(1, 2, 3);
+    assertThat(failedMessages).isEmpty();
+    assertThat(meterRegistry.get("search.batch.fallback.isolated.values").counter().count()).isZero();
+  }
+
   private void verifyFailedMessage(Pair<Integer, Exception> value, int expectedValue) {
     assertThat(value.getFirst()).isEqualTo(expectedValue);
     assertThat(value.getSecond()).isInstanceOf(RuntimeException.class);
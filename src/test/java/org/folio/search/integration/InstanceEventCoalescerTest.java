@@ -0,0 +1,138 @@
+package org.folio.search.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+import static org.awaitility.Durations.FIVE_SECONDS;
+import static org.folio.search.domain.dto.ResourceEventType.CREATE;
+import static org.folio.search.domain.dto.ResourceEventType.DELETE;
+import static org.folio.search.domain.dto.ResourceEventType.UPDATE;
+import static org.folio.search.utils.SearchUtils.INSTANCE_RESOURCE;
+import static org.folio.search.utils.TestConstants.TENANT_ID;
+import static org.folio.search.utils.TestUtils.randomId;
+import static org.folio.search.utils.TestUtils.resourceEvent;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.folio.search.configuration.properties.EventProcessingProperties;
+import org.folio.search.domain.dto.ResourceEvent;
+import org.folio.search.domain.dto.ResourceEventType;
+import org.folio.spring.testing.type.UnitTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+@UnitTest
+class InstanceEventCoalescerTest {
+
+  private final ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+  private final EventProcessingProperties properties = new EventProcessingProperties();
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final List<List<ResourceEvent>> flushedBatches = new CopyOnWriteArrayList<>();
+  private InstanceEventCoalescer coalescer;
+
+  @BeforeEach
+  void setUp() {
+    scheduler.initialize();
+    properties.getCoalescing().setWindowMs(50);
+    var tenantBatchExecutor = new TenantBatchExecutor(Runnable::run, properties);
+    coalescer = new InstanceEventCoalescer(scheduler, tenantBatchExecutor, properties, meterRegistry);
+  }
+
+  @AfterEach
+  void tearDown() {
+    scheduler.shutdown();
+  }
+
+  @Test
+  void add_positive_eventsOfSeveralPollsFlushedAsSingleBatch() {
+    properties.getCoalescing().setWindowMs(1000);
+    var instanceId = randomId();
+    var createEvent = instanceEvent(instanceId, CREATE);
+    var updateEvent = instanceEvent(instanceId, UPDATE);
+    var otherEvent = instanceEvent(randomId(), CREATE);
+
+    var firstPoll = CompletableFuture.runAsync(() -> coalescer.add(Map.of(TENANT_ID, List.of(createEvent)),
+      (tenant, events) -> flushedBatches.add(events)));
+    await().atMost(FIVE_SECONDS).untilAsserted(() -> assertThat(bufferedIds()).isEqualTo(1));
+    var secondPoll = CompletableFuture.runAsync(() -> coalescer.add(Map.of(TENANT_ID, List.of(updateEvent, otherEvent)),
+      (tenant, events) -> flushedBatches.add(events)));
+
+    CompletableFuture.allOf(firstPoll, secondPoll).join();
+    assertThat(flushedBatches).containsExactly(List.of(updateEvent, otherEvent));
+    assertThat(meterRegistry.get("search.events.coalescing.received").counter().count()).isEqualTo(3);
+    assertThat(meterRegistry.get("search.events.coalescing.flushed").tag("trigger", "window").counter().count())
+      .isEqualTo(2);
+    assertThat(bufferedIds()).isZero();
+  }
+
+  @Test
+  void add_positive_lastEventIsKeptForInstanceId() {
+    var instanceId = randomId();
+    var updateEvent = instanceEvent(instanceId, UPDATE);
+    var deleteEvent = instanceEvent(instanceId, DELETE);
+    var createEvent = instanceEvent(instanceId, CREATE);
+    var otherEvent = instanceEvent(randomId(), CREATE);
+
+    coalescer.add(Map.of(TENANT_ID, List.of(updateEvent, otherEvent, deleteEvent, createEvent)),
+      (tenant, events) -> flushedBatches.add(events));
+
+    assertThat(flushedBatches).containsExactly(List.of(otherEvent, createEvent));
+  }
+
+  @Test
+  void add_positive_flushedOnCallerThreadWhenLimitIsReached() {
+    properties.getCoalescing().setWindowMs(60_000);
+    properties.getCoalescing().setMaxIdsPerTenant(2);
+    var callerThread = Thread.currentThread();
+    var flushThreads = new CopyOnWriteArrayList<Thread>();
+    var events = List.of(instanceEvent(randomId(), CREATE), instanceEvent(randomId(), CREATE));
+
+    coalescer.add(Map.of(TENANT_ID, events), (tenant, batch) -> {
+      flushThreads.add(Thread.currentThread());
+      flushedBatches.add(batch);
+    });
+
+    assertThat(flushedBatches).containsExactly(events);
+    assertThat(flushThreads).containsExactly(callerThread);
+    assertThat(meterRegistry.get("search.events.coalescing.flushed").tag("trigger", "limit").counter().count())
+      .isEqualTo(2);
+  }
+
+  @Test
+  void add_negative_flushFailureIsRethrownToCaller() {
+    var error = new IllegalStateException("failed to index");
+    var events = Map.of(TENANT_ID, List.of(instanceEvent(randomId(), CREATE)));
+
+    assertThatThrownBy(() -> coalescer.add(events, (tenant, batch) -> {
+      throw error;
+    })).isSameAs(error);
+    assertThat(bufferedIds()).isZero();
+  }
+
+  @Test
+  void flushAll_positive_heldEventsFlushedOnShutdown() {
+    properties.getCoalescing().setWindowMs(60_000);
+    var event = instanceEvent(randomId(), CREATE);
+    var poll = CompletableFuture.runAsync(() -> coalescer.add(Map.of(TENANT_ID, List.of(event)),
+      (tenant, events) -> flushedBatches.add(events)));
+    await().atMost(FIVE_SECONDS).untilAsserted(() -> assertThat(bufferedIds()).isEqualTo(1));
+
+    coalescer.flushAll();
+
+    poll.join();
+    assertThat(flushedBatches).containsExactly(List.of(event));
+  }
+
+  private double bufferedIds() {
+    return meterRegistry.get("search.events.coalescing.buffered").gauge().value();
+  }
+
+  private static ResourceEvent instanceEvent(String id, ResourceEventType type) {
+    return resourceEvent(id, INSTANCE_RESOURCE, type);
+  }
+}
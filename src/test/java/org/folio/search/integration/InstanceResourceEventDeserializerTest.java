@@ -0,0 +1,74 @@
+package org.folio.search.integration;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.folio.search.utils.TestConstants.RESOURCE_ID;
+import static org.folio.search.utils.TestConstants.TENANT_ID;
+import static org.folio.search.utils.TestUtils.asJsonString;
+import static org.folio.search.utils.TestUtils.kafkaResourceEvent;
+import static org.folio.search.utils.TestUtils.mapOf;
+import static org.folio.search.utils.TestUtils.randomId;
+
+import java.util.List;
+import org.apache.kafka.common.errors.SerializationException;
+import org.folio.search.domain.dto.ResourceDeleteEventSubType;
+import org.folio.search.domain.dto.ResourceEvent;
+import org.folio.search.domain.dto.ResourceEventType;
+import org.folio.spring.testing.type.UnitTest;
+import org.junit.jupiter.api.Test;
+
+@UnitTest
+class InstanceResourceEventDeserializerTest {
+
+  private static final String INSTANCE_TOPIC = "folio.test_tenant.inventory.instance";
+  private static final String ITEM_TOPIC = "folio.test_tenant.inventory.item";
+
+  private final InstanceResourceEventDeserializer deserializer = new InstanceResourceEventDeserializer();
+
+  @Test
+  void deserialize_positive_itemEventWithIdsOnly() {
+    var oldInstanceId = randomId();
+    var newItem = mapOf("id", RESOURCE_ID, "instanceId", "i1", "barcode", "123", "notes", List.of(mapOf("a", "b")));
+    var oldItem = mapOf("id", RESOURCE_ID, "instanceId", oldInstanceId, "status", mapOf("name", "Available"));
+    var event = kafkaResourceEvent(ResourceEventType.UPDATE, newItem, oldItem);
+
+    var actual = deserializer.deserialize(ITEM_TOPIC, asJsonString(event).getBytes(UTF_8));
+
+    assertThat(actual).isEqualTo(kafkaResourceEvent(ResourceEventType.UPDATE,
+      mapOf("id", RESOURCE_ID, "instanceId", "i1"), mapOf("id", RESOURCE_ID, "instanceId", oldInstanceId)));
+  }
+
+  @Test
+  void deserialize_positive_instanceEventWithFullOldPayload() {
+    var oldInstance = mapOf("id", RESOURCE_ID, "contributors", List.of(mapOf("name", "John")));
+    var event = kafkaResourceEvent(ResourceEventType.DELETE, null, oldInstance)
+      .deleteEventSubType(ResourceDeleteEventSubType.SOFT_DELETE);
+
+    var actual = deserializer.deserialize(INSTANCE_TOPIC, asJsonString(event).getBytes(UTF_8));
+
+    assertThat(actual).isEqualTo(event);
+  }
+
+  @Test
+  void deserialize_positive_unknownFieldsAreSkipped() {
+    var json = "{\"type\":\"REINDEX\",\"tenant\":\"" + TENANT_ID + "\",\"ts\":\"1\",\"extra\":{\"a\":[1,2]}}";
+
+    var actual = deserializer.deserialize(INSTANCE_TOPIC, json.getBytes(UTF_8));
+
+    assertThat(actual).isEqualTo(new ResourceEvent().type(ResourceEventType.REINDEX).tenant(TENANT_ID));
+  }
+
+  @Test
+  void deserialize_positive_nullData() {
+    assertThat(deserializer.deserialize(INSTANCE_TOPIC, null)).isNull();
+  }
+
+  @Test
+  void deserialize_negative_invalidEventType() {
+    var data = "{\"type\":\"UNKNOWN\"}".getBytes(UTF_8);
+    assertThatThrownBy(() -> deserializer.deserialize(INSTANCE_TOPIC, data))
+      .isInstanceOf(SerializationException.class)
+      .hasMessage("Failed to deserialize resource event [topic: " + INSTANCE_TOPIC + "]");
+  }
+}
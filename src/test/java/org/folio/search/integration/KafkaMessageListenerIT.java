@@ -25,14 +25,20 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.sql.SQLException;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 import lombok.extern.log4j.Log4j2;
 import org.folio.search.configuration.KafkaConfiguration;
 import org.folio.search.configuration.RetryTemplateConfiguration;
+import org.folio.search.configuration.properties.EventProcessingProperties;
+import org.folio.search.configuration.properties.EventProducerProperties;
+import org.folio.search.configuration.properties.ResourceFetchProperties;
 import org.folio.search.configuration.properties.StreamIdsProperties;
 import org.folio.search.domain.dto.ResourceEvent;
 import org.folio.search.exception.SearchOperationException;
@@ -65,12 +71,15 @@ import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.listener.MessageListenerContainer;
 import org.springframework.retry.annotation.EnableRetry;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 
 @Log4j2
 @EnableKafka
 @IntegrationTest
 @Import(KafkaListenerTestConfiguration.class)
-@SpringBootTest(classes = {KafkaMessageListener.class, FolioKafkaProperties.class, StreamIdsProperties.class},
+@SpringBootTest(classes = {KafkaMessageListener.class, FolioKafkaProperties.class, StreamIdsProperties.class,
+                           ResourceFetchProperties.class, EventProcessingProperties.class,
+                           EventProducerProperties.class, TenantBatchExecutor.class, InstanceEventCoalescer.class},
   properties = {
     "ENV=kafka-listener-it",
     "folio.environment=${ENV:folio}",
@@ -278,5 +287,20 @@ class KafkaMessageListenerIT {
     FolioExecutionContext folioExecutionContext() {
       return new DefaultFolioExecutionContext(null, Map.of(TENANT, List.of(TENANT_ID)));
     }
+
+    @Bean
+    MeterRegistry meterRegistry() {
+      return new SimpleMeterRegistry();
+    }
+
+    @Bean("tenantBatchExecutor")
+    Executor tenantBatchExecutor() {
+      return Runnable::run;
+    }
+
+    @Bean("instanceEventCoalescingScheduler")
+    ThreadPoolTaskScheduler instanceEventCoalescingScheduler() {
+      return new ThreadPoolTaskScheduler();
+    }
   }
 }
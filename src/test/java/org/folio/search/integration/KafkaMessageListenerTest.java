@@ -2,11 +2,15 @@ package org.folio.search.integration;
 
 import static java.util.Collections.emptyMap;
 import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.folio.search.configuration.RetryTemplateConfiguration.KAFKA_RETRY_TEMPLATE_NAME;
 import static org.folio.search.domain.dto.ResourceEventType.CREATE;
 import static org.folio.search.domain.dto.ResourceEventType.DELETE;
 import static org.folio.search.domain.dto.ResourceEventType.REINDEX;
 import static org.folio.search.domain.dto.ResourceEventType.UPDATE;
+import static org.folio.search.model.types.BatchFallbackStrategy.ONE_BY_ONE;
+import static org.folio.search.utils.SearchResponseHelper.getErrorIndexOperationResponse;
+import static org.folio.search.utils.SearchResponseHelper.getSuccessIndexOperationResponse;
 import static org.folio.search.utils.SearchUtils.AUTHORITY_RESOURCE;
 import static org.folio.search.utils.SearchUtils.CONTRIBUTOR_RESOURCE;
 import static org.folio.search.utils.SearchUtils.INSTANCE_RESOURCE;
@@ -38,14 +42,24 @@ import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.springframework.retry.support.RetryTemplate.defaultInstance;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
 import java.util.function.BiConsumer;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.record.TimestampType;
+import org.folio.search.configuration.properties.EventProcessingProperties;
 import org.folio.search.domain.dto.Authority;
+import org.folio.search.domain.dto.FailedIndexItem;
 import org.folio.search.domain.dto.LinkedDataAuthority;
 import org.folio.search.domain.dto.LinkedDataWork;
 import org.folio.search.domain.dto.ResourceEvent;
@@ -75,10 +89,17 @@ class KafkaMessageListenerTest {
 
   @Spy
   private final FolioMessageBatchProcessor batchProcessor =
-    new FolioMessageBatchProcessor(emptyMap(), defaultInstance());
+    new FolioMessageBatchProcessor(emptyMap(), defaultInstance(), new SimpleMeterRegistry());
+  @Spy
+  private final EventProcessingProperties eventProcessingProperties = new EventProcessingProperties();
+  @Spy
+  private final TenantBatchExecutor tenantBatchExecutor =
+    new TenantBatchExecutor(Runnable::run, eventProcessingProperties);
   @Spy
   @SuppressWarnings("unused")
   private final JsonConverter jsonConverter = new JsonConverter(OBJECT_MAPPER);
+  @Spy
+  private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
   @InjectMocks
   private KafkaMessageListener messageListener;
   @Mock
@@ -87,11 +108,15 @@ class KafkaMessageListenerTest {
   private ConfigSynchronizationService configSynchronizationService;
   @Mock
   private SystemUserScopedExecutionService executionService;
+  @Mock
+  private InstanceEventCoalescer instanceEventCoalescer;
 
   @BeforeEach
   void setUp() {
     lenient().doAnswer(invocation -> ((Callable<?>) invocation.getArgument(1)).call())
       .when(executionService).executeSystemUserScoped(any(), any());
+    lenient().when(resourceService.indexResources(anyList())).thenReturn(getSuccessIndexOperationResponse());
+    lenient().when(resourceService.indexInstancesById(anyList())).thenReturn(getSuccessIndexOperationResponse());
   }
 
   @Test
@@ -123,7 +148,8 @@ class KafkaMessageListenerTest {
     );
 
     verify(resourceService).indexInstancesById(expectedEvents);
-    verify(batchProcessor).consumeBatchWithFallback(eq(expectedEvents), eq(KAFKA_RETRY_TEMPLATE_NAME), any(), any());
+    verify(batchProcessor).consumeBatchWithFallback(eq(expectedEvents), eq(KAFKA_RETRY_TEMPLATE_NAME),
+      eq(ONE_BY_ONE), any(), any());
   }
 
   @ParameterizedTest
@@ -139,7 +165,8 @@ class KafkaMessageListenerTest {
     var expectedEvents = List.of(expectedEvent);
 
     verify(resourceService).indexInstancesById(expectedEvents);
-    verify(batchProcessor).consumeBatchWithFallback(eq(expectedEvents), eq(KAFKA_RETRY_TEMPLATE_NAME), any(), any());
+    verify(batchProcessor).consumeBatchWithFallback(eq(expectedEvents), eq(KAFKA_RETRY_TEMPLATE_NAME),
+      eq(ONE_BY_ONE), any(), any());
   }
 
   @Test
@@ -161,7 +188,8 @@ class KafkaMessageListenerTest {
         resourceEvent(null, INSTANCE_RESOURCE, REINDEX))));
 
     var expectedEvents = List.of(resourceEvent(RESOURCE_ID, INSTANCE_RESOURCE, REINDEX));
-    verify(batchProcessor).consumeBatchWithFallback(eq(expectedEvents), eq(KAFKA_RETRY_TEMPLATE_NAME), any(), any());
+    verify(batchProcessor).consumeBatchWithFallback(eq(expectedEvents), eq(KAFKA_RETRY_TEMPLATE_NAME),
+      eq(ONE_BY_ONE), any(), any());
     verify(resourceService).indexInstancesById(expectedEvents);
   }
 
@@ -180,7 +208,49 @@ class KafkaMessageListenerTest {
       resourceEvent(RESOURCE_ID, INSTANCE_RESOURCE, CREATE, null, itemPayload),
       resourceEvent(RESOURCE_ID, INSTANCE_RESOURCE, CREATE, null, holdingPayload));
     verify(resourceService).indexInstancesById(expectedEvents);
-    verify(batchProcessor).consumeBatchWithFallback(eq(expectedEvents), eq(KAFKA_RETRY_TEMPLATE_NAME), any(), any());
+    verify(batchProcessor).consumeBatchWithFallback(eq(expectedEvents), eq(KAFKA_RETRY_TEMPLATE_NAME),
+      eq(ONE_BY_ONE), any(), any());
+  }
+
+  @Test
+  void handleEvents_positive_coalescingEnabled() {
+    when(instanceEventCoalescer.isEnabled()).thenReturn(true);
+    var instanceEvent = resourceEvent(null, INSTANCE_RESOURCE, mapOf("id", RESOURCE_ID));
+
+    messageListener.handleInstanceEvents(List.of(
+      new ConsumerRecord<>(inventoryInstanceTopic(), 0, 0, RESOURCE_ID, instanceEvent)));
+
+    var expectedEvent = resourceEvent(RESOURCE_ID, INSTANCE_RESOURCE, mapOf("id", RESOURCE_ID));
+    verify(instanceEventCoalescer).add(eq(Map.of(TENANT_ID, List.of(expectedEvent))), any());
+    verifyNoInteractions(resourceService);
+  }
+
+  @Test
+  void handleEvents_positive_priorityLanesEnabled() {
+    eventProcessingProperties.getPriorityLanes().setEnabled(true);
+    var instanceEvent = resourceEvent(null, INSTANCE_RESOURCE, mapOf("id", RESOURCE_ID));
+    var reindexEvent = resourceEvent(null, INSTANCE_RESOURCE, REINDEX);
+
+    messageListener.handleInstanceEvents(List.of(
+      new ConsumerRecord<>(inventoryInstanceTopic(), 0, 0, RESOURCE_ID, instanceEvent),
+      new ConsumerRecord<>(inventoryInstanceTopic(), 0, 1, randomId(), reindexEvent)));
+
+    var expectedEvents = List.of(resourceEvent(RESOURCE_ID, INSTANCE_RESOURCE, mapOf("id", RESOURCE_ID)));
+    verify(resourceService).indexInstancesById(expectedEvents);
+  }
+
+  @Test
+  void handleEvents_positive_laneLagRecorded() {
+    var instanceEvent = resourceEvent(null, INSTANCE_RESOURCE, mapOf("id", RESOURCE_ID));
+    var timestamp = System.currentTimeMillis() - 1000;
+
+    messageListener.handleInstanceEvents(List.of(new ConsumerRecord<>(inventoryInstanceTopic(), 0, 0, timestamp,
+      TimestampType.CREATE_TIME, 0, 0, RESOURCE_ID, instanceEvent, new RecordHeaders(), Optional.empty())));
+
+    var timer = meterRegistry.find("search.events.lane.lag").tag("lane", "events").timer();
+    assertThat(timer).isNotNull();
+    assertThat(timer.count()).isEqualTo(1);
+    assertThat(timer.max(TimeUnit.MILLISECONDS)).isGreaterThanOrEqualTo(1000);
   }
 
   @Test
@@ -192,7 +262,22 @@ class KafkaMessageListenerTest {
 
     var expectedEvents = singletonList(resourceEvent(RESOURCE_ID, AUTHORITY_RESOURCE, CREATE, payload, null));
     verify(resourceService).indexResources(expectedEvents);
-    verify(batchProcessor).consumeBatchWithFallback(eq(expectedEvents), eq(KAFKA_RETRY_TEMPLATE_NAME), any(), any());
+    verify(batchProcessor).consumeBatchWithFallback(eq(expectedEvents), eq(KAFKA_RETRY_TEMPLATE_NAME),
+      eq(ONE_BY_ONE), any(), any());
+  }
+
+  @Test
+  void handleAuthorityEvent_negative_failedDocumentsReportedWithoutRetry() {
+    var payload = toMap(new Authority().id(RESOURCE_ID));
+    var expectedEvents = singletonList(resourceEvent(RESOURCE_ID, AUTHORITY_RESOURCE, CREATE, payload, null));
+    var failedItem = new FailedIndexItem().id(RESOURCE_ID).status(400);
+    when(resourceService.indexResources(expectedEvents))
+      .thenReturn(getErrorIndexOperationResponse("failure in bulk execution", List.of(failedItem)));
+
+    messageListener.handleAuthorityEvents(List.of(new ConsumerRecord<>(
+      inventoryAuthorityTopic(), 0, 0, RESOURCE_ID, resourceEvent(null, AUTHORITY_RESOURCE, CREATE, payload, null))));
+
+    verify(resourceService).indexResources(expectedEvents);
   }
 
   @Test
@@ -203,7 +288,7 @@ class KafkaMessageListenerTest {
       inventoryAuthorityTopic(), 0, 0, RESOURCE_ID, resourceEvent(null, null, REINDEX, payload, null))));
 
     verify(resourceService, never()).indexResources(anyList());
-    verify(batchProcessor, never()).consumeBatchWithFallback(any(), any(), any(), any());
+    verify(batchProcessor, never()).consumeBatchWithFallback(any(), any(), any(), any(), any());
   }
 
   @Test
@@ -212,14 +297,17 @@ class KafkaMessageListenerTest {
     var expectedEvents = List.of(resourceEvent(RESOURCE_ID, AUTHORITY_RESOURCE, UPDATE, payload, null));
 
     doAnswer(inv -> {
-      inv.<BiConsumer<ResourceEvent, Exception>>getArgument(3).accept(expectedEvents.get(0), new Exception("error"));
+      inv.<BiConsumer<ResourceEvent, Exception>>getArgument(4).accept(expectedEvents.get(0), new Exception("error"));
       return null;
-    }).when(batchProcessor).consumeBatchWithFallback(eq(expectedEvents), eq(KAFKA_RETRY_TEMPLATE_NAME), any(), any());
+    }).when(batchProcessor).consumeBatchWithFallback(eq(expectedEvents), eq(KAFKA_RETRY_TEMPLATE_NAME),
+      eq(ONE_BY_ONE), any(), any());
 
     messageListener.handleAuthorityEvents(List.of(new ConsumerRecord<>(
       inventoryAuthorityTopic(), 0, 0, RESOURCE_ID, resourceEvent(null, AUTHORITY_RESOURCE, UPDATE, payload, null))));
 
-    verify(batchProcessor).consumeBatchWithFallback(eq(expectedEvents), eq(KAFKA_RETRY_TEMPLATE_NAME), any(), any());
+    verify(batchProcessor).consumeBatchWithFallback(eq(expectedEvents), eq(KAFKA_RETRY_TEMPLATE_NAME),
+
+      eq(ONE_BY_ONE), any(), any());
   }
 
   @Test
@@ -234,7 +322,8 @@ class KafkaMessageListenerTest {
       resourceEvent(null, CONTRIBUTOR_RESOURCE, CREATE, payload, null))));
 
     verify(resourceService).indexResources(expectedEvents);
-    verify(batchProcessor).consumeBatchWithFallback(eq(expectedEvents), eq(KAFKA_RETRY_TEMPLATE_NAME), any(), any());
+    verify(batchProcessor).consumeBatchWithFallback(eq(expectedEvents), eq(KAFKA_RETRY_TEMPLATE_NAME),
+      eq(ONE_BY_ONE), any(), any());
   }
 
   @Test
@@ -245,15 +334,18 @@ class KafkaMessageListenerTest {
     var expectedEvents = singletonList(resourceEvent(RESOURCE_ID, CONTRIBUTOR_RESOURCE, CREATE, payload, null));
 
     doAnswer(inv -> {
-      inv.<BiConsumer<ResourceEvent, Exception>>getArgument(3).accept(expectedEvents.get(0), new Exception("error"));
+      inv.<BiConsumer<ResourceEvent, Exception>>getArgument(4).accept(expectedEvents.get(0), new Exception("error"));
       return null;
-    }).when(batchProcessor).consumeBatchWithFallback(eq(expectedEvents), eq(KAFKA_RETRY_TEMPLATE_NAME), any(), any());
+    }).when(batchProcessor).consumeBatchWithFallback(eq(expectedEvents), eq(KAFKA_RETRY_TEMPLATE_NAME),
+      eq(ONE_BY_ONE), any(), any());
 
     messageListener.handleContributorEvents(List.of(new ConsumerRecord<>(
       inventoryContributorTopic(), 0, 0, RESOURCE_ID,
       resourceEvent(null, CONTRIBUTOR_RESOURCE, CREATE, payload, null))));
 
-    verify(batchProcessor).consumeBatchWithFallback(eq(expectedEvents), eq(KAFKA_RETRY_TEMPLATE_NAME), any(), any());
+    verify(batchProcessor).consumeBatchWithFallback(eq(expectedEvents), eq(KAFKA_RETRY_TEMPLATE_NAME),
+
+      eq(ONE_BY_ONE), any(), any());
   }
 
   @Test
@@ -266,8 +358,7 @@ class KafkaMessageListenerTest {
 
     verify(resourceService).indexConsortiumInstances(singletonList(consortiumInstanceEvent));
     verify(batchProcessor).consumeBatchWithFallback(eq(singletonList(consortiumInstanceEvent)),
-      eq(KAFKA_RETRY_TEMPLATE_NAME),
-      any(), any());
+      eq(KAFKA_RETRY_TEMPLATE_NAME), eq(ONE_BY_ONE), any(), any());
   }
 
   @Test
@@ -275,20 +366,19 @@ class KafkaMessageListenerTest {
     var consortiumInstanceEvent = new ConsortiumInstanceEvent(RESOURCE_ID);
     consortiumInstanceEvent.setTenant(TENANT_ID);
     doAnswer(inv -> {
-      inv.<BiConsumer<ConsortiumInstanceEvent, Exception>>getArgument(3)
+      inv.<BiConsumer<ConsortiumInstanceEvent, Exception>>getArgument(4)
         .accept(consortiumInstanceEvent, new Exception("error"));
       return null;
     }).when(batchProcessor)
-      .consumeBatchWithFallback(eq(singletonList(consortiumInstanceEvent)), eq(KAFKA_RETRY_TEMPLATE_NAME), any(),
-        any());
+      .consumeBatchWithFallback(eq(singletonList(consortiumInstanceEvent)), eq(KAFKA_RETRY_TEMPLATE_NAME),
+        eq(ONE_BY_ONE), any(), any());
 
     messageListener.handleConsortiumInstanceEvents(singletonList(new ConsumerRecord<>(
       consortiumInstanceTopic(), 0, 0, RESOURCE_ID, consortiumInstanceEvent
     )));
 
     verify(batchProcessor).consumeBatchWithFallback(eq(singletonList(consortiumInstanceEvent)),
-      eq(KAFKA_RETRY_TEMPLATE_NAME),
-      any(), any());
+      eq(KAFKA_RETRY_TEMPLATE_NAME), eq(ONE_BY_ONE), any(), any());
   }
 
   @Test
@@ -301,7 +391,8 @@ class KafkaMessageListenerTest {
 
     var expectedEvents = singletonList(resourceEvent(RESOURCE_ID, LINKED_DATA_WORK_RESOURCE, CREATE, payload, null));
     verify(resourceService).indexResources(expectedEvents);
-    verify(batchProcessor).consumeBatchWithFallback(eq(expectedEvents), eq(KAFKA_RETRY_TEMPLATE_NAME), any(), any());
+    verify(batchProcessor).consumeBatchWithFallback(eq(expectedEvents), eq(KAFKA_RETRY_TEMPLATE_NAME),
+      eq(ONE_BY_ONE), any(), any());
   }
 
   @Test
@@ -310,15 +401,18 @@ class KafkaMessageListenerTest {
     var expectedEvents = List.of(resourceEvent(RESOURCE_ID, LINKED_DATA_WORK_RESOURCE, UPDATE, payload, null));
 
     doAnswer(inv -> {
-      inv.<BiConsumer<ResourceEvent, Exception>>getArgument(3).accept(expectedEvents.get(0), new Exception("error"));
+      inv.<BiConsumer<ResourceEvent, Exception>>getArgument(4).accept(expectedEvents.get(0), new Exception("error"));
       return null;
-    }).when(batchProcessor).consumeBatchWithFallback(eq(expectedEvents), eq(KAFKA_RETRY_TEMPLATE_NAME), any(), any());
+    }).when(batchProcessor).consumeBatchWithFallback(eq(expectedEvents), eq(KAFKA_RETRY_TEMPLATE_NAME),
+      eq(ONE_BY_ONE), any(), any());
 
     var consumerRecord = new ConsumerRecord<>(linkedDataWorkTopic(TENANT_ID), 0, 0, RESOURCE_ID,
       resourceEvent(null, LINKED_DATA_WORK_RESOURCE, UPDATE, payload, null));
     messageListener.handleLinkedDataEvents(List.of(consumerRecord));
 
-    verify(batchProcessor).consumeBatchWithFallback(eq(expectedEvents), eq(KAFKA_RETRY_TEMPLATE_NAME), any(), any());
+    verify(batchProcessor).consumeBatchWithFallback(eq(expectedEvents), eq(KAFKA_RETRY_TEMPLATE_NAME),
+
+      eq(ONE_BY_ONE), any(), any());
   }
 
   @Test
@@ -332,7 +426,8 @@ class KafkaMessageListenerTest {
     var expectedEvents = singletonList(
       resourceEvent(RESOURCE_ID, LINKED_DATA_AUTHORITY_RESOURCE, CREATE, payload, null));
     verify(resourceService).indexResources(expectedEvents);
-    verify(batchProcessor).consumeBatchWithFallback(eq(expectedEvents), eq(KAFKA_RETRY_TEMPLATE_NAME), any(), any());
+    verify(batchProcessor).consumeBatchWithFallback(eq(expectedEvents), eq(KAFKA_RETRY_TEMPLATE_NAME),
+      eq(ONE_BY_ONE), any(), any());
   }
 
   @Test
@@ -341,15 +436,18 @@ class KafkaMessageListenerTest {
     var expectedEvents = List.of(resourceEvent(RESOURCE_ID, LINKED_DATA_AUTHORITY_RESOURCE, UPDATE, payload, null));
 
     doAnswer(inv -> {
-      inv.<BiConsumer<ResourceEvent, Exception>>getArgument(3).accept(expectedEvents.get(0), new Exception("error"));
+      inv.<BiConsumer<ResourceEvent, Exception>>getArgument(4).accept(expectedEvents.get(0), new Exception("error"));
       return null;
-    }).when(batchProcessor).consumeBatchWithFallback(eq(expectedEvents), eq(KAFKA_RETRY_TEMPLATE_NAME), any(), any());
+    }).when(batchProcessor).consumeBatchWithFallback(eq(expectedEvents), eq(KAFKA_RETRY_TEMPLATE_NAME),
+      eq(ONE_BY_ONE), any(), any());
 
     messageListener.handleLinkedDataEvents(List.of(new ConsumerRecord<>(
       linkedDataAuthorityTopic(TENANT_ID), 0, 0, RESOURCE_ID,
       resourceEvent(null, LINKED_DATA_AUTHORITY_RESOURCE, UPDATE, payload, null))));
 
-    verify(batchProcessor).consumeBatchWithFallback(eq(expectedEvents), eq(KAFKA_RETRY_TEMPLATE_NAME), any(), any());
+    verify(batchProcessor).consumeBatchWithFallback(eq(expectedEvents), eq(KAFKA_RETRY_TEMPLATE_NAME),
+
+      eq(ONE_BY_ONE), any(), any());
   }
 
   @Test
@@ -365,7 +463,7 @@ class KafkaMessageListenerTest {
     );
 
     verify(configSynchronizationService).sync(List.of(deleteEvent), ResourceType.CLASSIFICATION_TYPE);
-    verify(batchProcessor).consumeBatchWithFallback(eq(List.of(deleteEvent)), any(), any(), any());
+    verify(batchProcessor).consumeBatchWithFallback(eq(List.of(deleteEvent)), any(), eq(ONE_BY_ONE), any(), any());
   }
 
   @NotNull
@@ -4,6 +4,7 @@ import static java.util.Collections.singletonList;
 import static org.apache.commons.codec.digest.DigestUtils.sha1Hex;
 import static org.apache.logging.log4j.util.Strings.toRootLowerCase;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.groups.Tuple.tuple;
 import static org.folio.search.domain.dto.ResourceEventType.CREATE;
 import static org.folio.search.domain.dto.ResourceEventType.DELETE;
@@ -15,21 +16,31 @@ import static org.folio.search.utils.SearchUtils.SOURCE_FIELD;
 import static org.folio.search.utils.TestUtils.mapOf;
 import static org.folio.search.utils.TestUtils.randomId;
 import static org.folio.search.utils.TestUtils.resourceEvent;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
 
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.KafkaException;
+import org.folio.search.configuration.properties.EventProducerProperties;
 import org.folio.search.domain.dto.ResourceEvent;
+import org.folio.search.exception.SearchServiceException;
 import org.folio.search.model.event.ContributorResourceEvent;
 import org.folio.search.service.consortium.ConsortiumTenantService;
 import org.folio.search.utils.JsonConverter;
 import org.folio.spring.testing.type.UnitTest;
 import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -56,6 +67,16 @@ class KafkaMessageProducerTest {
   private KafkaTemplate<String, ResourceEvent> kafkaTemplate;
   @Mock
   private ConsortiumTenantService tenantService;
+  @Spy
+  private EventProducerProperties eventProducerProperties = new EventProducerProperties();
+  @Spy
+  private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  @BeforeEach
+  void setUp() {
+    lenient().when(kafkaTemplate.send(ArgumentMatchers.<ProducerRecord<String, ResourceEvent>>any()))
+      .thenReturn(CompletableFuture.completedFuture(null));
+  }
 
   @Test
   void shouldSendTwoSubjectEvents_whenSubjectChanged() {
@@ -252,6 +273,84 @@ class KafkaMessageProducerTest {
     verify(kafkaTemplate).send(ArgumentMatchers.<ProducerRecord<String, ResourceEvent>>any());
   }
 
+  @Test
+  void prepareAndSendContributorEvents_positive_recordsSentTogether() {
+    var instanceId = randomId();
+    var instanceObject = instanceObjectWithContributors(instanceId, mapOf("name", "John Smith"));
+    var resourceEvent = resourceEvent(instanceId, INSTANCE_RESOURCE, CREATE, instanceObject, null);
+    var otherInstanceId = randomId();
+    var otherInstanceObject = instanceObjectWithContributors(otherInstanceId, mapOf("name", "Jane Smith"));
+    var otherResourceEvent = resourceEvent(otherInstanceId, INSTANCE_RESOURCE, CREATE, otherInstanceObject, null);
+
+    producer.prepareAndSendContributorEvents(List.of(resourceEvent, otherResourceEvent));
+
+    verify(kafkaTemplate, times(2)).send(ArgumentMatchers.<ProducerRecord<String, ResourceEvent>>any());
+    verify(kafkaTemplate, never()).flush();
+  }
+
+  @Test
+  void prepareAndSendSubjectEvents_negative_sendFailed() {
+    var instanceId = randomId();
+    var resourceEvent = resourceEvent(instanceId, INSTANCE_RESOURCE, CREATE,
+      instanceObjectWithSubjects(instanceId, subjectObject("Medicine")), null);
+    when(kafkaTemplate.send(ArgumentMatchers.<ProducerRecord<String, ResourceEvent>>any()))
+      .thenReturn(CompletableFuture.failedFuture(new KafkaException("broker is not available")));
+
+    var events = List.of(resourceEvent);
+    assertThatThrownBy(() -> producer.prepareAndSendSubjectEvents(events))
+      .isInstanceOf(SearchServiceException.class)
+      .hasMessage("Failed to send events to Kafka [total: 1]")
+      .hasCauseInstanceOf(KafkaException.class);
+  }
+
+  @Test
+  void prepareAndSendSubjectEvents_positive_skippedWhenSubjectsNotChanged() {
+    var instanceId = randomId();
+    var subjectObject = subjectObject("Medicine");
+    var newInstance = instanceObjectWithSubjects(instanceId, subjectObject);
+    newInstance.put("title", "new title");
+    var resourceEvent = resourceEvent(instanceId, INSTANCE_RESOURCE, UPDATE,
+      newInstance, instanceObjectWithSubjects(instanceId, subjectObject));
+
+    producer.prepareAndSendSubjectEvents(singletonList(resourceEvent));
+
+    verify(jsonConverter, never()).convert(ArgumentMatchers.any(), ArgumentMatchers.any(TypeReference.class));
+    verifyNoInteractions(kafkaTemplate);
+    assertThat(fanOutCount("subjects", "skipped")).isEqualTo(1);
+  }
+
+  @Test
+  void prepareAndSendContributorEvents_positive_skippedForItemChange() {
+    var instanceId = randomId();
+    var typeId = randomId();
+    var instanceObject = instanceObjectWithContributors(instanceId, contributorObject(typeId, "Skywalker, Luke"));
+    var oldItem = mapOf(ID_FIELD, randomId(), "instanceId", instanceId, "barcode", "123");
+    var resourceEvent = resourceEvent(instanceId, INSTANCE_RESOURCE, CREATE, instanceObject, oldItem);
+
+    producer.prepareAndSendContributorEvents(singletonList(resourceEvent));
+
+    verifyNoInteractions(kafkaTemplate);
+    assertThat(fanOutCount("contributors", "skipped")).isEqualTo(1);
+    assertThat(fanOutCount("contributors", "emitted")).isZero();
+  }
+
+  @Test
+  void prepareAndSendContributorEvents_positive_emittedCounted() {
+    var instanceId = randomId();
+    var instanceObject = instanceObjectWithContributors(instanceId, mapOf("name", "John Smith"));
+    var resourceEvent = resourceEvent(instanceId, INSTANCE_RESOURCE, CREATE, instanceObject, null);
+
+    producer.prepareAndSendContributorEvents(singletonList(resourceEvent));
+
+    assertThat(fanOutCount("contributors", "emitted")).isEqualTo(1);
+    assertThat(fanOutCount("contributors", "skipped")).isZero();
+  }
+
+  private double fanOutCount(String field, String outcome) {
+    var counter = meterRegistry.find("search.events.fanout").tag("field", field).tag("outcome", outcome).counter();
+    return counter != null ? counter.count() : 0;
+  }
+
   @NotNull
   private Map<String, String> instanceObjectWithContributors(String id, Map<String, String> contributorObject) {
     return mapOf(ID_FIELD, id, "contributors", List.of(contributorObject));
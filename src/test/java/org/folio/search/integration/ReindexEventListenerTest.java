@@ -0,0 +1,42 @@
+package org.folio.search.integration;
+
+import static org.folio.search.domain.dto.ResourceEventType.REINDEX;
+import static org.folio.search.utils.KafkaConstants.REINDEX_EVENT_LISTENER_NAME;
+import static org.folio.search.utils.SearchUtils.INSTANCE_RESOURCE;
+import static org.folio.search.utils.TestConstants.RESOURCE_ID;
+import static org.folio.search.utils.TestConstants.inventoryInstanceTopic;
+import static org.folio.search.utils.TestUtils.mapOf;
+import static org.folio.search.utils.TestUtils.randomId;
+import static org.folio.search.utils.TestUtils.resourceEvent;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.folio.spring.testing.type.UnitTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@UnitTest
+@ExtendWith(MockitoExtension.class)
+class ReindexEventListenerTest {
+
+  @InjectMocks
+  private ReindexEventListener reindexEventListener;
+  @Mock
+  private KafkaMessageListener kafkaMessageListener;
+
+  @Test
+  void handleReindexEvents_positive_onlyReindexEventsPassed() {
+    var reindexRecord = new ConsumerRecord<>(inventoryInstanceTopic(), 0, 1, RESOURCE_ID,
+      resourceEvent(null, INSTANCE_RESOURCE, REINDEX));
+    var instanceRecord = new ConsumerRecord<>(inventoryInstanceTopic(), 0, 0, randomId(),
+      resourceEvent(null, INSTANCE_RESOURCE, mapOf("id", randomId())));
+
+    reindexEventListener.handleReindexEvents(List.of(instanceRecord, reindexRecord));
+
+    verify(kafkaMessageListener).handleInstanceEvents(List.of(reindexRecord), REINDEX_EVENT_LISTENER_NAME);
+  }
+}
@@ -2,6 +2,7 @@ package org.folio.search.integration;
 
 import static java.util.Collections.emptyList;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.folio.search.domain.dto.ResourceEventType.CREATE;
 import static org.folio.search.domain.dto.ResourceEventType.UPDATE;
 import static org.folio.search.model.client.CqlQuery.exactMatchAny;
@@ -16,38 +17,48 @@ import static org.folio.search.utils.TestUtils.randomId;
 import static org.folio.search.utils.TestUtils.resourceEvent;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import feign.Request;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.net.SocketTimeoutException;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Stream;
 import org.folio.search.client.InventoryViewClient;
 import org.folio.search.client.InventoryViewClient.InstanceView;
+import org.folio.search.configuration.properties.ResourceFetchProperties;
 import org.folio.search.domain.dto.Holding;
 import org.folio.search.domain.dto.Instance;
 import org.folio.search.domain.dto.Item;
 import org.folio.search.domain.dto.ResourceEvent;
+import org.folio.search.model.client.CqlQuery;
 import org.folio.search.model.client.CqlQueryParam;
-import org.folio.search.model.service.ResultList;
 import org.folio.spring.FolioExecutionContext;
 import org.folio.spring.testing.type.UnitTest;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
-import org.mockito.invocation.InvocationOnMock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.mockito.stubbing.Answer;
 
 @UnitTest
 @ExtendWith(MockitoExtension.class)
 class ResourceFetchServiceTest {
 
-  @InjectMocks
+  private final ExecutorService executor = Executors.newFixedThreadPool(2);
+  private final ResourceFetchProperties properties = new ResourceFetchProperties();
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
   private ResourceFetchService resourceFetchService;
   @Mock
   private InventoryViewClient inventoryClient;
@@ -56,9 +67,15 @@ class ResourceFetchServiceTest {
 
   @BeforeEach
   void setUp() {
+    resourceFetchService = new ResourceFetchService(inventoryClient, context, properties, executor, meterRegistry);
     lenient().when(context.getTenantId()).thenReturn(TENANT_ID);
   }
 
+  @AfterEach
+  void tearDown() {
+    executor.shutdownNow();
+  }
+
   @Test
   void fetchInstancesById_positive() {
     var events = resourceEvents();
@@ -69,7 +86,8 @@ class ResourceFetchServiceTest {
     var instance2 = instanceView(new Instance().id(instanceId2).title("inst2")
       .holdings(List.of(new Holding().id("holdingId"))).items(List.of(new Item().id("itemId"))), true);
 
-    when(inventoryClient.getInstances(exactMatchAny(CqlQueryParam.ID, List.of(instanceId1, instanceId2)), 2))
+    var query = exactMatchAny(CqlQueryParam.ID, List.of(instanceId1, instanceId2));
+    when(inventoryClient.getInstances(eq(query), eq(2), any()))
       .thenReturn(asSinglePage(List.of(instance1, instance2)));
 
     var actual = resourceFetchService.fetchInstancesByIds(events);
@@ -83,7 +101,7 @@ class ResourceFetchServiceTest {
           "items", List.of(mapOf("id", "itemId")), "isBoundWith", true),
         mapOf("id", instanceId2, "title", "old"))
     ));
-    verify(inventoryClient, times(1)).getInstances(any(), anyInt());
+    verify(inventoryClient, times(1)).getInstances(any(), anyInt(), any());
   }
 
   @Test
@@ -93,7 +111,8 @@ class ResourceFetchServiceTest {
     var instanceId2 = events.get(1).getId();
     var instanceView = instanceView(new Instance().id(instanceId1).title("inst1"), null);
 
-    when(inventoryClient.getInstances(exactMatchAny(CqlQueryParam.ID, List.of(instanceId1, instanceId2)), 2))
+    var query = exactMatchAny(CqlQueryParam.ID, List.of(instanceId1, instanceId2));
+    when(inventoryClient.getInstances(eq(query), eq(2), any()))
       .thenReturn(asSinglePage(List.of(instanceView)));
 
     var actual = resourceFetchService.fetchInstancesByIds(events);
@@ -109,7 +128,7 @@ class ResourceFetchServiceTest {
     var invalidId = randomId();
     var instanceView = instanceView(new Instance().id(invalidId).title("inst1"), null);
 
-    when(inventoryClient.getInstances(exactMatchAny(CqlQueryParam.ID, List.of(id)), 1))
+    when(inventoryClient.getInstances(eq(exactMatchAny(CqlQueryParam.ID, List.of(id))), eq(1), any()))
       .thenReturn(asSinglePage(List.of(instanceView)));
 
     var actual = resourceFetchService.fetchInstancesByIds(List.of(resourceEvent));
@@ -136,24 +155,82 @@ class ResourceFetchServiceTest {
       .id(events.get(50).getId()).title("inst2").holdings(List.of(new Holding().id("holdingId")))
       .items(List.of(new Item().id("itemId"))), true));
 
-    when(inventoryClient.getInstances(any(), anyInt()))
-      .thenAnswer(new Answer<>() {
-        private int count = 0;
-
-        public ResultList<InstanceView> answer(InvocationOnMock invocation) {
-          if (count++ == 1) {
-            // it will be returned the first time the method is called
-            return asSinglePage(firstPartInstances);
-          }
-          // it will be returned the second time the method is called
-          return asSinglePage(secondPartInstances);
-        }
-      });
+    var firstPartIds = events.stream().limit(50).map(ResourceEvent::getId).toList();
+    when(inventoryClient.getInstances(eq(exactMatchAny(CqlQueryParam.ID, firstPartIds)), eq(50), any()))
+      .thenReturn(asSinglePage(firstPartInstances));
+    var secondPartQuery = exactMatchAny(CqlQueryParam.ID, List.of(events.get(50).getId()));
+    when(inventoryClient.getInstances(eq(secondPartQuery), eq(1), any()))
+      .thenReturn(asSinglePage(secondPartInstances));
 
     var actual = resourceFetchService.fetchInstancesByIds(events);
 
     assertThat(actual).hasSize(51);
-    verify(inventoryClient, times(2)).getInstances(any(), anyInt());
+    verify(inventoryClient, times(2)).getInstances(any(), anyInt(), any());
+  }
+
+  @Test
+  void fetchInstancesByIds_positive_batchesFetchedInParallelPreservingOrder() {
+    properties.setBatchSize(1);
+    var events = resourceEvents();
+    var instanceId1 = events.get(0).getId();
+    var instanceId2 = events.get(1).getId();
+    var latch = new CountDownLatch(2);
+
+    when(inventoryClient.getInstances(any(), anyInt(), any())).thenAnswer(inv -> {
+      latch.countDown();
+      assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+      var id = inv.<CqlQuery>getArgument(0).equals(exactMatchAny(CqlQueryParam.ID, List.of(instanceId1)))
+               ? instanceId1 : instanceId2;
+      return asSinglePage(List.of(instanceView(new Instance().id(id).title("inst"), null)));
+    });
+
+    var actual = resourceFetchService.fetchInstancesByIds(events);
+
+    assertThat(actual).extracting(ResourceEvent::getId).containsExactly(instanceId1, instanceId2);
+    assertThat(meterRegistry.get("search.inventory.fetch.batch").tag("outcome", "success").timer().count())
+      .isEqualTo(2);
+  }
+
+  @Test
+  void fetchInstancesByIds_positive_callTimeoutPassedToClient() {
+    properties.setTimeoutMs(5_000);
+    var id = randomId();
+    var instanceView = instanceView(new Instance().id(id).title("inst1"), null);
+    var optionsCaptor = ArgumentCaptor.forClass(Request.Options.class);
+    when(inventoryClient.getInstances(eq(exactMatchAny(CqlQueryParam.ID, List.of(id))), eq(1),
+      optionsCaptor.capture())).thenReturn(asSinglePage(List.of(instanceView)));
+
+    var actual = resourceFetchService.fetchInstancesByIds(List.of(resourceEvent(id, INSTANCE_RESOURCE, CREATE)));
+
+    assertThat(actual).extracting(ResourceEvent::getId).containsExactly(id);
+    assertThat(optionsCaptor.getValue().readTimeoutMillis()).isEqualTo(5_000);
+    assertThat(optionsCaptor.getValue().connectTimeoutMillis()).isEqualTo(5_000);
+  }
+
+  @Test
+  void fetchInstancesByIds_negative_failedCallIsNotRetried() {
+    var id = randomId();
+    when(inventoryClient.getInstances(eq(exactMatchAny(CqlQueryParam.ID, List.of(id))), eq(1), any()))
+      .thenThrow(new IllegalStateException("failed"));
+
+    var events = List.of(resourceEvent(id, INSTANCE_RESOURCE, CREATE));
+    assertThatThrownBy(() -> resourceFetchService.fetchInstancesByIds(events))
+      .isInstanceOf(IllegalStateException.class)
+      .hasMessage("failed");
+    verify(inventoryClient, times(1)).getInstances(any(), anyInt(), any());
+    assertThat(meterRegistry.get("search.inventory.fetch.batch").tag("outcome", "failure").timer().count())
+      .isEqualTo(1);
+  }
+
+  @Test
+  void fetchInstancesByIds_negative_parallelBatchCallTimedOut() {
+    properties.setBatchSize(1);
+    var timeoutError = new IllegalStateException("Failed to fetch", new SocketTimeoutException("Read timed out"));
+    when(inventoryClient.getInstances(any(), anyInt(), any())).thenThrow(timeoutError);
+
+    var events = resourceEvents();
+    assertThatThrownBy(() -> resourceFetchService.fetchInstancesByIds(events))
+      .isSameAs(timeoutError);
   }
 
   private List<ResourceEvent> cleanUp(List<ResourceEvent> actual) {
@@ -0,0 +1,120 @@
+package org.folio.search.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+import static org.awaitility.Durations.FIVE_SECONDS;
+import static org.folio.search.utils.TestUtils.mapOf;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.folio.search.configuration.properties.EventProcessingProperties;
+import org.folio.spring.testing.type.UnitTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+@UnitTest
+class TenantBatchExecutorTest {
+
+  private final ExecutorService executor = Executors.newFixedThreadPool(2);
+  private final EventProcessingProperties properties = new EventProcessingProperties();
+  private final TenantBatchExecutor tenantBatchExecutor = new TenantBatchExecutor(executor, properties);
+
+  @AfterEach
+  void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  void execute_positive_sequentialByDefault() {
+    var callerThread = Thread.currentThread();
+    var processed = new ConcurrentHashMap<String, List<Integer>>();
+    var threads = new ConcurrentHashMap<String, Thread>();
+
+    tenantBatchExecutor.execute(mapOf("t1", List.of(1, 2), "t2", List.of(3)), (tenant, values) -> {
+      processed.put(tenant, values);
+      threads.put(tenant, Thread.currentThread());
+    });
+
+    assertThat(processed).isEqualTo(Map.of("t1", List.of(1, 2), "t2", List.of(3)));
+    assertThat(threads.values()).containsOnly(callerThread);
+  }
+
+  @Test
+  void execute_positive_tenantSlicesProcessedConcurrently() {
+    properties.getTenantParallelism().setEnabled(true);
+    var latch = new CountDownLatch(2);
+    var processed = new ConcurrentHashMap<String, List<Integer>>();
+
+    tenantBatchExecutor.execute(mapOf("t1", List.of(1, 2), "t2", List.of(3)), (tenant, values) -> {
+      latch.countDown();
+      awaitLatch(latch);
+      processed.put(tenant, values);
+    });
+
+    assertThat(latch.getCount()).isZero();
+    assertThat(processed).isEqualTo(Map.of("t1", List.of(1, 2), "t2", List.of(3)));
+  }
+
+  @Test
+  void execute_negative_failedSliceIsRethrownAfterAllSlicesFinished() {
+    properties.getTenantParallelism().setEnabled(true);
+    var processed = new ConcurrentHashMap<String, List<Integer>>();
+
+    var batch = mapOf("t1", List.of(1), "t2", List.of(2));
+    assertThatThrownBy(() -> tenantBatchExecutor.execute(batch, (tenant, values) -> {
+      if ("t1".equals(tenant)) {
+        throw new IllegalStateException("failed");
+      }
+      processed.put(tenant, values);
+    })).isInstanceOf(IllegalStateException.class).hasMessage("failed");
+
+    assertThat(processed).isEqualTo(Map.of("t2", List.of(2)));
+  }
+
+  @Test
+  void execute_positive_queuedTenantSliceDoesNotBlockOtherTenants() throws Exception {
+    properties.getTenantParallelism().setEnabled(true);
+    var firstSliceStarted = new CountDownLatch(1);
+    var firstSliceReleased = new CountDownLatch(1);
+    var processed = new ConcurrentHashMap<String, List<Integer>>();
+    var firstCall = CompletableFuture.runAsync(() -> tenantBatchExecutor.execute(
+      mapOf("t1", List.of(1)), (tenant, values) -> {
+        firstSliceStarted.countDown();
+        awaitLatch(firstSliceReleased);
+        processed.merge(tenant, values, TenantBatchExecutorTest::concat);
+      }));
+    awaitLatch(firstSliceStarted);
+
+    var secondCall = CompletableFuture.runAsync(() -> tenantBatchExecutor.execute(
+      mapOf("t1", List.of(2), "t2", List.of(3)),
+      (tenant, values) -> processed.merge(tenant, values, TenantBatchExecutorTest::concat)));
+
+    await().atMost(FIVE_SECONDS).until(() -> processed.containsKey("t2"));
+    assertThat(processed).doesNotContainKey("t1");
+
+    firstSliceReleased.countDown();
+    CompletableFuture.allOf(firstCall, secondCall).get(5, TimeUnit.SECONDS);
+    assertThat(processed).isEqualTo(Map.of("t1", List.of(1, 2), "t2", List.of(3)));
+  }
+
+  private static List<Integer> concat(List<Integer> first, List<Integer> second) {
+    return Stream.concat(first.stream(), second.stream()).toList();
+  }
+
+  private static void awaitLatch(CountDownLatch latch) {
+    try {
+      assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException(e);
+    }
+  }
+}
@@ -0,0 +1,41 @@
+package org.folio.search.model.metadata;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.folio.spring.testing.type.UnitTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+@UnitTest
+class FieldPathNodeTest {
+
+  private final FieldPathNode root = FieldPathNode.of(List.of("title", "items.notes.note", "items.tags.tagList"));
+
+  @ParameterizedTest
+  @DisplayName("getChild_parameterized")
+  @CsvSource({"title,true", "items.notes.note,true", "items.tags.tagList,true", "items,false", "items.notes,false",
+    "items.notes.note.value,false", "notes.note,false", "unknown,false"})
+  void getChild_parameterized(String path, boolean expected) {
+    var node = root;
+    for (var key : path.split("\\.")) {
+      node = node.getChild(key);
+    }
+    assertThat(node.isMatched()).isEqualTo(expected);
+  }
+
+  @Test
+  void getChild_positive_keyWithDots() {
+    assertThat(root.getChild("items.notes").getChild("note").isMatched()).isTrue();
+    assertThat(root.getChild("items").getChild("tags.tagList").isMatched()).isTrue();
+  }
+
+  @Test
+  void getChild_negative_unknownKey() {
+    assertThat(root.getChild("holdings")).isSameAs(FieldPathNode.EMPTY);
+    assertThat(FieldPathNode.EMPTY.getChild("title")).isSameAs(FieldPathNode.EMPTY);
+    assertThat(root.isMatched()).isFalse();
+  }
+}
@@ -10,13 +10,21 @@ import static org.folio.search.utils.TestUtils.searchDocumentBody;
 import static org.folio.search.utils.TestUtils.searchDocumentBodyToDelete;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.opensearch.client.RequestOptions.DEFAULT;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+import org.folio.search.configuration.properties.BulkIndexingProperties;
+import org.folio.search.domain.dto.FailedIndexItem;
 import org.folio.search.exception.SearchOperationException;
 import org.folio.search.model.index.SearchDocumentBody;
 import org.folio.spring.testing.type.UnitTest;
@@ -27,11 +35,16 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.action.DocWriteRequest.OpType;
+import org.opensearch.action.DocWriteResponse;
+import org.opensearch.action.bulk.BulkItemResponse;
 import org.opensearch.action.bulk.BulkRequest;
 import org.opensearch.action.bulk.BulkResponse;
 import org.opensearch.action.delete.DeleteRequest;
 import org.opensearch.action.index.IndexRequest;
 import org.opensearch.client.RestHighLevelClient;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.rest.RestStatus;
 
 @UnitTest
 @ExtendWith(MockitoExtension.class)
@@ -85,6 +98,88 @@ class PrimaryResourceRepositoryTest {
     assertThat(response).isEqualTo(getErrorIndexOperationResponse(null));
   }
 
+  @Test
+  void indexResources_positive_retryableItemFailureResubmitted() throws IOException {
+    var documentBodyToCreate = searchDocumentBody();
+    var documentBodyToDelete = searchDocumentBodyToDelete();
+    var bulkRequestCaptor = ArgumentCaptor.forClass(BulkRequest.class);
+    resourceRepository.setBulkIndexingProperties(bulkIndexingProperties(3));
+
+    var firstResponse = new BulkResponse(new BulkItemResponse[] {
+      failedItem(0, RestStatus.TOO_MANY_REQUESTS), successItem(1, OpType.DELETE)}, 10L);
+    when(restHighLevelClient.bulk(bulkRequestCaptor.capture(), eq(DEFAULT))).thenReturn(firstResponse);
+    var retryRequestCaptor = mockBulkAsync();
+
+    var response = resourceRepository.indexResources(List.of(documentBodyToCreate, documentBodyToDelete));
+
+    assertThat(response).isEqualTo(getSuccessIndexOperationResponse());
+    var bulkRequest = bulkRequestCaptor.getValue();
+    assertThat(retryRequestCaptor.getAllValues()).hasSize(1);
+    assertThat(retryRequestCaptor.getValue().requests()).hasSize(1).satisfies(requests ->
+      assertThat(requests.get(0)).isSameAs(bulkRequest.requests().get(0)));
+  }
+
+  @Test
+  void indexResources_negative_nonRetryableItemFailureNotResubmitted() throws IOException {
+    var documentBody = searchDocumentBody();
+    resourceRepository.setBulkIndexingProperties(bulkIndexingProperties(3));
+    var bulkResponse = new BulkResponse(new BulkItemResponse[] {failedItem(0, RestStatus.BAD_REQUEST)}, 10L);
+    when(restHighLevelClient.bulk(any(BulkRequest.class), eq(DEFAULT))).thenReturn(bulkResponse);
+
+    var response = resourceRepository.indexResources(singletonList(documentBody));
+
+    assertThat(response.getStatus()).isEqualTo(getErrorIndexOperationResponse(null).getStatus());
+    assertThat(response.getErrorMessage()).contains("failure in bulk execution");
+    assertThat(response.getFailedItems()).containsExactly(new FailedIndexItem().id("id").status(400));
+    verify(restHighLevelClient, times(1)).bulk(any(BulkRequest.class), eq(DEFAULT));
+    verify(restHighLevelClient, never()).bulkAsync(any(BulkRequest.class), eq(DEFAULT), any());
+  }
+
+  @Test
+  void indexResources_negative_retryableItemFailureExhaustsAttempts() throws IOException {
+    var documentBody = searchDocumentBody();
+    resourceRepository.setBulkIndexingProperties(bulkIndexingProperties(2));
+    when(restHighLevelClient.bulk(any(BulkRequest.class), eq(DEFAULT))).thenReturn(
+      new BulkResponse(new BulkItemResponse[] {failedItem(0, RestStatus.TOO_MANY_REQUESTS)}, 10L));
+    var retryRequestCaptor = mockBulkAsync(request ->
+      new BulkResponse(new BulkItemResponse[] {failedItem(0, RestStatus.TOO_MANY_REQUESTS)}, 10L));
+
+    var response = resourceRepository.indexResources(singletonList(documentBody));
+
+    assertThat(response.getErrorMessage()).contains("failure in bulk execution");
+    assertThat(response.getFailedItems()).containsExactly(new FailedIndexItem().id("id").status(429));
+    assertThat(retryRequestCaptor.getAllValues()).hasSize(2);
+    verify(restHighLevelClient, times(1)).bulk(any(BulkRequest.class), eq(DEFAULT));
+  }
+
+  @Test
+  void indexResources_positive_bulkRequestSplitByMaxActions() {
+    var properties = bulkIndexingProperties(0);
+    properties.setMaxActions(1);
+    resourceRepository.setBulkIndexingProperties(properties);
+    var bulkRequestCaptor = mockBulkAsync();
+
+    var response = resourceRepository.indexResources(List.of(searchDocumentBody(), searchDocumentBodyToDelete()));
+
+    assertThat(response).isEqualTo(getSuccessIndexOperationResponse());
+    assertThat(bulkRequestCaptor.getAllValues()).hasSize(2).allSatisfy(request ->
+      assertThat(request.numberOfActions()).isEqualTo(1));
+  }
+
+  @Test
+  void indexResources_positive_bulkRequestSplitByMaxBytes() {
+    var properties = bulkIndexingProperties(0);
+    properties.setMaxBytes(1);
+    resourceRepository.setBulkIndexingProperties(properties);
+    var bulkRequestCaptor = mockBulkAsync();
+
+    var response = resourceRepository.indexResources(List.of(searchDocumentBody(), searchDocumentBody()));
+
+    assertThat(response).isEqualTo(getSuccessIndexOperationResponse());
+    assertThat(bulkRequestCaptor.getAllValues()).hasSize(2).allSatisfy(request ->
+      assertThat(request.numberOfActions()).isEqualTo(1));
+  }
+
   @Test
   void indexResources_negative_throwsException() throws IOException {
     var documentBody = searchDocumentBody();
@@ -97,4 +192,73 @@ class PrimaryResourceRepositoryTest {
       .hasMessage("Failed to perform elasticsearch request "
         + "[index=index_name, type=bulkApi, message: err]");
   }
+
+  @Test
+  void indexResourcesAsync_positive() {
+    var bulkRequestCaptor = mockBulkAsync();
+
+    var response = resourceRepository.indexResourcesAsync(List.of(searchDocumentBody(), searchDocumentBodyToDelete()));
+
+    assertThat(response.join()).isEqualTo(getSuccessIndexOperationResponse());
+    assertThat(bulkRequestCaptor.getValue().numberOfActions()).isEqualTo(2);
+  }
+
+  @Test
+  void indexResourcesAsync_positive_emptyList() {
+    var response = resourceRepository.indexResourcesAsync(emptyList());
+    assertThat(response.join()).isEqualTo(getSuccessIndexOperationResponse());
+  }
+
+  @Test
+  void indexResourcesAsync_negative_bulkFailed() {
+    doAnswer(inv -> {
+      inv.<ActionListener<BulkResponse>>getArgument(2).onFailure(new IOException("err"));
+      return null;
+    }).when(restHighLevelClient).bulkAsync(any(BulkRequest.class), eq(DEFAULT), any());
+
+    var response = resourceRepository.indexResourcesAsync(singletonList(searchDocumentBody()));
+
+    assertThatThrownBy(response::join)
+      .isInstanceOf(CompletionException.class)
+      .cause()
+      .isInstanceOf(SearchOperationException.class)
+      .hasCauseExactlyInstanceOf(IOException.class)
+      .hasMessage("Failed to perform elasticsearch request [index=index_name, type=bulkApi, message: err]");
+  }
+
+  private ArgumentCaptor<BulkRequest> mockBulkAsync() {
+    return mockBulkAsync(request -> {
+      var items = new BulkItemResponse[request.numberOfActions()];
+      for (int i = 0; i < items.length; i++) {
+        items[i] = successItem(i, OpType.INDEX);
+      }
+      return new BulkResponse(items, 10L);
+    });
+  }
+
+  private ArgumentCaptor<BulkRequest> mockBulkAsync(Function<BulkRequest, BulkResponse> responseFunction) {
+    var bulkRequestCaptor = ArgumentCaptor.forClass(BulkRequest.class);
+    doAnswer(inv -> {
+      var response = responseFunction.apply(inv.getArgument(0));
+      inv.<ActionListener<BulkResponse>>getArgument(2).onResponse(response);
+      return null;
+    }).when(restHighLevelClient).bulkAsync(bulkRequestCaptor.capture(), eq(DEFAULT), any());
+    return bulkRequestCaptor;
+  }
+
+  private static BulkIndexingProperties bulkIndexingProperties(int retryAttempts) {
+    var properties = new BulkIndexingProperties();
+    properties.getRetry().setAttempts(retryAttempts);
+    properties.getRetry().setInitialBackoffMs(0);
+    return properties;
+  }
+
+  private static BulkItemResponse failedItem(int itemId, RestStatus status) {
+    var failure = new BulkItemResponse.Failure("index_name", "id", new Exception("error"), status);
+    return BulkItemResponse.failure(itemId, OpType.INDEX, failure);
+  }
+
+  private static BulkItemResponse successItem(int itemId, OpType opType) {
+    return BulkItemResponse.success(itemId, opType, mock(DocWriteResponse.class));
+  }
 }
@@ -11,6 +11,7 @@ import static org.folio.search.utils.TestConstants.TENANT_ID;
 import static org.folio.search.utils.TestUtils.cleanUpCaches;
 import static org.folio.search.utils.TestUtils.mapOf;
 import static org.folio.spring.integration.XOkapiHeaders.TENANT;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.boot.test.context.SpringBootTest.WebEnvironment.NONE;
 
@@ -19,6 +20,7 @@ import java.util.List;
 import java.util.Optional;
 import org.folio.search.configuration.properties.SearchConfigurationProperties;
 import org.folio.search.converter.FeatureConfigMapperImpl;
+import org.folio.search.cql.SearchQueryCache;
 import org.folio.search.domain.dto.FeatureConfig;
 import org.folio.search.domain.dto.FeatureConfigs;
 import org.folio.search.domain.dto.TenantConfiguredFeature;
@@ -57,6 +59,8 @@ class FeatureConfigServiceTest {
   private FeatureConfigRepository featureConfigRepository;
   @MockBean
   private SearchConfigurationProperties searchConfigurationProperties;
+  @MockBean
+  private SearchQueryCache searchQueryCache;
 
   @BeforeEach
   void setUp() {
@@ -77,6 +81,7 @@ class FeatureConfigServiceTest {
     var actual = featureConfigService.create(feature);
     assertThat(actual).isEqualTo(feature);
     assertThat(getCachedValue()).isEmpty();
+    verify(searchQueryCache).invalidateAll();
   }
 
   @Test
@@ -131,6 +136,7 @@ class FeatureConfigServiceTest {
     var actual = featureConfigService.update(FEATURE, expectedFeature);
     assertThat(actual).isEqualTo(expectedFeature);
     assertThat(getCachedValue()).isEmpty();
+    verify(searchQueryCache).invalidateAll();
   }
 
   @Test
@@ -173,6 +179,7 @@ class FeatureConfigServiceTest {
     when(featureConfigRepository.existsById(FEATURE_ID)).thenReturn(true);
     featureConfigService.delete(FEATURE);
     assertThat(getCachedValue()).isEmpty();
+    verify(searchQueryCache).invalidateAll();
   }
 
   @Test
@@ -17,6 +17,7 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.Callable;
 import org.folio.search.configuration.properties.SearchConfigurationProperties;
+import org.folio.search.cql.SearchQueryCache;
 import org.folio.search.domain.dto.LanguageConfig;
 import org.folio.search.exception.ValidationException;
 import org.folio.search.model.config.LanguageConfigEntity;
@@ -48,6 +49,8 @@ class LanguageConfigServiceTest {
   private SystemUserScopedExecutionService executionService;
   @Mock
   private SearchConfigurationProperties searchConfigurationProperties;
+  @Mock
+  private SearchQueryCache searchQueryCache;
 
   @Test
   void canAddLanguageConfig() {
@@ -60,6 +63,7 @@ class LanguageConfigServiceTest {
     final var saveResult = configService.create(new LanguageConfig().code(SUPPORTED_LANGUAGE_CODE));
 
     assertThat(saveResult.getCode(), is(SUPPORTED_LANGUAGE_CODE));
+    verify(searchQueryCache).invalidateAll();
   }
 
   @Test
@@ -98,6 +102,7 @@ class LanguageConfigServiceTest {
     when(configRepository.save(expectedEntity)).thenReturn(expectedEntity);
 
     assertThat(configService.update(SUPPORTED_LANGUAGE_CODE, languageConfig), is(languageConfig));
+    verify(searchQueryCache).invalidateAll();
   }
 
   @Test
@@ -109,6 +114,7 @@ class LanguageConfigServiceTest {
 
     assertThat(configService.update(SUPPORTED_LANGUAGE_CODE, languageConfig), is(languageConfig));
     verify(configRepository, never()).save(any(LanguageConfigEntity.class));
+    verify(searchQueryCache, never()).invalidateAll();
   }
 
   @Test
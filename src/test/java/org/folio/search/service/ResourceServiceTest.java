@@ -34,6 +34,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import org.folio.search.configuration.properties.BulkIndexingProperties;
 import org.folio.search.domain.dto.FolioIndexOperationResponse;
 import org.folio.search.domain.dto.ResourceEvent;
 import org.folio.search.integration.KafkaMessageProducer;
@@ -58,6 +60,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 @UnitTest
@@ -92,6 +95,8 @@ class ResourceServiceTest {
   private Map<String, ResourceRepository> resourceRepositoryBeans;
   @Mock
   private InstanceEventPreProcessor instanceEventPreProcessor;
+  @Spy
+  private BulkIndexingProperties bulkIndexingProperties;
   @InjectMocks
   private ResourceService indexService;
 
@@ -161,6 +166,28 @@ class ResourceServiceTest {
     assertThat(response).isEqualTo(expectedResponse);
   }
 
+  @Test
+  void indexResources_positive_asyncEnabled() {
+    var searchBody = searchDocumentBody();
+    var resourceEvent = resourceEvent(INSTANCE_RESOURCE, mapOf("id", randomId()));
+    var customResourceRepository = mock(ResourceRepository.class);
+    bulkIndexingProperties.setAsyncEnabled(true);
+
+    when(resourceDescriptionService.find(INSTANCE_RESOURCE)).thenReturn(of(resourceDescriptionWithCustomRepository()));
+    when(searchDocumentConverter.convert(List.of(resourceEvent))).thenReturn(
+      mapOf(INSTANCE_RESOURCE, List.of(searchBody)));
+    when(indexRepository.indexExists(INDEX_NAME)).thenReturn(true);
+    when(resourceRepositoryBeans.containsKey(CUSTOM_REPOSITORY_NAME)).thenReturn(true);
+    when(resourceRepositoryBeans.get(CUSTOM_REPOSITORY_NAME)).thenReturn(customResourceRepository);
+    when(customResourceRepository.indexResourcesAsync(List.of(searchBody))).thenReturn(
+      CompletableFuture.completedFuture(getErrorIndexOperationResponse("Failed to save bulk")));
+    when(primaryResourceRepository.indexResourcesAsync(null)).thenReturn(
+      CompletableFuture.completedFuture(getSuccessIndexOperationResponse()));
+
+    var response = indexService.indexResources(List.of(resourceEvent));
+    assertThat(response).isEqualTo(getErrorIndexOperationResponse("Failed to save bulk"));
+  }
+
   @Test
   void indexResources_negative() {
     var resourceEvents = List.of(resourceEvent(INSTANCE_RESOURCE, mapOf("id", randomId())));
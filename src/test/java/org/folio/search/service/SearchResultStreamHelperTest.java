@@ -0,0 +1,209 @@
+package org.folio.search.service;
+
+import static java.util.Collections.emptyMap;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.folio.search.utils.TestConstants.TENANT_ID;
+import static org.folio.search.utils.TestUtils.OBJECT_MAPPER;
+import static org.folio.search.utils.TestUtils.randomId;
+import static org.folio.search.utils.TestUtils.searchResult;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.AbstractList;
+import java.util.List;
+import org.folio.search.domain.dto.Authority;
+import org.folio.search.domain.dto.Error;
+import org.folio.search.domain.dto.Instance;
+import org.folio.search.domain.dto.InstanceSearchResult;
+import org.folio.search.domain.dto.Item;
+import org.folio.search.exception.RequestValidationException;
+import org.folio.search.model.service.CqlSearchRequest;
+import org.folio.search.service.converter.ElasticsearchDocumentConverter;
+import org.folio.search.service.converter.SearchHitSourceReader;
+import org.folio.spring.testing.type.UnitTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.search.SearchHit;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+@UnitTest
+@ExtendWith(MockitoExtension.class)
+class SearchResultStreamHelperTest {
+
+  private static final String QUERY = "title all \"test-query\"";
+
+  @InjectMocks
+  private SearchResultStreamHelper searchResultStreamHelper;
+  @Spy
+  private final ObjectMapper objectMapper = OBJECT_MAPPER;
+  @Mock
+  private SearchService searchService;
+  @Spy
+  private final ElasticsearchDocumentConverter documentConverter =
+    new ElasticsearchDocumentConverter(OBJECT_MAPPER, new SearchHitSourceReader(OBJECT_MAPPER));
+
+  private MockHttpServletResponse httpServletResponse;
+
+  @BeforeEach
+  void setUp() {
+    httpServletResponse = new MockHttpServletResponse();
+    RequestContextHolder.setRequestAttributes(
+      new ServletRequestAttributes(new MockHttpServletRequest(), httpServletResponse));
+  }
+
+  @AfterEach
+  void tearDown() {
+    RequestContextHolder.resetRequestAttributes();
+  }
+
+  @Test
+  void streamSearchResult_positive() throws Exception {
+    var request = CqlSearchRequest.of(Instance.class, TENANT_ID, QUERY, 100, 0, true);
+    var instances = new Instance[] {
+      new Instance().id(randomId()).title("title1").items(List.of(new Item().id(randomId()).hrid("it1"))),
+      new Instance().id(randomId()).title("title2")};
+    when(searchService.searchLazily(request)).thenReturn(searchResult(10, instances));
+
+    var actual = searchResultStreamHelper.streamSearchResult(request, "instances");
+
+    assertThat(actual).isEqualTo(ResponseEntity.ok().build());
+    assertThat(httpServletResponse.getStatus()).isEqualTo(200);
+    assertThat(httpServletResponse.getContentType()).isEqualTo(APPLICATION_JSON_VALUE);
+    var expectedBody = new InstanceSearchResult().totalRecords(10).instances(List.of(instances));
+    assertThat(httpServletResponse.getContentAsString()).isEqualTo(OBJECT_MAPPER.writeValueAsString(expectedBody));
+  }
+
+  @Test
+  void streamSearchResult_positive_emptyResult() throws Exception {
+    var request = CqlSearchRequest.of(Instance.class, TENANT_ID, QUERY, 100, 0, true);
+    when(searchService.searchLazily(request)).thenReturn(searchResult());
+
+    var actual = searchResultStreamHelper.streamSearchResult(request, "instances");
+
+    assertThat(actual).isEqualTo(ResponseEntity.ok().build());
+    assertThat(httpServletResponse.getContentAsString()).isEqualTo("{\"totalRecords\":0,\"instances\":[]}");
+  }
+
+  @Test
+  void streamSearchResult_negative_searchFailed() {
+    var request = CqlSearchRequest.of(Instance.class, TENANT_ID, QUERY, 500, 9600, true);
+    when(searchService.searchLazily(request)).thenThrow(new RequestValidationException("error", "offset", "9600"));
+
+    assertThatThrownBy(() -> searchResultStreamHelper.streamSearchResult(request, "instances"))
+      .isInstanceOf(RequestValidationException.class);
+    assertThat(httpServletResponse.isCommitted()).isFalse();
+    verifyNoInteractions(objectMapper);
+  }
+
+  @Test
+  void streamSearchResult_negative_recordConversionFailedBeforeCommit() {
+    var request = CqlSearchRequest.of(Instance.class, TENANT_ID, QUERY, 100, 0, true);
+    var records = failingRecords(new Instance().id(randomId()).title("title1"), () -> { });
+    when(searchService.searchLazily(request)).thenReturn(searchResult(records));
+
+    assertThatThrownBy(() -> searchResultStreamHelper.streamSearchResult(request, "instances"))
+      .isInstanceOf(IllegalStateException.class)
+      .hasMessage("conversion error");
+    assertThat(httpServletResponse.isCommitted()).isFalse();
+    assertThat(httpServletResponse.getContentAsByteArray()).isEmpty();
+  }
+
+  @Test
+  void streamSearchResult_negative_recordConversionFailedAfterCommit() throws Exception {
+    var request = CqlSearchRequest.of(Instance.class, TENANT_ID, QUERY, 100, 0, true);
+    var instance = new Instance().id(randomId()).title("title1");
+    var records = failingRecords(instance, () -> httpServletResponse.setCommitted(true));
+    when(searchService.searchLazily(request)).thenReturn(searchResult(records));
+
+    var actual = searchResultStreamHelper.streamSearchResult(request, "instances");
+
+    assertThat(actual).isEqualTo(ResponseEntity.ok().build());
+    var body = OBJECT_MAPPER.readValue(httpServletResponse.getContentAsString(), InstanceSearchResult.class);
+    assertThat(body).isEqualTo(new InstanceSearchResult().totalRecords(2).instances(List.of(instance))
+      .errors(List.of(new Error().message("conversion error").type("IllegalStateException").code("unknown_error"))));
+  }
+
+  @Test
+  void streamSearchResult_negative_nullRequestAttributes() {
+    RequestContextHolder.setRequestAttributes(null);
+    var request = CqlSearchRequest.of(Instance.class, TENANT_ID, QUERY, 100, 0, true);
+    when(searchService.searchLazily(request)).thenReturn(searchResult());
+
+    assertThatThrownBy(() -> searchResultStreamHelper.streamSearchResult(request, "instances"))
+      .isInstanceOf(IllegalArgumentException.class)
+      .hasMessage("Request attributes must be not null");
+  }
+
+  @Test
+  void streamRawSearchResult_positive() throws Exception {
+    var request = CqlSearchRequest.of(Instance.class, TENANT_ID, QUERY, 100, 0, false);
+    var id = randomId();
+    var source = "{\"id\":\"" + id + "\",\"title\":{\"eng\":\"title\"},\"plain_title\":\"title\","
+      + "\"contributors\":[{\"name\":{\"src\":\"name\"},\"plain_name\":\"name\",\"primary\":null}],"
+      + "\"isBoundWith\":false,\"staffSuppress\":null}";
+    var searchHit = new SearchHit(0, id, emptyMap(), emptyMap()).sourceRef(new BytesArray(source));
+    when(searchService.searchHits(request)).thenReturn(searchResult(5, searchHit));
+
+    var actual = searchResultStreamHelper.streamRawSearchResult(request, "instances");
+
+    assertThat(actual).isEqualTo(ResponseEntity.ok().build());
+    assertThat(httpServletResponse.getStatus()).isEqualTo(200);
+    assertThat(httpServletResponse.getContentType()).isEqualTo(APPLICATION_JSON_VALUE);
+    assertThat(httpServletResponse.getContentAsString()).isEqualTo("{\"totalRecords\":5,\"instances\":[{\"id\":\""
+      + id + "\",\"title\":\"title\",\"contributors\":[{\"name\":\"name\"}],\"isBoundWith\":false}]}");
+  }
+
+  @Test
+  void streamRawSearchResult_positive_emptyResult() throws Exception {
+    var request = CqlSearchRequest.of(Authority.class, TENANT_ID, QUERY, 100, 0, false, false);
+    when(searchService.searchHits(request)).thenReturn(searchResult());
+
+    var actual = searchResultStreamHelper.streamRawSearchResult(request, "authorities");
+
+    assertThat(actual).isEqualTo(ResponseEntity.ok().build());
+    assertThat(httpServletResponse.getContentAsString()).isEqualTo("{\"totalRecords\":0,\"authorities\":[]}");
+  }
+
+  @Test
+  void streamRawSearchResult_negative_searchFailed() {
+    var request = CqlSearchRequest.of(Instance.class, TENANT_ID, QUERY, 500, 9600, false);
+    when(searchService.searchHits(request)).thenThrow(new RequestValidationException("error", "offset", "9600"));
+
+    assertThatThrownBy(() -> searchResultStreamHelper.streamRawSearchResult(request, "instances"))
+      .isInstanceOf(RequestValidationException.class);
+    assertThat(httpServletResponse.isCommitted()).isFalse();
+    verifyNoInteractions(objectMapper, documentConverter);
+  }
+
+  private static List<Instance> failingRecords(Instance instance, Runnable beforeFailure) {
+    return new AbstractList<>() {
+      @Override
+      public Instance get(int index) {
+        if (index == 0) {
+          return instance;
+        }
+        beforeFailure.run();
+        throw new IllegalStateException("conversion error");
+      }
+
+      @Override
+      public int size() {
+        return 2;
+      }
+    };
+  }
+}
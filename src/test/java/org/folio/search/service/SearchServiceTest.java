@@ -1,5 +1,6 @@
 package org.folio.search.service;
 
+import static java.util.Collections.emptyMap;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -37,6 +38,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.opensearch.action.search.SearchResponse;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.index.query.QueryBuilder;
+import org.opensearch.search.SearchHit;
 
 @UnitTest
 @ExtendWith(MockitoExtension.class)
@@ -112,4 +114,60 @@ class SearchServiceTest {
     var actual = searchService.search(searchRequest);
     assertThat(actual).isEqualTo(expectedSearchResult);
   }
+
+  @Test
+  void searchLazily_positive_withExpandAll() {
+    var searchRequest = searchServiceRequest(TestResource.class, SEARCH_QUERY, true);
+    var searchSourceBuilder = searchSource().query(ES_TERM_QUERY);
+    var expectedSourceBuilder = searchSource().query(ES_TERM_QUERY).size(100).from(0)
+      .trackTotalHits(true).timeout(new TimeValue(1000, MILLISECONDS));
+    var expectedSearchResult = searchResult(TestResource.of(RESOURCE_ID));
+
+    when(cqlSearchQueryConverter.convertForConsortia(SEARCH_QUERY, RESOURCE_NAME, false))
+      .thenReturn(searchSourceBuilder);
+    when(searchRepository.search(eq(searchRequest), eq(expectedSourceBuilder), anyString())).thenReturn(searchResponse);
+    when(documentConverter.convertToLazySearchResult(searchResponse, TestResource.class))
+      .thenReturn(expectedSearchResult);
+    when(searchQueryConfig.getRequestTimeout()).thenReturn(Duration.ofSeconds(1));
+    when(searchPreferenceService.getPreferenceForString(anyString())).thenReturn("test");
+
+    var actual = searchService.searchLazily(searchRequest);
+    assertThat(actual).isEqualTo(expectedSearchResult);
+  }
+
+  @Test
+  void searchLazily_negative_sumOfOffsetAndLimitExceeds10000() {
+    var searchRequest = CqlSearchRequest.of(TestResource.class, TENANT_ID, SEARCH_QUERY, 500, 9600, true, false);
+    assertThatThrownBy(() -> searchService.searchLazily(searchRequest))
+      .isInstanceOf(RequestValidationException.class)
+      .hasMessage("The sum of limit and offset should not exceed 10000.");
+  }
+
+  @Test
+  void searchHits_positive() {
+    var searchRequest = searchServiceRequest(TestResource.class, SEARCH_QUERY);
+    var searchSourceBuilder = searchSource().query(ES_TERM_QUERY);
+    var expectedSourceBuilder = searchSource().query(ES_TERM_QUERY).size(100).from(0)
+      .trackTotalHits(true).fetchSource(array("field1", "field2"), null).timeout(new TimeValue(25000, MILLISECONDS));
+    var expectedSearchResult = searchResult(new SearchHit(0, RESOURCE_ID, emptyMap(), emptyMap()));
+
+    when(searchFieldProvider.getSourceFields(RESOURCE_NAME, SEARCH)).thenReturn(new String[] {"field1", "field2"});
+    when(cqlSearchQueryConverter.convertForConsortia(SEARCH_QUERY, RESOURCE_NAME, false))
+      .thenReturn(searchSourceBuilder);
+    when(searchRepository.search(eq(searchRequest), eq(expectedSourceBuilder), anyString())).thenReturn(searchResponse);
+    when(documentConverter.getSearchHits(searchResponse)).thenReturn(expectedSearchResult);
+    when(searchQueryConfig.getRequestTimeout()).thenReturn(Duration.ofSeconds(25));
+    when(searchPreferenceService.getPreferenceForString(anyString())).thenReturn("test");
+
+    var actual = searchService.searchHits(searchRequest);
+    assertThat(actual).isEqualTo(expectedSearchResult);
+  }
+
+  @Test
+  void searchHits_negative_sumOfOffsetAndLimitExceeds10000() {
+    var searchRequest = CqlSearchRequest.of(TestResource.class, TENANT_ID, SEARCH_QUERY, 500, 9600, false, false);
+    assertThatThrownBy(() -> searchService.searchHits(searchRequest))
+      .isInstanceOf(RequestValidationException.class)
+      .hasMessage("The sum of limit and offset should not exceed 10000.");
+  }
 }
@@ -6,16 +6,23 @@ import static java.util.Collections.emptyMap;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.folio.search.utils.TestConstants.RESOURCE_ID;
 import static org.folio.search.utils.TestUtils.OBJECT_MAPPER;
+import static org.folio.search.utils.TestUtils.SMILE_MAPPER;
 import static org.folio.search.utils.TestUtils.array;
 import static org.folio.search.utils.TestUtils.mapOf;
 import static org.folio.search.utils.TestUtils.searchResult;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.StringWriter;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Consumer;
@@ -42,6 +49,7 @@ import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.opensearch.action.search.SearchResponse;
+import org.opensearch.core.common.bytes.BytesArray;
 import org.opensearch.search.SearchHit;
 import org.opensearch.search.SearchHits;
 
@@ -51,6 +59,8 @@ class ElasticsearchDocumentConverterTest {
 
   @Spy
   private final ObjectMapper objectMapper = OBJECT_MAPPER;
+  @Spy
+  private final SearchHitSourceReader searchHitSourceReader = new SearchHitSourceReader(OBJECT_MAPPER);
   @InjectMocks
   private ElasticsearchDocumentConverter elasticsearchDocumentConverter;
   @Mock
@@ -93,6 +103,27 @@ class ElasticsearchDocumentConverterTest {
     );
   }
 
+  private static Stream<Arguments> sourceRefDataProvider() {
+    return Stream.of(
+      arguments("{}", new Instance()),
+      arguments("{\"title\":{\"eng\":\"value\"},\"plain_title\":\"title\"}",
+        instance(instance -> instance.setTitle("title"))),
+      arguments("{\"plain_title\":\"title\",\"title\":{\"eng\":\"value\"}}",
+        instance(instance -> instance.setTitle("title"))),
+      arguments("{\"title\":null,\"plain_title\":\"title\"}", instance(instance -> instance.setTitle("title"))),
+      arguments("{\"plain_title\":null,\"title\":\"title\"}", instance(instance -> instance.setTitle("title"))),
+      arguments("{\"title\":\"title\",\"plain_title\":null}", new Instance()),
+      arguments("{\"title\":null,\"hrid\":\"in1\"}", instance(instance -> instance.setHrid("in1"))),
+      arguments("{\"languages\":[\"eng\",null,\"ger\"]}",
+        instance(instance -> instance.setLanguages(List.of("eng", "ger")))),
+      arguments("{\"contributors\":[null,{\"name\":{\"src\":\"John\"},\"plain_name\":\"John\"}]}",
+        instance(instance -> instance.addContributorsItem(new Contributor().name("John")))),
+      arguments("{\"unknown\":{\"name\":[{\"a\":1}],\"plain_name\":\"v\"},\"title\":{\"eng\":\"t\"},"
+        + "\"plain_title\":\"title\",\"hrid\":\"in1\"}",
+        instance(instance -> instance.title("title").hrid("in1")))
+    );
+  }
+
   private static Instance instance(Consumer<Instance> setters) {
     var instance = new Instance();
     setters.accept(instance);
@@ -133,11 +164,50 @@ class ElasticsearchDocumentConverterTest {
     verify(objectMapper).convertValue(anyMap(), eq(Instance.class));
   }
 
+  @ParameterizedTest
+  @MethodSource("positiveConvertDataProvider")
+  void convertToSearchResult_positive_sourceRefMatchesSourceMap(Map<String, Object> given, Instance expected)
+    throws Exception {
+    mockSearchResponse(new BytesArray(OBJECT_MAPPER.writeValueAsBytes(given)));
+    var actual = elasticsearchDocumentConverter.convertToSearchResult(searchResponse, Instance.class);
+    assertThat(actual).isEqualTo(searchResult(expected));
+  }
+
+  @ParameterizedTest
+  @MethodSource("sourceRefDataProvider")
+  void convertToSearchResult_positive_jsonSourceRef(String source, Instance expected) throws Exception {
+    mockSearchResponse(new BytesArray(source));
+
+    var actual = elasticsearchDocumentConverter.convertToSearchResult(searchResponse, Instance.class);
+
+    var sourceMap = OBJECT_MAPPER.readValue(source, new TypeReference<Map<String, Object>>() { });
+    assertThat(actual.getRecords()).containsExactly(expected)
+      .containsExactly(elasticsearchDocumentConverter.convert(sourceMap, Instance.class));
+    verify(searchHit, never()).getSourceAsMap();
+  }
+
+  @ParameterizedTest
+  @MethodSource("sourceRefDataProvider")
+  void convertToSearchResult_positive_smileSourceRef(String source, Instance expected) throws Exception {
+    var sourceMap = OBJECT_MAPPER.readValue(source, new TypeReference<Map<String, Object>>() { });
+    mockSearchResponse(new BytesArray(SMILE_MAPPER.writeValueAsBytes(sourceMap)));
+
+    var actual = elasticsearchDocumentConverter.convertToSearchResult(searchResponse, Instance.class);
+
+    assertThat(actual).isEqualTo(searchResult(expected));
+    verify(objectMapper, never()).convertValue(any(), eq(Instance.class));
+  }
+
   @Test
   void convertToSearchResult_positive() {
-    when(searchResponse.getHits()).thenReturn(searchHits);
-    when(searchHits.getTotalHits()).thenReturn(new TotalHits(1, Relation.EQUAL_TO));
-    when(searchHits.getHits()).thenReturn(array(searchHit));
+    mockSearchResponse(new BytesArray("{\"id\":\"" + RESOURCE_ID + "\"}"));
+    var actual = elasticsearchDocumentConverter.convertToSearchResult(searchResponse, TestResource.class);
+    assertThat(actual).isEqualTo(searchResult(TestResource.of(RESOURCE_ID)));
+  }
+
+  @Test
+  void convertToSearchResult_positive_unsupportedSourceRef() {
+    mockSearchResponse(new BytesArray("---\nid: " + RESOURCE_ID));
     when(searchHit.getSourceAsMap()).thenReturn(mapOf("id", RESOURCE_ID));
 
     var actual = elasticsearchDocumentConverter.convertToSearchResult(searchResponse, TestResource.class);
@@ -180,4 +250,130 @@ class ElasticsearchDocumentConverterTest {
     var actual = elasticsearchDocumentConverter.convertToSearchResult(null, TestResource.class);
     assertThat(actual).isEqualTo(SearchResult.empty());
   }
+
+  @Test
+  void convertToLazySearchResult_positive() {
+    mockSearchResponse(new BytesArray("{\"id\":\"" + RESOURCE_ID + "\"}"));
+
+    var actual = elasticsearchDocumentConverter.convertToLazySearchResult(searchResponse, TestResource.class);
+
+    verify(searchHit, never()).getSourceRef();
+    assertThat(actual).isEqualTo(searchResult(TestResource.of(RESOURCE_ID)));
+  }
+
+  @Test
+  void convertToLazySearchResult_negative_searchHitsArrayIsNull() {
+    when(searchResponse.getHits()).thenReturn(searchHits);
+    when(searchHits.getTotalHits()).thenReturn(new TotalHits(1, Relation.EQUAL_TO));
+    when(searchHits.getHits()).thenReturn(null);
+
+    var actual = elasticsearchDocumentConverter.convertToLazySearchResult(searchResponse, TestResource.class);
+
+    assertThat(actual).isEqualTo(SearchResult.of(1, emptyList()));
+  }
+
+  @Test
+  void convertToLazySearchResult_negative_responseIsNull() {
+    var actual = elasticsearchDocumentConverter.convertToLazySearchResult(null, TestResource.class);
+    assertThat(actual).isEqualTo(SearchResult.empty());
+  }
+
+  @Test
+  void getSearchHits_positive() {
+    when(searchResponse.getHits()).thenReturn(searchHits);
+    when(searchHits.getTotalHits()).thenReturn(new TotalHits(1, Relation.EQUAL_TO));
+    when(searchHits.getHits()).thenReturn(array(searchHit));
+
+    var actual = elasticsearchDocumentConverter.getSearchHits(searchResponse);
+
+    assertThat(actual).isEqualTo(searchResult(searchHit));
+    verifyNoInteractions(searchHit);
+  }
+
+  @Test
+  void getSearchHits_negative_searchHitsArrayIsNull() {
+    when(searchResponse.getHits()).thenReturn(searchHits);
+    when(searchHits.getTotalHits()).thenReturn(new TotalHits(1, Relation.EQUAL_TO));
+    when(searchHits.getHits()).thenReturn(null);
+
+    var actual = elasticsearchDocumentConverter.getSearchHits(searchResponse);
+
+    assertThat(actual).isEqualTo(SearchResult.of(1, emptyList()));
+  }
+
+  @Test
+  void getSearchHits_negative_responseIsNull() {
+    var actual = elasticsearchDocumentConverter.getSearchHits(null);
+    assertThat(actual).isEqualTo(SearchResult.empty());
+  }
+
+  @ParameterizedTest
+  @MethodSource("sourceRefDataProvider")
+  void writeSource_positive_jsonSourceRef(String source, Instance expected) throws Exception {
+    var sourceMap = OBJECT_MAPPER.readValue(source, new TypeReference<Map<String, Object>>() { });
+    when(searchHit.getSourceRef()).thenReturn(new BytesArray(source), new BytesArray("---"));
+    when(searchHit.getSourceAsMap()).thenReturn(sourceMap);
+
+    var actual = writeSource(searchHit);
+    var sourceMapResult = writeSource(searchHit);
+
+    assertThat(OBJECT_MAPPER.readValue(actual, Instance.class)).isEqualTo(expected);
+    assertThat(OBJECT_MAPPER.readTree(actual)).isEqualTo(OBJECT_MAPPER.readTree(sourceMapResult));
+  }
+
+  @ParameterizedTest
+  @MethodSource("sourceRefDataProvider")
+  void writeSource_positive_smileSourceRef(String source, Instance expected) throws Exception {
+    var sourceMap = OBJECT_MAPPER.readValue(source, new TypeReference<Map<String, Object>>() { });
+    when(searchHit.getSourceRef()).thenReturn(new BytesArray(SMILE_MAPPER.writeValueAsBytes(sourceMap)),
+      new BytesArray(source));
+
+    var actual = writeSource(searchHit);
+
+    assertThat(actual).isEqualTo(writeSource(searchHit));
+    assertThat(OBJECT_MAPPER.readValue(actual, Instance.class)).isEqualTo(expected);
+    verify(searchHit, never()).getSourceAsMap();
+  }
+
+  @Test
+  void writeSource_positive_unsupportedSourceRef() throws Exception {
+    when(searchHit.getSourceRef()).thenReturn(new BytesArray("---\nid: " + RESOURCE_ID));
+    when(searchHit.getSourceAsMap()).thenReturn(mapOf("id", RESOURCE_ID, "plain_title", "title", "title", "value"));
+
+    var actual = writeSource(searchHit);
+
+    assertThat(actual).isEqualTo("{\"id\":\"" + RESOURCE_ID + "\",\"title\":\"title\"}");
+  }
+
+  @Test
+  void writeSource_positive_nullValuesAreNotWritten() throws Exception {
+    var source = "{\"id\":\"" + RESOURCE_ID + "\",\"plain_title\":null,"
+      + "\"contributors\":[{\"name\":{\"src\":\"name\"},\"plain_name\":\"name\",\"primary\":null},null],"
+      + "\"staffSuppress\":null}";
+    var sourceMap = OBJECT_MAPPER.readValue(source, new TypeReference<Map<String, Object>>() { });
+    when(searchHit.getSourceRef()).thenReturn(new BytesArray(source), new BytesArray("---"));
+    when(searchHit.getSourceAsMap()).thenReturn(sourceMap);
+
+    var actual = writeSource(searchHit);
+    var sourceMapResult = writeSource(searchHit);
+
+    var expected = "{\"id\":\"" + RESOURCE_ID + "\",\"contributors\":[{\"name\":\"name\"}]}";
+    assertThat(actual).isEqualTo(expected);
+    assertThat(sourceMapResult).isEqualTo(expected);
+  }
+
+  private String writeSource(SearchHit hit) throws IOException {
+    var writer = new StringWriter();
+    try (var generator = OBJECT_MAPPER.createGenerator(writer)) {
+      elasticsearchDocumentConverter.writeSource(hit, generator);
+    }
+    return writer.toString();
+  }
+
+  private void mockSearchResponse(BytesArray source) {
+    when(searchResponse.getHits()).thenReturn(searchHits);
+    when(searchHits.getTotalHits()).thenReturn(new TotalHits(1, Relation.EQUAL_TO));
+    when(searchHits.getHits()).thenReturn(array(searchHit));
+    when(searchHit.getSourceRef()).thenReturn(source);
+  }
 }
@@ -17,6 +17,8 @@ import static org.folio.search.utils.TestUtils.resourceEvent;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
@@ -24,8 +26,11 @@ import static org.mockito.Mockito.when;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.Executor;
 import java.util.function.Supplier;
+import java.util.stream.IntStream;
 import lombok.SneakyThrows;
+import org.folio.search.configuration.properties.DocumentConversionProperties;
 import org.folio.search.domain.dto.ResourceEvent;
 import org.folio.search.domain.dto.ResourceEventType;
 import org.folio.search.model.index.SearchDocumentBody;
@@ -42,6 +47,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.opensearch.core.common.bytes.BytesArray;
 
@@ -65,6 +71,10 @@ class MultiTenantSearchDocumentConverterTest {
   private ResourceDescriptionService resourceDescriptionService;
   @Mock
   private FolioExecutionContext folioExecutionContext;
+  @Spy
+  private DocumentConversionProperties documentConversionProperties = new DocumentConversionProperties();
+  @Mock
+  private Executor documentConversionExecutor;
 
   @Test
   void convert_positive() {
@@ -114,6 +124,45 @@ class MultiTenantSearchDocumentConverterTest {
     verifyNoInteractions(executionService);
   }
 
+  @Test
+  void convert_positive_parallelConversion() {
+    documentConversionProperties.setParallelEnabled(true);
+    documentConversionProperties.setChunkSize(2);
+    var events = IntStream.range(0, 5)
+      .mapToObj(i -> resourceEvent(null, RESOURCE_NAME, mapOf("id", randomId())).tenant(TENANT_ID))
+      .toList();
+
+    when(folioExecutionContext.getTenantId()).thenReturn(TENANT_ID);
+    when(resourceDescriptionService.find(RESOURCE_NAME)).thenReturn(of(resourceDescription(RESOURCE_NAME)));
+    events.forEach(event -> when(searchDocumentConverter.convert(event)).thenReturn(of(searchDocument(event, INDEX))));
+    doAnswer(invocation -> {
+      invocation.<Runnable>getArgument(0).run();
+      return null;
+    }).when(documentConversionExecutor).execute(any());
+
+    var actual = multiTenantConverter.convert(events);
+
+    assertThat(actual).isEqualTo(Map.of(RESOURCE_NAME, events.stream()
+      .map(event -> searchDocument(event, INDEX))
+      .toList()));
+    verify(documentConversionExecutor, times(3)).execute(any());
+  }
+
+  @Test
+  void convert_positive_parallelConversionForSmallBatch() {
+    documentConversionProperties.setParallelEnabled(true);
+    var event = resourceEvent(RESOURCE_NAME, mapOf("id", RESOURCE_ID));
+
+    when(folioExecutionContext.getTenantId()).thenReturn(TENANT_ID);
+    when(resourceDescriptionService.find(RESOURCE_NAME)).thenReturn(of(resourceDescription(RESOURCE_NAME)));
+    when(searchDocumentConverter.convert(event)).thenReturn(of(searchDocument(event, INDEX)));
+
+    var actual = multiTenantConverter.convert(List.of(event));
+
+    assertThat(actual).isEqualTo(mapOf(RESOURCE_NAME, List.of(searchDocument(event, INDEX))));
+    verifyNoInteractions(documentConversionExecutor);
+  }
+
   @Test
   void convert_positive_singleEventThatIsNotConverted() {
     var event = resourceEvent(RESOURCE_NAME, mapOf("id", RESOURCE_ID));
@@ -0,0 +1,87 @@
+package org.folio.search.service.converter;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+import static org.folio.search.utils.TestConstants.RESOURCE_ID;
+import static org.folio.search.utils.TestConstants.TENANT_ID;
+import static org.folio.search.utils.TestUtils.keywordField;
+import static org.folio.search.utils.TestUtils.keywordFieldWithDefaultValue;
+import static org.folio.search.utils.TestUtils.mapOf;
+import static org.folio.search.utils.TestUtils.multilangField;
+import static org.folio.search.utils.TestUtils.objectField;
+import static org.folio.search.utils.TestUtils.plainField;
+import static org.folio.search.utils.TestUtils.standardField;
+import static org.folio.search.utils.TestUtils.standardFulltextField;
+
+import java.util.List;
+import org.folio.search.model.converter.ConversionContext;
+import org.folio.search.model.metadata.PlainFieldDescription;
+import org.folio.spring.testing.type.UnitTest;
+import org.junit.jupiter.api.Test;
+
+@UnitTest
+class ResourceConversionPlanTest {
+
+  private final ConversionContext context = ConversionContext.of(null, null, List.of("eng"), TENANT_ID);
+
+  @Test
+  void convert_positive_plainFields() {
+    var plan = ResourceConversionPlan.compile(mapOf(
+      "id", keywordField(),
+      "tenantId", tenantField(),
+      "title", standardFulltextField(),
+      "note", standardField(false),
+      "language", multilangField(),
+      "source", keywordFieldWithDefaultValue("FOLIO"),
+      "ignored", plainField("none"),
+      "missing", keywordField()));
+
+    var actual = plan.convert(mapOf("id", RESOURCE_ID, "title", "title", "note", "note", "language", "value",
+      "ignored", "ignored value"), context);
+
+    assertThat(actual).containsExactly(
+      entry("id", RESOURCE_ID),
+      entry("tenantId", TENANT_ID),
+      entry("title", "title"),
+      entry("plain_title", "title"),
+      entry("note", "note"),
+      entry("language", mapOf("eng", "value", "src", "value")),
+      entry("plain_language", "value"),
+      entry("source", "FOLIO"));
+  }
+
+  @Test
+  void convert_positive_objectFields() {
+    var plan = ResourceConversionPlan.compile(mapOf(
+      "metadata", objectField(mapOf("createdDate", keywordField())),
+      "items", objectField(mapOf("id", keywordField(),
+        "notes", objectField(mapOf("note", keywordField()))))));
+
+    var actual = plan.convert(mapOf(
+      "metadata", mapOf("createdDate", "2024-01-01", "updatedDate", "2024-01-02"),
+      "items", List.of(
+        mapOf("id", "item#1", "notes", List.of(mapOf("note", "n1"), "n2", emptyMap())),
+        mapOf("barcode", "123"),
+        "item#3")), context);
+
+    assertThat(actual).isEqualTo(mapOf(
+      "metadata", mapOf("createdDate", "2024-01-01"),
+      "items", List.of(mapOf("id", "item#1", "notes", List.of(mapOf("note", "n1"))))));
+  }
+
+  @Test
+  void convert_positive_emptyDocument() {
+    var plan = ResourceConversionPlan.compile(mapOf("id", keywordField(), "items", objectField(emptyMap())));
+    var actual = plan.convert(mapOf("items", emptyList(), "title", "value"), context);
+    assertThat(actual).isEqualTo(mapOf("items", emptyList()));
+    assertThat(plan.convert(emptyMap(), context)).isNull();
+  }
+
+  private static PlainFieldDescription tenantField() {
+    var field = keywordField();
+    field.setTenantField(true);
+    return field;
+  }
+}
@@ -4,6 +4,7 @@ import static java.util.Collections.emptyList;
 import static java.util.Collections.emptyMap;
 import static java.util.Collections.emptySet;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.folio.search.model.types.IndexActionType.DELETE;
 import static org.folio.search.model.types.IndexActionType.INDEX;
 import static org.folio.search.utils.JsonUtils.jsonArray;
@@ -44,6 +45,7 @@ import org.folio.search.model.types.IndexingDataFormat;
 import org.folio.search.service.consortium.LanguageConfigServiceDecorator;
 import org.folio.search.service.metadata.ResourceDescriptionService;
 import org.folio.search.utils.JsonConverter;
+import org.folio.search.utils.SearchDocumentBodyWriter;
 import org.folio.search.utils.SmileConverter;
 import org.folio.spring.testing.type.UnitTest;
 import org.junit.jupiter.api.Test;
@@ -227,6 +229,29 @@ class SearchDocumentConverterTest {
     assertThat(actual).isEqualTo(expectedSearchDocument(resourceEvent, expectedJson));
   }
 
+  @Test
+  void convert_positive_streamingDocumentWriting() {
+    var searchConfig = getSearchConfigurationProperties();
+    searchConfig.getIndexing().setStreamingDocumentWriting(true);
+    documentMapper = new SearchDocumentConverter(searchFieldsProcessor, languageConfigService, descriptionService,
+      searchConfig, new SearchDocumentBodyWriter(SMILE_MAPPER)::write);
+
+    var desc = resourceDescription(mapOf("id", keywordField(), "tenantId", keywordField(), "base", keywordField()));
+    var resourceEvent = resourceEvent(RESOURCE_NAME, mapOf("id", RESOURCE_ID, "tenantId", TENANT_ID,
+      "base", "base val"));
+    var expectedContext = ConversionContext.of(resourceEvent, desc, emptyList(), TENANT_ID);
+
+    when(descriptionService.get(RESOURCE_NAME)).thenReturn(desc);
+    when(searchFieldsProcessor.getSearchFields(expectedContext)).thenReturn(
+      mapOf("generated", "generated value", "base", "overridden val"));
+
+    var actual = documentMapper.convert(resourceEvent);
+
+    ObjectNode expectedJson = jsonObject(
+      "id", RESOURCE_ID, "tenantId", TENANT_ID, "base", "overridden val", "generated", "generated value");
+    assertThat(actual).isEqualTo(expectedSearchDocument(resourceEvent, expectedJson));
+  }
+
   @Test
   void convert_positive_useDefaultValueFromFieldDescription() {
     when(descriptionService.get(RESOURCE_NAME)).thenReturn(resourceDescription(mapOf(
@@ -306,6 +331,36 @@ class SearchDocumentConverterTest {
     assertThat(actual).isEqualTo(expectedSearchDocument(event, expectedJson));
   }
 
+  @Test
+  void convert_positive_conversionPlanRecompiledWhenDescriptionChanged() {
+    when(descriptionService.findAll()).thenReturn(List.of(resourceDescription(mapOf("id", keywordField()))));
+    documentMapper.init();
+
+    when(descriptionService.get(RESOURCE_NAME)).thenReturn(resourceDescription(
+      mapOf("id", keywordField(), "title", keywordField())));
+    var resourceEvent = resourceEvent(RESOURCE_NAME, mapOf("id", RESOURCE_ID, "title", "title"));
+
+    var actual = documentMapper.convert(resourceEvent);
+
+    assertThat(actual).isEqualTo(expectedSearchDocument(resourceEvent,
+      jsonObject("id", RESOURCE_ID, "title", "title")));
+  }
+
+  @Test
+  void convert_positive_objectListValuesAreUnmodifiable() {
+    var description = resourceDescription(mapOf("items", objectField(mapOf("id", keywordField()))));
+    var fields = description.getFields();
+    var conversionPlan = ResourceConversionPlan.compile(fields);
+    var ctx = ConversionContext.of(null, description, emptyList(), TENANT_ID);
+
+    var actual = conversionPlan.convert(mapOf("items", List.of(mapOf("id", "1"), mapOf("id", "2"))), ctx);
+
+    assertThat(actual).isEqualTo(mapOf("items", List.of(mapOf("id", "1"), mapOf("id", "2"))));
+    assertThat(conversionPlan.isCompiledFor(fields)).isTrue();
+    assertThatThrownBy(() -> ((List<?>) actual.get("items")).clear())
+      .isInstanceOf(UnsupportedOperationException.class);
+  }
+
   private static Map<String, FieldDescription> resourceDescriptionFields() {
     return mapOf(
       "id", keywordField(),
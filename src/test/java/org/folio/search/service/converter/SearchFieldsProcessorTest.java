@@ -16,6 +16,8 @@ import static org.folio.search.utils.TestUtils.resourceEvent;
 import static org.mockito.Mockito.when;
 import static org.springframework.boot.test.context.SpringBootTest.WebEnvironment.NONE;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.util.Map;
 import org.apache.commons.collections.MapUtils;
 import org.folio.search.domain.dto.Instance;
@@ -46,6 +48,8 @@ class SearchFieldsProcessorTest {
   private static final String FIELD = "generated";
   @Autowired
   private SearchFieldsProcessor searchFieldsProcessor;
+  @Autowired
+  private MeterRegistry meterRegistry;
   @MockBean
   private FeatureConfigServiceDecorator featureConfigService;
 
@@ -65,6 +69,20 @@ class SearchFieldsProcessorTest {
     assertThat(actual).isEqualTo(mapOf(FIELD, "instance_title"));
   }
 
+  @Test
+  void getSearchFields_positive_processorTimeIsRecorded() {
+    var desc = description(Instance.class, mapOf(FIELD, searchField("instanceTitleProcessor", "keyword")));
+    var ctx = ConversionContext.of(resourceEvent(), desc, emptyList(), TENANT_ID);
+
+    searchFieldsProcessor.getSearchFields(ctx);
+
+    var timer = meterRegistry.find("search.indexing.field.processor")
+      .tag("processor", "instanceTitleProcessor")
+      .timer();
+    assertThat(timer).isNotNull();
+    assertThat(timer.count()).isPositive();
+  }
+
   @Test
   void getSearchFields_positive_instanceWithMapFieldProcessor() {
     var searchFieldDescriptor = searchField("mapFieldProcessor", "keyword");
@@ -170,6 +188,11 @@ class SearchFieldsProcessorTest {
   @TestConfiguration
   static class TestContextConfiguration {
 
+    @Bean
+    MeterRegistry meterRegistry() {
+      return new SimpleMeterRegistry();
+    }
+
     @Bean
     JsonConverter jsonConverter() {
       return new JsonConverter(OBJECT_MAPPER);
@@ -25,6 +25,7 @@ import java.util.stream.Stream;
 import org.folio.search.cql.SearchFieldModifier;
 import org.folio.search.exception.ResourceDescriptionException;
 import org.folio.search.model.metadata.FieldDescription;
+import org.folio.search.model.metadata.FieldPathNode;
 import org.folio.search.model.metadata.PlainFieldDescription;
 import org.folio.search.model.metadata.PostProcessResourceDescriptionConverter;
 import org.folio.search.model.metadata.ResourceDescription;
@@ -186,6 +187,21 @@ class LocalSearchFieldProviderTest {
     assertThat(actual).isEqualTo(expected);
   }
 
+  @ParameterizedTest
+  @DisplayName("getFullTextFieldPaths_parameterized")
+  @CsvSource({"id,false", "title1,true", "title2,false", "title2.sub1,false", "title2.sub2,true",
+    "contributors.name,true", "unknown.name,false"})
+  void getFullTextFieldPaths_parameterized(String fieldName, boolean expected) {
+    var actual = getSearchFieldProvider().getFullTextFieldPaths(RESOURCE_NAME).getChild(fieldName).isMatched();
+    assertThat(actual).isEqualTo(expected);
+  }
+
+  @Test
+  void getFullTextFieldPaths_positive_nonExistingResource() {
+    var actual = getSearchFieldProvider().getFullTextFieldPaths("unknown-resource");
+    assertThat(actual).isSameAs(FieldPathNode.EMPTY);
+  }
+
   @Test
   void init_validateSearchAliases_failedToCreateAliasOnKeywordFacetField() {
     var plainField = plainField(List.of("alias"), FACET);
@@ -10,6 +10,7 @@ import static org.mockito.Mockito.when;
 import java.util.stream.Stream;
 import org.folio.search.domain.dto.ShelvingOrderAlgorithmType;
 import org.folio.search.model.index.ClassificationResource;
+import org.folio.search.utils.ShelfKeyCache;
 import org.folio.search.utils.ShelvingOrderCalculationHelper;
 import org.folio.spring.testing.type.UnitTest;
 import org.junit.jupiter.api.BeforeEach;
@@ -23,6 +24,7 @@ class ClassificationShelvingOrderFieldProcessorTest {
 
   private static final String INPUT = "TestNum";
   private static final String OUTPUT = "ResultNum";
+  private static final ShelfKeyCache SHELF_KEY_CACHE = mock(ShelfKeyCache.class);
   private ClassificationResource eventBody;
 
   @BeforeEach
@@ -37,6 +39,8 @@ class ClassificationShelvingOrderFieldProcessorTest {
                                                             ShelvingOrderAlgorithmType algorithmType) {
     try (var helper = Mockito.mockStatic(ShelvingOrderCalculationHelper.class)) {
       helper.when(() -> ShelvingOrderCalculationHelper.calculate(INPUT, algorithmType)).thenReturn(OUTPUT);
+      helper.when(() -> ShelvingOrderCalculationHelper.calculate(INPUT, algorithmType, SHELF_KEY_CACHE))
+        .thenReturn(OUTPUT);
 
       var fieldValue = processor.getFieldValue(eventBody);
       assertThat(fieldValue).isEqualTo(OUTPUT);
@@ -46,8 +50,8 @@ class ClassificationShelvingOrderFieldProcessorTest {
   public static Stream<Arguments> testData() {
     return Stream.of(
       Arguments.arguments(new DefaultClassificationShelvingOrderFieldProcessor(), DEFAULT),
-      Arguments.arguments(new DeweyClassificationShelvingOrderFieldProcessor(), DEWEY),
-      Arguments.arguments(new LcClassificationShelvingOrderFieldProcessor(), LC)
+      Arguments.arguments(new DeweyClassificationShelvingOrderFieldProcessor(SHELF_KEY_CACHE), DEWEY),
+      Arguments.arguments(new LcClassificationShelvingOrderFieldProcessor(SHELF_KEY_CACHE), LC)
     );
   }
 
@@ -6,16 +6,14 @@ import static org.folio.search.utils.SearchUtils.INSTANCE_RESOURCE;
 import static org.folio.search.utils.TestUtils.mapOf;
 import static org.folio.search.utils.TestUtils.randomId;
 import static org.folio.search.utils.TestUtils.toMap;
-import static org.mockito.ArgumentMatchers.anyString;
-import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 
 import java.util.List;
-import java.util.Set;
 import org.folio.search.domain.dto.Holding;
 import org.folio.search.domain.dto.Instance;
 import org.folio.search.domain.dto.Note;
 import org.folio.search.domain.dto.Tags;
+import org.folio.search.model.metadata.FieldPathNode;
 import org.folio.search.model.service.MultilangValue;
 import org.folio.search.service.metadata.SearchFieldProvider;
 import org.folio.spring.testing.type.UnitTest;
@@ -32,7 +30,8 @@ class HoldingAllFieldValuesProcessorTest {
 
   private static final String HOLDING_ID_1 = randomId();
   private static final String HOLDING_ID_2 = randomId();
-  private static final Set<String> MULTILANG_VALUE_PATHS = Set.of("holdings.notes.note", "holdings.tags.tagList");
+  private static final FieldPathNode FULL_TEXT_FIELD_PATHS =
+    FieldPathNode.of(List.of("holdings.notes.note", "holdings.tags.tagList", "holdingsPublicNotes"));
 
   @InjectMocks
   private HoldingAllFieldValuesProcessor processor;
@@ -42,13 +41,11 @@ class HoldingAllFieldValuesProcessorTest {
   @BeforeEach
   void setUp() {
     processor.setSearchFieldProvider(searchFieldProvider);
+    when(searchFieldProvider.getFullTextFieldPaths(INSTANCE_RESOURCE)).thenReturn(FULL_TEXT_FIELD_PATHS);
   }
 
   @Test
   void getFieldValue_positive() {
-    when(searchFieldProvider.isFullTextField(eq(INSTANCE_RESOURCE), anyString())).thenAnswer(inv ->
-      MULTILANG_VALUE_PATHS.contains(inv.<String>getArgument(1)));
-
     var actual = processor.getFieldValue(toMap(
       new Instance().id(randomId()).holdings(List.of(holding1(), holding2()))));
 
@@ -59,9 +56,6 @@ class HoldingAllFieldValuesProcessorTest {
 
   @Test
   void getFieldValue_holdingFieldsFromSearchGeneratedValues() {
-    when(searchFieldProvider.isFullTextField(INSTANCE_RESOURCE, "holdingsPublicNotes")).thenReturn(true);
-    when(searchFieldProvider.isFullTextField(INSTANCE_RESOURCE, "holdingsFullCallNumbers")).thenReturn(false);
-
     var actual = processor.getFieldValue(mapOf(
       "holdingsPublicNotes", List.of("note1", "note2"),
       "holdingsFullCallNumbers", List.of("callNumber1", "callNumber2")));
@@ -1,8 +1,10 @@
 package org.folio.search.service.setter.instance;
 
 import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
 import static java.util.Collections.emptySet;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
 import static org.folio.search.client.InventoryReferenceDataClient.ReferenceDataType.IDENTIFIER_TYPES;
 import static org.folio.search.utils.TestConstants.INVALID_ISBN_IDENTIFIER_TYPE_ID;
 import static org.folio.search.utils.TestConstants.ISBN_IDENTIFIER_TYPE_ID;
@@ -12,7 +14,9 @@ import static org.folio.search.utils.TestUtils.setOf;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
 import static org.mockito.Mockito.when;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Stream;
 import org.apache.commons.collections.CollectionUtils;
@@ -20,6 +24,7 @@ import org.folio.search.domain.dto.Identifier;
 import org.folio.search.domain.dto.Instance;
 import org.folio.search.integration.ReferenceDataService;
 import org.folio.search.model.client.CqlQueryParam;
+import org.folio.search.model.converter.FieldProcessorContext;
 import org.folio.spring.testing.type.UnitTest;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -53,6 +58,21 @@ class IsbnProcessorTest {
     assertThat(actual).containsExactlyElementsOf(expected);
   }
 
+  @Test
+  void getFieldValue_positive_identifiersGroupedOncePerResource() {
+    mockFetchReferenceData(setOf(ISBN_IDENTIFIER_TYPE_ID, INVALID_ISBN_IDENTIFIER_TYPE_ID));
+    var instance = instanceWithIdentifiers(isbn("047144250X"), identifier("issn", "0747-0088"),
+      invalidIsbn("1 86197 2717"));
+    var ctx = FieldProcessorContext.of(emptyMap(), instance);
+
+    var actual = isbnProcessor.getFieldValue(instance, ctx);
+
+    assertThat(actual).containsExactly("047144250x", "1861972717");
+    Map<String, List<String>> identifiersByType = ctx.getView("identifiersByType", Collections::emptyMap);
+    assertThat(identifiersByType).containsExactly(entry(ISBN_IDENTIFIER_TYPE_ID, List.of("047144250X")),
+      entry("issn", List.of("0747-0088")), entry(INVALID_ISBN_IDENTIFIER_TYPE_ID, List.of("1 86197 2717")));
+  }
+
   @Test
   void getFieldValue_negative_failedToLoadReferenceData() {
     mockFetchReferenceData(emptySet());
@@ -1,11 +1,14 @@
 package org.folio.search.service.setter.item;
 
+import static java.util.Collections.emptyMap;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.util.List;
 import org.folio.search.domain.dto.Instance;
 import org.folio.search.domain.dto.Item;
 import org.folio.search.domain.dto.ItemEffectiveCallNumberComponents;
+import org.folio.search.model.converter.CallNumberView;
+import org.folio.search.model.converter.FieldProcessorContext;
 import org.folio.spring.testing.type.UnitTest;
 import org.junit.jupiter.api.Test;
 
@@ -34,6 +37,20 @@ class ItemNormalizedCallNumbersProcessorTest {
       .containsExactlyInAnyOrder("cn1suffix1", "prefix2cn2", "cn2", "cn3");
   }
 
+  @Test
+  void getFieldValue_positive_callNumbersComputedOncePerResource() {
+    var instance = new Instance().items(List.of(itemWithCallNumber("prefix", "cn", "suffix"), new Item()));
+    var ctx = FieldProcessorContext.of(emptyMap(), instance);
+    var callNumbers = ctx.getItemCallNumbers();
+
+    var actual = processor.getFieldValue(instance, ctx);
+
+    assertThat(actual).containsExactlyInAnyOrder("prefixcnsuffix", "cnsuffix");
+    assertThat(ctx.getItemCallNumbers()).isSameAs(callNumbers).containsExactly(
+      new CallNumberView(null, null, null, "prefix cn suffix", List.of("prefixcnsuffix", "cnsuffix")),
+      new CallNumberView(null, null, null, null, List.of()));
+  }
+
   @Test
   void shouldReturnEmptySetWhenNoItems() {
     assertThat(processor.getFieldValue(new Instance())).isEmpty();
@@ -59,7 +59,10 @@ class CallNumberUtilsTest {
     "aaa,AAA",
     "abc,ABC",
     "ab\\as,AB\\AS",
-    "ab№as,AB AS"
+    "ab№as,AB AS",
+    "'  hd 11$ ',HD 11",
+    "'$$',''",
+    "straße,STRASSE"
   })
   @ParameterizedTest
   void normalizeEffectiveShelvingOrder_positive(String given, String expected) {
@@ -67,6 +70,31 @@ class CallNumberUtilsTest {
     assertThat(actual).isEqualTo(expected);
   }
 
+  @Test
+  void normalizeEffectiveShelvingOrder_positive_alreadyNormalized() {
+    var given = "HD 41691 I5 41967";
+    var actual = CallNumberUtils.normalizeEffectiveShelvingOrder(given);
+    assertThat(actual).isSameAs(given);
+  }
+
+  @CsvSource({
+    "HD 11,'  hd 11$ '",
+    "HD 11,№HD 11",
+    "A,a",
+    "'',' $ '"
+  })
+  @ParameterizedTest
+  void getCallNumberAsLong_positive_normalizedValue(String normalized, String given) {
+    var actual = CallNumberUtils.getCallNumberAsLong(given);
+    assertThat(actual).isEqualTo(CallNumberUtils.getCallNumberAsLong(normalized));
+  }
+
+  @Test
+  void getCallNumberAsLong_positive_firstCharacters() {
+    var actual = CallNumberUtils.getCallNumberAsLong("AB");
+    assertThat(actual).isEqualTo(23 * (long) Math.pow(52, 10) + 24 * (long) Math.pow(52, 9));
+  }
+
   @Test
   void normalizeEffectiveShelvingOrder_positive_forNull() {
     var actual = CallNumberUtils.normalizeEffectiveShelvingOrder(null);
@@ -116,6 +144,12 @@ class CallNumberUtilsTest {
     assertThat(actual).isEqualTo("94nf14137923835");
   }
 
+  @Test
+  void getNormalizedCallNumber_positive_nonAsciiCharacters() {
+    var actual = CallNumberUtils.normalizeCallNumberComponents("Ä1", "B 2", null);
+    assertThat(actual).isEqualTo("1b2");
+  }
+
   @Test
   void getNormalizedCallNumber_with_suffix_prefix_positive() {
     var actual = CallNumberUtils.normalizeCallNumberComponents("prefix", "94 NF 14/1:3792-3835", "suffix");
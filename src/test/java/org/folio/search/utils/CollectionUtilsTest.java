@@ -8,9 +8,12 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.folio.search.utils.CollectionUtils.addToList;
 import static org.folio.search.utils.CollectionUtils.allMatch;
 import static org.folio.search.utils.CollectionUtils.anyMatch;
+import static org.folio.search.utils.CollectionUtils.filterByKey;
+import static org.folio.search.utils.CollectionUtils.mergeByMappedKey;
 import static org.folio.search.utils.CollectionUtils.mergeSafely;
 import static org.folio.search.utils.CollectionUtils.mergeSafelyToList;
 import static org.folio.search.utils.CollectionUtils.mergeSafelyToSet;
+import static org.folio.search.utils.CollectionUtils.mergedView;
 import static org.folio.search.utils.CollectionUtils.nullIfEmpty;
 import static org.folio.search.utils.CollectionUtils.toLinkedHashMap;
 import static org.folio.search.utils.TestUtils.mapOf;
@@ -226,6 +229,25 @@ class CollectionUtilsTest {
     assertThat(mergeSafely(null, null)).isNull();
   }
 
+  @Test
+  void mergedView_positive() {
+    var first = mapOf("id", "1", "title", "base", "tenantId", "t1");
+    var second = mapOf("sort_title", "sort", "title", null, "tenantId", "t2");
+
+    var actual = mergedView(first, second);
+
+    assertThat(actual).containsExactlyEntriesOf(mergeSafely(first, second)).hasSize(4);
+    assertThat(new ArrayList<>(actual.keySet())).containsExactly("id", "title", "tenantId", "sort_title");
+    assertThat(actual.get("tenantId")).isEqualTo("t2");
+    assertThat(actual).containsEntry("title", null);
+  }
+
+  @Test
+  void mergedView_positive_emptyMaps() {
+    assertThat(mergedView(null, emptyMap())).isNull();
+    assertThat(mergedView(null, Map.of("key", "value"))).isEqualTo(Map.of("key", "value"));
+  }
+
   @Test
   void addToList_positive_addToTheEnd() {
     var initial = new ArrayList<>(List.of(1, 2));
@@ -342,4 +364,36 @@ class CollectionUtilsTest {
     var actual = CollectionUtils.subtractSorted(c1, c2);
     assertThat(actual).isEqualTo(expected);
   }
+
+  @Test
+  void mergeByMappedKey_positive() {
+    var keyMapperCalls = new ArrayList<String>();
+    Function<String, String> keyMapper = key -> {
+      keyMapperCalls.add(key);
+      return key.substring(0, 1);
+    };
+
+    var actual = mergeByMappedKey(keyMapper,
+      mapOf("a1", List.of(1), "b1", List.of(2)), null, mapOf("a2", List.of(3, 4)));
+
+    assertThat(actual).isEqualTo(mapOf("a", List.of(1, 3, 4), "b", List.of(2)));
+    assertThat(keyMapperCalls).containsExactlyInAnyOrder("a1", "b1", "a2");
+  }
+
+  @Test
+  void filterByKey_positive() {
+    var testedValues = new ArrayList<String>();
+    var rejectedValues = new ArrayList<String>();
+    Predicate<String> predicate = value -> {
+      testedValues.add(value);
+      return value.startsWith("a");
+    };
+
+    var actual = filterByKey(List.of("a1", "b1", "a2", "b2", "c1"),
+      value -> value.substring(0, 1), predicate, rejectedValues::add);
+
+    assertThat(actual).containsExactly("a1", "a2");
+    assertThat(rejectedValues).containsExactly("b1", "b2", "c1");
+    assertThat(testedValues).containsExactly("a1", "b1", "c1");
+  }
 }
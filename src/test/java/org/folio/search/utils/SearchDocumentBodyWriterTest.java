@@ -0,0 +1,51 @@
+package org.folio.search.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.folio.search.utils.TestUtils.OBJECT_MAPPER;
+import static org.folio.search.utils.TestUtils.SMILE_MAPPER;
+import static org.folio.search.utils.TestUtils.mapOf;
+
+import java.util.List;
+import java.util.Map;
+import org.apache.commons.lang3.SerializationException;
+import org.folio.search.utils.TestUtils.NonSerializableByJacksonClass;
+import org.folio.spring.testing.type.UnitTest;
+import org.junit.jupiter.api.Test;
+
+@UnitTest
+class SearchDocumentBodyWriterTest {
+
+  private static final Map<String, Object> DOCUMENT = mapOf("id", "1", "title", "Café",
+    "items", List.of(mapOf("id", "item#1", "notes", List.of("n1", "n2"))), "count", 2);
+
+  @Test
+  void write_positive_smile() {
+    var writer = new SearchDocumentBodyWriter(SMILE_MAPPER);
+
+    var actual = writer.write(DOCUMENT);
+
+    assertThat(actual).isEqualTo(new SmileConverter().toSmile(DOCUMENT));
+    assertThat(writer.write(Map.of("id", "2"))).isEqualTo(new SmileConverter().toSmile(Map.of("id", "2")));
+  }
+
+  @Test
+  void write_positive_json() {
+    var actual = new SearchDocumentBodyWriter(OBJECT_MAPPER).write(DOCUMENT);
+    assertThat(actual).isEqualTo(new JsonConverter(OBJECT_MAPPER).toJsonBytes(DOCUMENT));
+  }
+
+  @Test
+  void write_positive_nullValue() {
+    assertThat(new SearchDocumentBodyWriter(SMILE_MAPPER).write(null)).isNull();
+  }
+
+  @Test
+  void write_negative_throwsException() {
+    var writer = new SearchDocumentBodyWriter(SMILE_MAPPER);
+    var document = Map.<String, Object>of("value", new NonSerializableByJacksonClass());
+    assertThatThrownBy(() -> writer.write(document))
+      .isInstanceOf(SerializationException.class)
+      .hasMessageContaining("Failed to serialize value");
+  }
+}
@@ -0,0 +1,60 @@
+package org.folio.search.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.folio.search.utils.TestUtils.randomId;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import org.folio.search.configuration.properties.SearchCacheConfigurationProperties;
+import org.folio.spring.testing.type.UnitTest;
+import org.junit.jupiter.api.Test;
+
+@UnitTest
+class ShelfKeyCacheTest {
+
+  private final ShelfKeyCache shelfKeyCache = new ShelfKeyCache(new SearchCacheConfigurationProperties());
+
+  @Test
+  void getShelfKey_positive_calculatedOnce() {
+    var callNumber = "HD1691 .I5 " + randomId();
+    var calculations = new AtomicInteger();
+
+    var first = shelfKeyCache.getShelfKey("test", callNumber, cn -> cn + calculations.incrementAndGet());
+    var second = shelfKeyCache.getShelfKey("test", callNumber, cn -> cn + calculations.incrementAndGet());
+
+    assertThat(first).isEqualTo(callNumber + 1).isEqualTo(second);
+    assertThat(calculations).hasValue(1);
+  }
+
+  @Test
+  void getShelfKey_positive_keyedByAlgorithm() {
+    var callNumber = "302.55 " + randomId();
+
+    var lcShelfKey = shelfKeyCache.getShelfKey("lc-test", callNumber, cn -> "lc");
+    var deweyShelfKey = shelfKeyCache.getShelfKey("dewey-test", callNumber, cn -> "dewey");
+
+    assertThat(lcShelfKey).isEqualTo("lc");
+    assertThat(deweyShelfKey).isEqualTo("dewey");
+  }
+
+  @Test
+  void getCache_positive_statsRecorded() {
+    var callNumber = "A 11 " + randomId();
+
+    shelfKeyCache.getShelfKey("test", callNumber, cn -> cn);
+    shelfKeyCache.getShelfKey("test", callNumber, cn -> cn);
+
+    assertThat(shelfKeyCache.getCache().stats().hitCount()).isEqualTo(1);
+    assertThat(shelfKeyCache.getCache().stats().missCount()).isEqualTo(1);
+  }
+
+  @Test
+  void getCache_positive_cacheSpecApplied() {
+    var cacheConfiguration = new SearchCacheConfigurationProperties();
+    cacheConfiguration.setShelfKeyCacheSpec("maximumSize=5");
+
+    var cache = new ShelfKeyCache(cacheConfiguration).getCache();
+
+    assertThat(cache.policy().eviction())
+      .hasValueSatisfying(eviction -> assertThat(eviction.getMaximum()).isEqualTo(5));
+  }
+}
@@ -4,6 +4,7 @@ import static org.folio.search.utils.ShelvingOrderCalculationHelper.calculate;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import org.folio.search.configuration.properties.SearchCacheConfigurationProperties;
 import org.folio.search.domain.dto.ShelvingOrderAlgorithmType;
 import org.folio.spring.testing.type.UnitTest;
 import org.junit.jupiter.api.Test;
@@ -31,6 +32,20 @@ class ShelvingOrderCalculationHelperTest {
     assertEquals(expectedShelfKey, result);
   }
 
+  @Test
+  void shouldCalculateLcNumberUsingShelfKeyCache() {
+    var shelfKeyCache = new ShelfKeyCache(new SearchCacheConfigurationProperties());
+    String input = "HD1691 .I5 1967";
+    String expectedShelfKey = "HD 41691 I5 41967";
+
+    String result = calculate(input, ShelvingOrderAlgorithmType.LC, shelfKeyCache);
+    String cachedResult = calculate(input, ShelvingOrderAlgorithmType.LC, shelfKeyCache);
+
+    assertEquals(expectedShelfKey, result);
+    assertEquals(expectedShelfKey, cachedResult);
+    assertEquals(1, shelfKeyCache.getCache().stats().hitCount());
+  }
+
   @Test
   void shouldCalculateDefaultNumber() {
     String input = "hd1691 ^I5 1967";
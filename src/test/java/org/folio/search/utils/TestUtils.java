@@ -164,6 +164,17 @@ public class TestUtils {
       .getContentAsString(), type);
   }
 
+  /**
+   * Parses response body as json tree with empty array fields removed, so response bodies written without empty
+   * arrays can be compared with response bodies of the response model.
+   */
+  @SneakyThrows
+  public static JsonNode parseResponseTree(ResultActions result) {
+    var tree = OBJECT_MAPPER.readTree(result.andReturn().getResponse().getContentAsString());
+    removeEmptyArrays(tree);
+    return tree;
+  }
+
   public static CqlSearchRequest<Instance> searchServiceRequest(String query) {
     return searchServiceRequest(Instance.class, query);
   }
@@ -653,6 +664,13 @@ public class TestUtils {
     return stub;
   }
 
+  private static void removeEmptyArrays(JsonNode node) {
+    if (node instanceof ObjectNode objectNode) {
+      objectNode.properties().removeIf(field -> field.getValue().isArray() && field.getValue().isEmpty());
+    }
+    node.forEach(TestUtils::removeEmptyArrays);
+  }
+
   private static JsonNode searchResponseWithAggregation(JsonNode aggregationValue) {
     return jsonObject(
       "took", 0,